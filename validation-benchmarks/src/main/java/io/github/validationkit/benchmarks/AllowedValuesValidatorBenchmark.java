@@ -0,0 +1,170 @@
+package io.github.validationkit.benchmarks;
+
+import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.validators.AllowedValuesBufferValidator;
+import io.github.validationkit.validators.AllowedValuesValidator;
+import jakarta.validation.Payload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AllowedValuesValidatorBenchmark {
+
+    /**
+     * Number of configured allowed values.
+     */
+    @Param({ "3", "1000" })
+    private int allowed;
+
+    /**
+     * Number of elements in the validated collection and arrays.
+     */
+    @Param({ "1", "1000" })
+    private int elements;
+
+    @Param({ "true", "false" })
+    private boolean caseSensitive;
+
+    private AllowedValuesValidator validator;
+    private AllowedValuesBufferValidator bufferValidator;
+    private String single;
+    private byte[] singleBytes;
+    private ByteBuffer singleBuffer;
+    private List<String> tags;
+    private String[] tagArray;
+    private int[] codes;
+
+    @Setup
+    public void setUp() {
+        String[] values = new String[allowed];
+        for (int i = 0; i < allowed; i++) {
+            values[i] = Integer.toString(100 + i);
+        }
+        validator = new AllowedValuesValidator();
+        validator.initialize(new AllowedValuesLiteral(values, caseSensitive));
+        bufferValidator = new AllowedValuesBufferValidator();
+        bufferValidator.initialize(new AllowedValuesLiteral(values, caseSensitive));
+
+        Random random = new Random(42);
+        tags = new ArrayList<>(elements);
+        codes = new int[elements];
+        for (int i = 0; i < elements; i++) {
+            int code = 100 + random.nextInt(allowed);
+            codes[i] = code;
+            tags.add(Integer.toString(code));
+        }
+        tagArray = tags.toArray(new String[0]);
+        single = tags.get(0);
+        singleBytes = single.getBytes(StandardCharsets.UTF_8);
+        singleBuffer = ByteBuffer.wrap(singleBytes);
+    }
+
+    @Benchmark
+    public boolean singleValue() {
+        return validator.isValid(single, NoOpContext.INSTANCE);
+    }
+
+    /**
+     * A value still in request bytes, decoded to a {@code String} first.
+     */
+    @Benchmark
+    public boolean singleValueDecoded() {
+        return validator.isValid(new String(singleBytes, StandardCharsets.UTF_8), NoOpContext.INSTANCE);
+    }
+
+    /**
+     * The same bytes matched as UTF-8 without decoding.
+     */
+    @Benchmark
+    public boolean singleValueUtf8() {
+        return bufferValidator.isValid(singleBuffer, NoOpContext.INSTANCE);
+    }
+
+    @Benchmark
+    public boolean collection() {
+        return validator.isValid(tags, NoOpContext.INSTANCE);
+    }
+
+    @Benchmark
+    public boolean objectArray() {
+        return validator.isValid(tagArray, NoOpContext.INSTANCE);
+    }
+
+    @Benchmark
+    public boolean intArray() {
+        return validator.isValid(codes, NoOpContext.INSTANCE);
+    }
+
+    @SuppressWarnings("all")
+    private static final class AllowedValuesLiteral implements AllowedValues {
+        private final String[] value;
+        private final boolean caseSensitive;
+
+        AllowedValuesLiteral(String[] value, boolean caseSensitive) {
+            this.value = value;
+            this.caseSensitive = caseSensitive;
+        }
+
+        @Override
+        public String[] value() {
+            return value;
+        }
+
+        @Override
+        public boolean caseSensitive() {
+            return caseSensitive;
+        }
+
+        @Override
+        public String source() {
+            return "";
+        }
+
+        @Override
+        public boolean acceptNull() {
+            return true;
+        }
+
+        @Override
+        public String message() {
+            return "";
+        }
+
+        @Override
+        public Class<?>[] groups() {
+            return new Class[0];
+        }
+
+        @Override
+        public Class<? extends Payload>[] payload() {
+            return new Class[0];
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return AllowedValues.class;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.validationkit.benchmarks;
+
+import io.github.validationkit.validators.Base64Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Base64ValidatorBenchmark {
+
+    /**
+     * Size of the decoded payload in bytes.
+     */
+    @Param({ "64", "65536", "4194304" })
+    private int size;
+
+    private Base64Validator validator;
+    private String valid;
+    private String invalidAtEnd;
+
+    @Setup
+    public void setUp() {
+        validator = new Base64Validator();
+        validator.initialize(Constraints.base64());
+
+        byte[] payload = new byte[size];
+        new Random(42).nextBytes(payload);
+        valid = java.util.Base64.getEncoder().encodeToString(payload);
+        invalidAtEnd = valid.substring(0, valid.length() - 4) + "!!!!";
+    }
+
+    @Benchmark
+    public boolean validPayload() {
+        return validator.isValid(valid, NoOpContext.INSTANCE);
+    }
+
+    @Benchmark
+    public boolean invalidPayload() {
+        return validator.isValid(invalidAtEnd, NoOpContext.INSTANCE);
+    }
+}
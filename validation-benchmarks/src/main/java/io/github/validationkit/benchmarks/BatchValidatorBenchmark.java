@@ -0,0 +1,96 @@
+package io.github.validationkit.benchmarks;
+
+import io.github.validationkit.batch.BatchValidationResult;
+import io.github.validationkit.batch.BatchValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bulk import of {@link UserRequest} rows, validated one bean at a time
+ * versus through {@link BatchValidator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchValidatorBenchmark {
+
+    @Param({ "100000" })
+    private int rows;
+
+    /**
+     * Every n-th row is invalid.
+     */
+    @Param({ "1000" })
+    private int invalidEvery;
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private BatchValidator batchValidator;
+    private List<UserRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        batchValidator = new BatchValidator(validator);
+
+        requests = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            requests.add(i % invalidEvery == invalidEvery - 1
+                    ? new UserRequest("user" + i, "super-admin", null, "pic.exe", List.of("developer"),
+                            new String[] { "java" })
+                    : new UserRequest("user" + i, "admin", null, "pic.png", List.of("developer"),
+                            new String[] { "java" }));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public int sequential() {
+        int invalid = 0;
+        for (UserRequest request : requests) {
+            Set<ConstraintViolation<UserRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    public BatchValidationResult<UserRequest> batch() {
+        return batchValidator.validate(requests);
+    }
+
+    @Benchmark
+    public BatchValidationResult<UserRequest> batchFailFast() {
+        return batchValidator.validate(requests, 10);
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.validationkit.benchmarks;
+
+import io.github.validationkit.plan.CompiledValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link Validator#validate} of a {@link UserRequest}, i.e. what a
+ * {@code @Valid @RequestBody} costs once Jackson has bound the body, with
+ * Hibernate Validator alone and through a {@link CompiledValidator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanValidationBenchmark {
+
+    /**
+     * Decoded size of the avatar in bytes.
+     */
+    @Param({ "0", "65536", "1048576" })
+    private int avatarSize;
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private CompiledValidator compiled;
+    private UserRequest valid;
+    private UserRequest invalid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        compiled = new CompiledValidator(factory);
+
+        String avatar = null;
+        if (avatarSize > 0) {
+            byte[] payload = new byte[avatarSize];
+            new Random(42).nextBytes(payload);
+            avatar = java.util.Base64.getEncoder().encodeToString(payload);
+        }
+        valid = new UserRequest("coder123", "admin", avatar, "pic.png", List.of("developer", "tester"),
+                new String[] { "java", "spring" });
+        invalid = new UserRequest("", "super-admin", avatar == null ? "not base64!" : avatar + "!",
+                "pic.exe", List.of("hacker"), new String[] { "cobol" });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        compiled.close();
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserRequest>> validRequest() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserRequest>> invalidRequest() {
+        return validator.validate(invalid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserRequest>> compiledValidRequest() {
+        return compiled.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserRequest>> compiledInvalidRequest() {
+        return compiled.validate(invalid);
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.validationkit.benchmarks;
+
+import io.github.validationkit.util.BloomFilter;
+import io.github.validationkit.util.BreachedPasswords;
+import io.github.validationkit.validators.StrongPasswordValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups in a memory-mapped filter of a million breached passwords, alone and
+ * as part of {@code @StrongPassword(minEntropy = 50, checkBreached = true)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BreachedPasswordBenchmark {
+
+    private static final int ENTRIES = 1_000_000;
+
+    private Path file;
+    private BloomFilter filter;
+    private StrongPasswordValidator validator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("breached", ".bf");
+        try (BloomFilter writer = BloomFilter.create(file, ENTRIES, 0.001)) {
+            for (int i = 0; i < ENTRIES; i++) {
+                writer.put("Breached" + i + "!");
+            }
+        }
+        filter = BloomFilter.open(file);
+        BreachedPasswords.install(filter);
+
+        validator = new StrongPasswordValidator();
+        validator.initialize(Constraints.checkedPassword());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BreachedPasswords.install(null);
+        filter.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public boolean breachedLookup() {
+        return filter.mightContain("Breached4242!");
+    }
+
+    @Benchmark
+    public boolean freshLookup() {
+        return filter.mightContain("Correct-Horse-42");
+    }
+
+    @Benchmark
+    public boolean validateFreshPassword() {
+        return validator.isValid("Correct-Horse-42", NoOpContext.INSTANCE);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.validationkit.benchmarks;
+
+import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.constraints.Base64;
+import io.github.validationkit.constraints.FileExtension;
+import io.github.validationkit.constraints.StrongPassword;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Annotation instances used to initialize validators directly, outside of a
+ * Bean Validation provider.
+ */
+final class Constraints {
+
+    @StrongPassword
+    private String password;
+
+    @StrongPassword(minEntropy = 50, checkBreached = true)
+    private String checkedPassword;
+
+    @Base64
+    private String base64;
+
+    @FileExtension({ "jpg", "jpeg", "png", "gif", "pdf", "tar.gz" })
+    private String filename;
+
+    @AllowedValues(value = { "admin", "user", "guest" }, caseSensitive = false)
+    private String role;
+
+    private Constraints() {
+    }
+
+    static StrongPassword strongPassword() {
+        return annotation("password", StrongPassword.class);
+    }
+
+    static StrongPassword checkedPassword() {
+        return annotation("checkedPassword", StrongPassword.class);
+    }
+
+    static Base64 base64() {
+        return annotation("base64", Base64.class);
+    }
+
+    static FileExtension fileExtension() {
+        return annotation("filename", FileExtension.class);
+    }
+
+    static AllowedValues role() {
+        return annotation("role", AllowedValues.class);
+    }
+
+    static <A extends Annotation> A annotation(String field, Class<A> type) {
+        try {
+            return Constraints.class.getDeclaredField(field).getAnnotation(type);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.validationkit.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.validationkit.starter.configuration.ValidationProperties;
+import io.github.validationkit.starter.exception.GlobalValidationExceptionHandler;
+import io.github.validationkit.starter.exception.ValidationErrorResponse;
+import io.github.validationkit.starter.jackson.ValidationErrorModule;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a failed validation into the error response body, the hot
+ * path when most traffic is invalid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+
+    @Param({ "true", "false" })
+    private boolean includeAllowedValues;
+
+    private ValidatorFactory factory;
+    private GlobalValidationExceptionHandler handler;
+    private ConstraintViolationException exception;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+
+        UserRequest invalid = new UserRequest("", "super-admin", "not base64!", "pic.exe", List.of("hacker"),
+                new String[] { "cobol" });
+        exception = new ConstraintViolationException(factory.getValidator().validate(invalid));
+
+        ValidationProperties properties = new ValidationProperties();
+        properties.setIncludeAllowedValues(includeAllowedValues);
+        handler = new GlobalValidationExceptionHandler(properties);
+        objectMapper = new ObjectMapper().registerModule(new ValidationErrorModule());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<ValidationErrorResponse> handleConstraintViolation() {
+        return handler.handleConstraintViolation(exception);
+    }
+
+    /**
+     * Handling plus writing the JSON body, as the message converter would.
+     */
+    @Benchmark
+    public byte[] handleAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleConstraintViolation(exception).getBody());
+    }
+}
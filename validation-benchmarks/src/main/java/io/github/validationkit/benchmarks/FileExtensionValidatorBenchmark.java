@@ -0,0 +1,45 @@
+package io.github.validationkit.benchmarks;
+
+import io.github.validationkit.validators.FileExtensionValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FileExtensionValidatorBenchmark {
+
+    @Param({
+            "photo.jpg",
+            "IMG_2024_0001.JPEG",
+            "bucket/2024/10/18/customer-42/exports/archive.tar.gz",
+            "bucket/2024/10/18/customer-42/exports/report.exe" })
+    private String filename;
+
+    private FileExtensionValidator validator;
+
+    @Setup
+    public void setUp() {
+        validator = new FileExtensionValidator();
+        validator.initialize(Constraints.fileExtension());
+    }
+
+    @Benchmark
+    public boolean filename() {
+        return validator.isValid(filename, NoOpContext.INSTANCE);
+    }
+}
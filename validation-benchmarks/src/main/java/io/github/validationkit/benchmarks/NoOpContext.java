@@ -0,0 +1,114 @@
+package io.github.validationkit.benchmarks;
+
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ValidationException;
+
+import java.time.Clock;
+
+/**
+ * Context for calling validators directly. Custom violations are accepted and
+ * discarded, whatever nodes they add; building them is the only cost that
+ * remains on the failure path.
+ */
+final class NoOpContext implements ConstraintValidatorContext {
+
+    static final NoOpContext INSTANCE = new NoOpContext();
+
+    private final NoOpBuilder builder = new NoOpBuilder();
+
+    private NoOpContext() {
+    }
+
+    @Override
+    public void disableDefaultConstraintViolation() {
+    }
+
+    @Override
+    public String getDefaultConstraintMessageTemplate() {
+        return "";
+    }
+
+    @Override
+    public ClockProvider getClockProvider() {
+        return Clock::systemDefaultZone;
+    }
+
+    @Override
+    public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+        return builder;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        // As providers do, so validators can tell an unsupported type apart
+        throw new ValidationException("Type " + type.getName() + " not supported for unwrapping");
+    }
+
+    /**
+     * Every builder of the violation builder API at once; each step returns
+     * the builder itself and adding the violation returns the context.
+     */
+    private final class NoOpBuilder implements ConstraintViolationBuilder,
+            ConstraintViolationBuilder.NodeBuilderDefinedContext,
+            ConstraintViolationBuilder.NodeBuilderCustomizableContext,
+            ConstraintViolationBuilder.NodeContextBuilder,
+            ConstraintViolationBuilder.LeafNodeBuilderDefinedContext,
+            ConstraintViolationBuilder.LeafNodeBuilderCustomizableContext,
+            ConstraintViolationBuilder.LeafNodeContextBuilder,
+            ConstraintViolationBuilder.ContainerElementNodeBuilderDefinedContext,
+            ConstraintViolationBuilder.ContainerElementNodeBuilderCustomizableContext,
+            ConstraintViolationBuilder.ContainerElementNodeContextBuilder {
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public NoOpBuilder addNode(String name) {
+            return this;
+        }
+
+        @Override
+        public NoOpBuilder addPropertyNode(String name) {
+            return this;
+        }
+
+        @Override
+        public NoOpBuilder addBeanNode() {
+            return this;
+        }
+
+        @Override
+        public NoOpBuilder addContainerElementNode(String name, Class<?> containerType, Integer typeArgumentIndex) {
+            return this;
+        }
+
+        @Override
+        public NoOpBuilder addParameterNode(int index) {
+            return this;
+        }
+
+        @Override
+        public NoOpBuilder inIterable() {
+            return this;
+        }
+
+        @Override
+        public NoOpBuilder inContainer(Class<?> containerClass, Integer typeArgumentIndex) {
+            return this;
+        }
+
+        @Override
+        public NoOpBuilder atKey(Object key) {
+            return this;
+        }
+
+        @Override
+        public NoOpBuilder atIndex(Integer index) {
+            return this;
+        }
+
+        @Override
+        public ConstraintValidatorContext addConstraintViolation() {
+            return NoOpContext.this;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.validationkit.benchmarks;
+
+import io.github.validationkit.validators.StrongPasswordValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StrongPasswordValidatorBenchmark {
+
+    @Param({ "12", "128", "4096" })
+    private int length;
+
+    private StrongPasswordValidator validator;
+    private String strong;
+    private String weak;
+
+    @Setup
+    public void setUp() {
+        validator = new StrongPasswordValidator();
+        validator.initialize(Constraints.strongPassword());
+
+        // Worst case for the scan: the required categories only appear at the end
+        StringBuilder padding = new StringBuilder();
+        while (padding.length() < length - 4) {
+            padding.append('x');
+        }
+        strong = padding + "A1!z";
+        weak = padding + "abcd";
+    }
+
+    @Benchmark
+    public boolean strongPassword() {
+        return validator.isValid(strong, NoOpContext.INSTANCE);
+    }
+
+    @Benchmark
+    public boolean weakPassword() {
+        return validator.isValid(weak, NoOpContext.INSTANCE);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.validationkit.benchmarks;
+
+import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.constraints.Base64;
+import io.github.validationkit.constraints.FileExtension;
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.Collection;
+
+/**
+ * Same constraints as the {@code UserRequest} DTO in validation-samples. The
+ * samples module is a repackaged Spring Boot application and cannot be used
+ * as a library dependency, so the shape is mirrored here.
+ */
+public class UserRequest {
+
+    @NotBlank(message = "Username is required")
+    private String username;
+
+    @AllowedValues(value = { "admin", "user", "guest" }, message = "Role must be one of {value}")
+    @NotBlank(message = "Role is required")
+    private String role;
+
+    @Base64(message = "Avatar must be a valid Base64 string")
+    private String avatarBase64;
+
+    @FileExtension(value = { "jpg", "png" }, message = "Profile image must be strict jpg/png")
+    private String profileImageName;
+
+    @AllowedValues(value = { "developer", "manager", "tester" }, message = "Permissions must be valid")
+    private Collection<String> permissions;
+
+    @AllowedValues(value = { "java", "spring", "react" }, message = "Tags must be valid technology stacks")
+    private String[] tags;
+
+    public UserRequest(String username, String role, String avatarBase64, String profileImageName,
+            Collection<String> permissions, String[] tags) {
+        this.username = username;
+        this.role = role;
+        this.avatarBase64 = avatarBase64;
+        this.profileImageName = profileImageName;
+        this.permissions = permissions;
+        this.tags = tags;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getAvatarBase64() {
+        return avatarBase64;
+    }
+
+    public String getProfileImageName() {
+        return profileImageName;
+    }
+
+    public Collection<String> getPermissions() {
+        return permissions;
+    }
+
+    public String[] getTags() {
+        return tags;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.validationkit.benchmarks;
+
+import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.starter.metrics.InstrumentedConstraintValidatorFactory;
+import io.github.validationkit.starter.metrics.ValidationMetrics;
+import io.github.validationkit.validators.AllowedValuesValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the opt-in Micrometer instrumentation on a cheap validator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationMetricsBenchmark {
+
+    private ConstraintValidator<AllowedValues, Object> plain;
+    private ConstraintValidator<AllowedValues, Object> instrumented;
+
+    @Setup
+    public void setUp() {
+        plain = new AllowedValuesValidator();
+        plain.initialize(Constraints.role());
+
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(
+                Map.of("meterRegistry", new SimpleMeterRegistry()));
+        ValidationMetrics metrics = new ValidationMetrics(beans.getBeanProvider(MeterRegistry.class));
+        instrumented = instrumentedValidator(new InstrumentedConstraintValidatorFactory(new NewInstanceFactory(),
+                metrics));
+        instrumented.initialize(Constraints.role());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static ConstraintValidator<AllowedValues, Object> instrumentedValidator(
+            ConstraintValidatorFactory factory) {
+        return (ConstraintValidator) factory.getInstance(AllowedValuesValidator.class);
+    }
+
+    @Benchmark
+    public boolean plain() {
+        return plain.isValid("Admin", NoOpContext.INSTANCE);
+    }
+
+    @Benchmark
+    public boolean instrumented() {
+        return instrumented.isValid("Admin", NoOpContext.INSTANCE);
+    }
+
+    private static final class NewInstanceFactory implements ConstraintValidatorFactory {
+
+        @Override
+        public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+            try {
+                return key.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void releaseInstance(ConstraintValidator<?, ?> instance) {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.validationkit.benchmarks;
+
+import io.github.validationkit.util.ValidationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationUtilsBenchmark {
+
+    @Param({ "string", "int[]", "list", "map", "integer", "bigdecimal", "mixed" })
+    private String type;
+
+    private Object[] values;
+
+    @Setup
+    public void setUp() {
+        switch (type) {
+            case "string":
+                values = new Object[] { "admin" };
+                break;
+            case "int[]":
+                values = new Object[] { new int[] { 1, 2, 3 } };
+                break;
+            case "list":
+                values = new Object[] { List.of("a") };
+                break;
+            case "map":
+                values = new Object[] { Map.of("k", "v") };
+                break;
+            case "integer":
+                values = new Object[] { 42 };
+                break;
+            case "bigdecimal":
+                values = new Object[] { new BigDecimal("0.9999999999999999999999") };
+                break;
+            default:
+                // Several types through the same call site, as in a DTO walk
+                values = new Object[] { "admin", new int[] { 1 }, List.of("a"), Map.of(), 42,
+                        new BigDecimal("12.5") };
+        }
+    }
+
+    @Benchmark
+    public int isIgnorable() {
+        int ignorable = 0;
+        for (Object value : values) {
+            if (ValidationUtils.isIgnorable(value)) {
+                ignorable++;
+            }
+        }
+        return ignorable;
+    }
+}
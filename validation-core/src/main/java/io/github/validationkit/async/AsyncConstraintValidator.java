@@ -0,0 +1,40 @@
+package io.github.validationkit.async;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A constraint validator whose check needs I/O, such as a uniqueness lookup.
+ * <p>
+ * Declare it in {@code @Constraint(validatedBy = ...)} like any other
+ * validator. When the bean is validated through an {@link AsyncValidator},
+ * the checks of all async constraints reached by the validation run
+ * concurrently on its executor (virtual threads when available), and the
+ * validation completes once they are all done. Validated any other way,
+ * {@link #isValid(Object, ConstraintValidatorContext)} falls back to waiting
+ * for {@link #isValidAsync(Object)}, so the constraint still holds. Waiting is
+ * refused on threads Reactor marks as non-blocking, such as WebFlux's event
+ * loops, with an {@link IllegalStateException}.
+ * <p>
+ * {@code isValidAsync} may block, it is never called on the validating
+ * thread by an {@link AsyncValidator}. Violations use the constraint's
+ * message.
+ *
+ * @param <A> the constraint annotation
+ * @param <T> the validated type
+ */
+public interface AsyncConstraintValidator<A extends Annotation, T> extends ConstraintValidator<A, T> {
+
+    /**
+     * Checks the value; completes with {@code false} when it is invalid.
+     */
+    CompletionStage<Boolean> isValidAsync(T value);
+
+    @Override
+    default boolean isValid(T value, ConstraintValidatorContext context) {
+        return AsyncValidationSession.isValid(this, value);
+    }
+}
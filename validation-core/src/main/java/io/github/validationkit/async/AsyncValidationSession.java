@@ -0,0 +1,128 @@
+package io.github.validationkit.async;
+
+import jakarta.validation.ValidationException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * State of one {@link AsyncValidator} run, bound to the validating thread
+ * while Bean Validation calls the validators.
+ * <p>
+ * In the first pass every async check is recorded and passes; once the
+ * recorded checks have completed, the second pass answers from their
+ * results. Checks are keyed by validator instance and value, so equal values
+ * under the same declaration are looked up once.
+ */
+final class AsyncValidationSession {
+
+    private static final ThreadLocal<AsyncValidationSession> CURRENT = new ThreadLocal<>();
+
+    // Reactor's marker for threads that must not block, such as Netty's event
+    // loops; checked by name so core does not depend on Reactor
+    private static final String NON_BLOCKING = "reactor.core.scheduler.NonBlocking";
+
+    private static final ClassValue<Boolean> NON_BLOCKING_THREADS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Class<?> i : c.getInterfaces()) {
+                    if (i.getName().equals(NON_BLOCKING)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    };
+
+    private final Map<Check, Boolean> checks = new LinkedHashMap<>();
+    private boolean answering;
+
+    static boolean isValid(AsyncConstraintValidator<?, ?> validator, Object value) {
+        AsyncValidationSession session = CURRENT.get();
+        if (session == null) {
+            return await(validator, value);
+        }
+        Check check = new Check(validator, value);
+        if (!session.answering) {
+            session.checks.putIfAbsent(check, Boolean.TRUE);
+            return true;
+        }
+        Boolean result = session.checks.get(check);
+        // Not reached in the first pass, e.g. a value computed anew per call
+        return result != null ? result : await(validator, value);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static boolean await(AsyncConstraintValidator validator, Object value) {
+        Thread thread = Thread.currentThread();
+        if (NON_BLOCKING_THREADS.get(thread.getClass())) {
+            // e.g. WebFlux's own @Valid handling, which would stall the event loop
+            throw new IllegalStateException("Async constraint " + validator.getClass().getName()
+                    + " would block non-blocking thread " + thread.getName()
+                    + "; validate through AsyncValidator.validateAsync or ReactiveBodyValidator");
+        }
+        try {
+            return Boolean.TRUE.equals(validator.isValidAsync(value).toCompletableFuture().join());
+        } catch (CompletionException e) {
+            throw new ValidationException("Async constraint validation failed", e.getCause());
+        }
+    }
+
+    /**
+     * Runs a validation pass with this session bound to the current thread.
+     */
+    <R> R run(Supplier<R> validation) {
+        AsyncValidationSession previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return validation.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    Map<Check, Boolean> checks() {
+        return checks;
+    }
+
+    void answer() {
+        this.answering = true;
+    }
+
+    static final class Check {
+
+        final AsyncConstraintValidator<?, ?> validator;
+        final Object value;
+
+        Check(AsyncConstraintValidator<?, ?> validator, Object value) {
+            this.validator = validator;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Check)) {
+                return false;
+            }
+            Check other = (Check) o;
+            return validator == other.validator && Objects.equals(value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(validator) + Objects.hashCode(value);
+        }
+    }
+}
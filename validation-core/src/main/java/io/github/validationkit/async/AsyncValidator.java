@@ -0,0 +1,276 @@
+package io.github.validationkit.async;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates beans whose constraints include {@link AsyncConstraintValidator}s,
+ * running those checks concurrently.
+ * <p>
+ * Classes whose constraint metadata has no async validator, and cascades to
+ * nothing that could have one, are simply validated by the delegate. Other
+ * beans are validated once with every async check recorded rather than run.
+ * If none was reached, that pass is the result. Otherwise the recorded checks
+ * run concurrently on the executor and the bean is validated again with their
+ * results.
+ * <p>
+ * The default executor uses a virtual thread per check on Java 21+, and a
+ * cached pool of daemon threads before that.
+ * <p>
+ * {@link #validate} runs both passes on the calling thread. With
+ * {@link #validateAsync}, the second pass runs on whichever thread completes
+ * the last check, with the caller's context restored by the
+ * {@link ContextDecorator}, e.g. the locale messages are interpolated in.
+ *
+ * <pre>{@code
+ * AsyncValidator async = new AsyncValidator(validator);
+ * async.validateAsync(request).thenAccept(violations -> ...);
+ * }</pre>
+ */
+public final class AsyncValidator {
+
+    private final Validator validator;
+    private final Executor executor;
+    private final ContextDecorator contextDecorator;
+    private final ClassValue<Boolean> asyncConstraints = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return hasAsyncConstraints(validator.getConstraintsForClass(type));
+        }
+    };
+
+    public AsyncValidator(Validator validator) {
+        this(validator, DefaultExecutor.INSTANCE);
+    }
+
+    /**
+     * Runs the checks on the default executor.
+     */
+    public AsyncValidator(Validator validator, ContextDecorator contextDecorator) {
+        this(validator, DefaultExecutor.INSTANCE, contextDecorator);
+    }
+
+    public AsyncValidator(Validator validator, Executor executor) {
+        this(validator, executor, ContextDecorator.NONE);
+    }
+
+    public AsyncValidator(Validator validator, Executor executor, ContextDecorator contextDecorator) {
+        this.validator = Objects.requireNonNull(validator, "validator must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.contextDecorator = Objects.requireNonNull(contextDecorator, "contextDecorator must not be null");
+    }
+
+    /**
+     * Validates the bean; the returned future completes once every async check
+     * has, or exceptionally with a {@link ValidationException} if one failed.
+     */
+    public <T> CompletableFuture<Set<ConstraintViolation<T>>> validateAsync(T bean, Class<?>... groups) {
+        Objects.requireNonNull(bean, "bean must not be null");
+        if (!hasAsyncConstraints(bean.getClass())) {
+            return CompletableFuture.completedFuture(validator.validate(bean, groups));
+        }
+        AsyncValidationSession session = new AsyncValidationSession();
+        Set<ConstraintViolation<T>> violations = session.run(() -> validator.validate(bean, groups));
+        if (session.checks().isEmpty()) {
+            return CompletableFuture.completedFuture(violations);
+        }
+
+        List<Set<ConstraintViolation<T>>> result = new ArrayList<>(1);
+        // Decorated here, so it captures the caller's context
+        Runnable secondPass = contextDecorator.decorate(() -> result.add(answer(session, bean, groups)));
+        return runChecks(session).thenApply(ignored -> {
+            secondPass.run();
+            return result.get(0);
+        });
+    }
+
+    /**
+     * Validates the bean, waiting for the async checks. Both passes run on
+     * the calling thread.
+     */
+    public <T> Set<ConstraintViolation<T>> validate(T bean, Class<?>... groups) {
+        Objects.requireNonNull(bean, "bean must not be null");
+        if (!hasAsyncConstraints(bean.getClass())) {
+            return validator.validate(bean, groups);
+        }
+        AsyncValidationSession session = new AsyncValidationSession();
+        Set<ConstraintViolation<T>> violations = session.run(() -> validator.validate(bean, groups));
+        if (session.checks().isEmpty()) {
+            return violations;
+        }
+        try {
+            runChecks(session).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return answer(session, bean, groups);
+    }
+
+    /**
+     * Whether validating beans of the type may reach an async validator.
+     * Cascades count as yes, since the runtime type of the cascaded value is
+     * not known in advance.
+     */
+    boolean hasAsyncConstraints(Class<?> type) {
+        return asyncConstraints.get(type);
+    }
+
+    private static boolean hasAsyncConstraints(BeanDescriptor bean) {
+        if (hasAsync(bean.getConstraintDescriptors())) {
+            return true;
+        }
+        for (PropertyDescriptor property : bean.getConstrainedProperties()) {
+            if (property.isCascaded() || hasAsync(property.getConstraintDescriptors())
+                    || hasAsyncElements(property.getConstrainedContainerElementTypes())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasAsyncElements(Set<ContainerElementTypeDescriptor> elements) {
+        for (ContainerElementTypeDescriptor element : elements) {
+            if (element.isCascaded() || hasAsync(element.getConstraintDescriptors())
+                    || hasAsyncElements(element.getConstrainedContainerElementTypes())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasAsync(Set<ConstraintDescriptor<?>> constraints) {
+        for (ConstraintDescriptor<?> constraint : constraints) {
+            for (Class<?> validatorClass : constraint.getConstraintValidatorClasses()) {
+                if (AsyncConstraintValidator.class.isAssignableFrom(validatorClass)) {
+                    return true;
+                }
+            }
+            if (hasAsync(constraint.getComposingConstraints())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs the checks recorded by the first pass concurrently.
+     */
+    private CompletableFuture<Void> runChecks(AsyncValidationSession session) {
+        Map<AsyncValidationSession.Check, Boolean> checks = session.checks();
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[checks.size()];
+        int i = 0;
+        for (Map.Entry<AsyncValidationSession.Check, Boolean> check : checks.entrySet()) {
+            pending[i++] = CompletableFuture.supplyAsync(() -> check(check.getKey()), executor)
+                    .thenCompose(result -> result)
+                    .thenAccept(result -> check.setValue(Boolean.TRUE.equals(result)));
+        }
+        return CompletableFuture.allOf(pending)
+                .handle((ignored, failure) -> {
+                    if (failure != null) {
+                        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                        throw new CompletionException(
+                                new ValidationException("Async constraint validation failed", cause));
+                    }
+                    return null;
+                });
+    }
+
+    // Every result is written before the checks' future completes
+    private <T> Set<ConstraintViolation<T>> answer(AsyncValidationSession session, T bean, Class<?>... groups) {
+        session.answer();
+        return session.run(() -> validator.validate(bean, groups));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static CompletionStage<Boolean> check(AsyncValidationSession.Check check) {
+        return ((AsyncConstraintValidator) check.validator).isValidAsync(check.value);
+    }
+
+    /**
+     * A {@link Validator} whose bean validation goes through this
+     * {@code AsyncValidator}, for frameworks that validate synchronously. The
+     * other operations are delegated unchanged, so async checks there wait
+     * one after the other.
+     */
+    public Validator asValidator() {
+        return new ConcurrentValidator();
+    }
+
+    private final class ConcurrentValidator implements Validator {
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+            return AsyncValidator.this.validate(object, groups);
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+            return validator.validateProperty(object, propertyName, groups);
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value,
+                Class<?>... groups) {
+            return validator.validateValue(beanType, propertyName, value, groups);
+        }
+
+        @Override
+        public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+            return validator.getConstraintsForClass(clazz);
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            if (type.isInstance(this)) {
+                return type.cast(this);
+            }
+            return validator.unwrap(type);
+        }
+
+        @Override
+        public ExecutableValidator forExecutables() {
+            return validator.forExecutables();
+        }
+    }
+
+    // Created on first use
+    private static final class DefaultExecutor {
+
+        static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                AtomicInteger count = new AtomicInteger();
+                return Executors.newCachedThreadPool(task -> {
+                    Thread thread = new Thread(task, "validationkit-async-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+}
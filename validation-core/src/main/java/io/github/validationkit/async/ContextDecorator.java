@@ -0,0 +1,22 @@
+package io.github.validationkit.async;
+
+/**
+ * Carries the context of the thread that starts an {@link AsyncValidator}
+ * run, such as its locale or current request, to the thread that completes
+ * it, so messages and validators see the same context in both passes.
+ * <p>
+ * The contract is that of Spring's {@code TaskDecorator}: {@link #decorate}
+ * is called on the validating thread and captures its context; the returned
+ * task restores that context around {@code task} wherever it runs, then
+ * clears it again.
+ */
+@FunctionalInterface
+public interface ContextDecorator {
+
+    /**
+     * Propagates nothing.
+     */
+    ContextDecorator NONE = task -> task;
+
+    Runnable decorate(Runnable task);
+}
@@ -0,0 +1,73 @@
+package io.github.validationkit.batch;
+
+import jakarta.validation.ConstraintViolation;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * Outcome of a {@link BatchValidator} run: the violations of each invalid row,
+ * keyed by the row's zero-based index in the input.
+ */
+public final class BatchValidationResult<T> {
+
+    private final SortedMap<Integer, Set<ConstraintViolation<T>>> violations;
+    private final int validatedRows;
+    private final boolean aborted;
+
+    BatchValidationResult(SortedMap<Integer, Set<ConstraintViolation<T>>> violations, int validatedRows,
+            boolean aborted) {
+        this.violations = Collections.unmodifiableSortedMap(violations);
+        this.validatedRows = validatedRows;
+        this.aborted = aborted;
+    }
+
+    /**
+     * True if no validated row had a violation.
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Violations per invalid row, in row order.
+     */
+    public SortedMap<Integer, Set<ConstraintViolation<T>>> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Violations of the given row; empty if it was valid or not validated.
+     */
+    public Set<ConstraintViolation<T>> getViolations(int row) {
+        Set<ConstraintViolation<T>> found = violations.get(row);
+        return found != null ? found : Collections.emptySet();
+    }
+
+    public int getInvalidRowCount() {
+        return violations.size();
+    }
+
+    /**
+     * Number of rows that were actually validated. Can be lower than the input
+     * size when the run was aborted.
+     */
+    public int getValidatedRowCount() {
+        return validatedRows;
+    }
+
+    /**
+     * True if the invalid-row limit was reached, in which case the rows after
+     * that point may not have been validated.
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchValidationResult[validatedRows=" + validatedRows + ", invalidRows=" + violations.size()
+                + ", aborted=" + aborted + "]";
+    }
+}
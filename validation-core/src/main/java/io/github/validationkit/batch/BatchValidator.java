@@ -0,0 +1,208 @@
+package io.github.validationkit.batch;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Validates large batches of beans, e.g. the rows of a bulk import, by
+ * splitting them into chunks that are validated concurrently on an
+ * {@link Executor}.
+ * <p>
+ * All chunks go through the one {@link Validator} passed in, so its cached
+ * metadata and constraint validator instances (including the compiled
+ * validation-kit matchers) are shared by every row. Build it once from a
+ * long-lived {@code ValidatorFactory} rather than per batch.
+ * <p>
+ * By default chunks run on the common {@link ForkJoinPool}. On Java 21+
+ * virtual threads can be used by passing
+ * {@code Executors.newVirtualThreadPerTaskExecutor()}.
+ *
+ * <pre>{@code
+ * BatchValidator batch = new BatchValidator(validator);
+ * BatchValidationResult<UserRequest> result = batch.validate(rows, 100);
+ * result.getViolations().forEach((row, violations) -> ...);
+ * }</pre>
+ */
+public final class BatchValidator {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    /**
+     * Passed as {@code maxInvalidRows} to validate every row.
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final Validator validator;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int maxPendingChunks;
+
+    public BatchValidator(Validator validator) {
+        this(validator, ForkJoinPool.commonPool());
+    }
+
+    public BatchValidator(Validator validator, Executor executor) {
+        this(validator, executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    public BatchValidator(Validator validator, Executor executor, int chunkSize) {
+        this.validator = Objects.requireNonNull(validator, "validator must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Validates every row.
+     */
+    public <T> BatchValidationResult<T> validate(List<T> beans, Class<?>... groups) {
+        return validate(beans, UNLIMITED, groups);
+    }
+
+    /**
+     * Validates the rows, stopping once {@code maxInvalidRows} invalid rows
+     * have been found. Chunks that are already running finish the row they
+     * are on, so a few more invalid rows than the limit may be reported.
+     */
+    public <T> BatchValidationResult<T> validate(List<T> beans, int maxInvalidRows, Class<?>... groups) {
+        Objects.requireNonNull(beans, "beans must not be null");
+        Run<T> run = new Run<>(maxInvalidRows, groups);
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>(beans.size() / chunkSize + 1);
+        for (int first = 0; first < beans.size() && !run.stopped; first += chunkSize) {
+            List<T> chunk = beans.subList(first, Math.min(first + chunkSize, beans.size()));
+            int firstRow = first;
+            chunks.add(CompletableFuture.runAsync(() -> run.validate(chunk, firstRow), executor));
+        }
+        for (CompletableFuture<Void> chunk : chunks) {
+            run.await(chunk);
+        }
+        return run.result();
+    }
+
+    /**
+     * Validates every row of the stream.
+     */
+    public <T> BatchValidationResult<T> validate(Stream<T> beans, Class<?>... groups) {
+        return validate(beans, UNLIMITED, groups);
+    }
+
+    /**
+     * Validates the rows of the stream, stopping once {@code maxInvalidRows}
+     * invalid rows have been found. The stream is consumed on the calling
+     * thread and only a bounded number of chunks is buffered at a time, so it
+     * can be backed by a file that does not fit in memory. Rows after the
+     * limit is reached are not read.
+     */
+    public <T> BatchValidationResult<T> validate(Stream<T> beans, int maxInvalidRows, Class<?>... groups) {
+        Objects.requireNonNull(beans, "beans must not be null");
+        Run<T> run = new Run<>(maxInvalidRows, groups);
+
+        ArrayDeque<CompletableFuture<Void>> pending = new ArrayDeque<>();
+        Iterator<T> rows = beans.iterator();
+        int row = 0;
+        while (!run.stopped && rows.hasNext()) {
+            List<T> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && rows.hasNext()) {
+                chunk.add(rows.next());
+            }
+            int firstRow = row;
+            row += chunk.size();
+            pending.add(CompletableFuture.runAsync(() -> run.validate(chunk, firstRow), executor));
+            if (pending.size() >= maxPendingChunks) {
+                run.await(pending.poll());
+            }
+        }
+        while (!pending.isEmpty()) {
+            run.await(pending.poll());
+        }
+        return run.result();
+    }
+
+    /**
+     * State of one {@code validate} call, shared by its chunks.
+     */
+    private final class Run<T> {
+
+        private final int maxInvalidRows;
+        private final Class<?>[] groups;
+        private final Map<Integer, Set<ConstraintViolation<T>>> violations = new ConcurrentHashMap<>();
+        private final AtomicInteger invalidRows = new AtomicInteger();
+        private final AtomicInteger validatedRows = new AtomicInteger();
+        private volatile boolean stopped;
+
+        Run(int maxInvalidRows, Class<?>[] groups) {
+            if (maxInvalidRows < 1) {
+                throw new IllegalArgumentException("maxInvalidRows must be positive: " + maxInvalidRows);
+            }
+            this.maxInvalidRows = maxInvalidRows;
+            this.groups = groups;
+        }
+
+        void validate(List<T> chunk, int firstRow) {
+            int validated = 0;
+            try {
+                for (T bean : chunk) {
+                    if (stopped) {
+                        return;
+                    }
+                    int row = firstRow + validated;
+                    if (bean == null) {
+                        throw new IllegalArgumentException("Row " + row + " is null");
+                    }
+                    Set<ConstraintViolation<T>> found = validator.validate(bean, groups);
+                    validated++;
+                    if (!found.isEmpty()) {
+                        violations.put(row, found);
+                        if (invalidRows.incrementAndGet() >= maxInvalidRows) {
+                            stopped = true;
+                        }
+                    }
+                }
+            } finally {
+                validatedRows.addAndGet(validated);
+            }
+        }
+
+        void await(CompletableFuture<Void> chunk) {
+            try {
+                chunk.join();
+            } catch (CompletionException e) {
+                // Stop the remaining chunks and surface what the validator threw
+                stopped = true;
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+
+        BatchValidationResult<T> result() {
+            return new BatchValidationResult<>(new TreeMap<>(violations), validatedRows.get(),
+                    invalidRows.get() >= maxInvalidRows);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.validationkit.constraints;
 
+import io.github.validationkit.validators.AllowedValuesBufferValidator;
 import io.github.validationkit.validators.AllowedValuesValidator;
 import jakarta.validation.Constraint;
 import jakarta.validation.Payload;
@@ -24,6 +25,11 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * match any of the allowed values.</li>
  * <li>{@code Object[]}: Checks if <b>all</b> elements in the array match any of
  * the allowed values.</li>
+ * <li>Primitive arrays ({@code int[]}, {@code long[]}, {@code char[]}, ...):
+ * Checks if <b>all</b> elements match, comparing each element's string form
+ * without boxing it. As for boxed numbers, elements below 1 are ignored.</li>
+ * <li>{@code ByteBuffer}: Checks if the remaining bytes are the UTF-8 encoding
+ * of an allowed value, without decoding them to a {@code String}.</li>
  * <li>{@code Object}: Checks if the {@code toString()} representation matches
  * any of the allowed values.</li>
  * </ul>
@@ -34,18 +40,40 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * @AllowedValues(value = { "admin", "user" }, message = "Invalid role")
  * private String role;
  * }</pre>
+ * <p>
+ * Lists that are large or change at runtime can come from a {@link #source()}
+ * instead:
+ *
+ * <pre>{@code
+ * @AllowedValues(source = "file:/etc/catalogue/skus.txt", message = "Unknown SKU")
+ * private String sku;
+ * }</pre>
  *
  * @author Hrushikesh Joshi
  */
 @Documented
-@Constraint(validatedBy = AllowedValuesValidator.class)
+@Constraint(validatedBy = { AllowedValuesValidator.class, AllowedValuesBufferValidator.class })
 @Target({ FIELD, PARAMETER, TYPE_USE })
 @Retention(RUNTIME)
 public @interface AllowedValues {
     /**
      * The array of allowed values.
      */
-    String[] value();
+    String[] value() default {};
+
+    /**
+     * Name of an {@link io.github.validationkit.util.AllowedValueSource} to
+     * take the allowed values from instead of {@link #value()}: either a
+     * source registered with
+     * {@link io.github.validationkit.util.AllowedValueSources} (with the
+     * Spring Boot starter, the name of an {@code AllowedValueSource} bean) or
+     * {@code file:} followed by the path of a file with one value per line.
+     * <p>
+     * The values are reloaded in the background while validation keeps
+     * using the previous ones. Set a {@link #message()}, as the default one
+     * lists {@link #value()}.
+     */
+    String source() default "";
 
     /**
      * Whether the check should be case-sensitive.
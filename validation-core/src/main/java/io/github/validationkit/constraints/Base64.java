@@ -1,5 +1,7 @@
 package io.github.validationkit.constraints;
 
+import io.github.validationkit.validators.Base64BufferValidator;
+import io.github.validationkit.validators.Base64BytesValidator;
 import io.github.validationkit.validators.Base64Validator;
 import jakarta.validation.Constraint;
 import jakarta.validation.Payload;
@@ -16,27 +18,88 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 /**
  * Validates that the value is a valid Base64 encoded string.
  * <p>
- * The validation uses {@link java.util.Base64#getDecoder()} to ensure the
- * string can be decoded.
+ * Supported types: {@code CharSequence} (including {@code String}),
+ * {@code byte[]} and {@code ByteBuffer} (its remaining bytes).
+ * <p>
+ * The value is accepted if and only if the {@link java.util.Base64} decoder
+ * for the configured {@link #variant()} would decode it, but the check is a
+ * single syntax pass that never allocates the decoded bytes.
  * <p>
  * Example:
  * 
  * <pre>{@code
  * @Base64(message = "Not a valid Base64 string")
  * private String encodedData;
+ *
+ * @Base64(variant = Base64.Variant.URL_SAFE)
+ * private String token;
+ *
+ * @Base64(maxDecodedBytes = 65536)
+ * private String avatar;
  * }</pre>
  *
  * @author Hrushikesh Joshi
  */
 @Documented
-@Constraint(validatedBy = Base64Validator.class)
+@Constraint(validatedBy = { Base64Validator.class, Base64BytesValidator.class, Base64BufferValidator.class })
 @Target({ FIELD, PARAMETER, TYPE_USE })
 @Retention(RUNTIME)
 public @interface Base64 {
 
+    /**
+     * The Base64 alphabet and line handling to accept.
+     * Default is {@link Variant#BASIC}.
+     */
+    Variant variant() default Variant.BASIC;
+
+    /**
+     * Maximum number of bytes the value may decode to. Counted during the
+     * syntax check, so nothing is decoded. Default is unlimited.
+     */
+    int maxDecodedBytes() default Integer.MAX_VALUE;
+
     String message() default "Invalid Base64 format";
 
     Class<?>[] groups() default {};
 
     Class<? extends Payload>[] payload() default {};
+
+    /**
+     * Why a value was rejected, reported with the violation through
+     * {@link io.github.validationkit.util.FailureReasons}.
+     */
+    enum Failure {
+        /**
+         * Not an encoding the variant's decoder accepts.
+         */
+        MALFORMED,
+
+        /**
+         * Decodes to more than {@link #maxDecodedBytes()} bytes.
+         */
+        TOO_LARGE
+    }
+
+    /**
+     * Base64 flavours, mirroring the decoders of {@link java.util.Base64}.
+     */
+    enum Variant {
+        /**
+         * RFC 4648 alphabet, no line separators
+         * ({@link java.util.Base64#getDecoder()}).
+         */
+        BASIC,
+
+        /**
+         * RFC 4648 URL and filename safe alphabet
+         * ({@link java.util.Base64#getUrlDecoder()}).
+         */
+        URL_SAFE,
+
+        /**
+         * RFC 2045 MIME, characters outside the alphabet are ignored
+         * ({@link java.util.Base64#getMimeDecoder()}).
+         */
+        MIME
+    }
 }
@@ -0,0 +1,84 @@
+package io.github.validationkit.constraints;
+
+import io.github.validationkit.validators.FileContentBytesValidator;
+import io.github.validationkit.validators.FileContentPathValidator;
+import io.github.validationkit.validators.FileContentStreamValidator;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Validates that file content starts with the magic number of one of the
+ * allowed types, whatever the file is called.
+ * <p>
+ * Supported types: {@code byte[]}, {@code java.io.InputStream},
+ * {@code java.nio.file.Path} and, with the Spring Boot starter,
+ * {@code org.springframework.web.multipart.MultipartFile}.
+ * <p>
+ * Only the first {@value io.github.validationkit.util.FileSignatures#PEEK_SIZE}
+ * bytes are read, so checking a multi-gigabyte upload takes constant memory.
+ * An {@code InputStream} must support {@code mark}/{@code reset} (e.g. a
+ * {@code BufferedInputStream}) and is reset after the check, so it can still
+ * be read in full. {@code null} and empty content are valid; use
+ * {@code @NotNull} or {@code @NotEmpty} to reject them.
+ * <p>
+ * Example:
+ *
+ * <pre>{@code
+ * @FileContent({ FileContent.Type.PNG, FileContent.Type.JPEG })
+ * private MultipartFile avatar;
+ * }</pre>
+ *
+ * @author Hrushikesh Joshi
+ */
+@Documented
+@Constraint(validatedBy = { FileContentBytesValidator.class, FileContentStreamValidator.class,
+        FileContentPathValidator.class })
+@Target({ FIELD, PARAMETER, TYPE_USE })
+@Retention(RUNTIME)
+public @interface FileContent {
+
+    /**
+     * The allowed content types.
+     */
+    Type[] value();
+
+    String message() default "File content must be one of {value}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * Content types recognised by their magic number.
+     */
+    enum Type {
+        PNG,
+        JPEG,
+        GIF,
+        BMP,
+        WEBP,
+        TIFF,
+        PDF,
+        /**
+         * Also matches formats built on ZIP, such as DOCX, XLSX, JAR and EPUB.
+         */
+        ZIP,
+        GZIP,
+        SEVEN_ZIP,
+        /**
+         * ISO base media files: MP4, MOV, M4A, HEIC and similar.
+         */
+        MP4,
+        WAV,
+        OGG
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.validationkit.constraints;
 
+import io.github.validationkit.validators.FileExtensionBufferValidator;
+import io.github.validationkit.validators.FileExtensionBytesValidator;
 import io.github.validationkit.validators.FileExtensionValidator;
 import jakarta.validation.Constraint;
 import jakarta.validation.Payload;
@@ -16,6 +18,13 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 /**
  * Validates that the string (filename) ends with one of the allowed extensions.
  * <p>
+ * Extensions may contain dots themselves, e.g. {@code "tar.gz"} or
+ * {@code "min.js"}; the filename must then end with {@code ".tar.gz"}.
+ * <p>
+ * Supported types: {@code CharSequence} (including {@code String}), and
+ * {@code byte[]} and {@code ByteBuffer} holding the UTF-8 encoded name, which
+ * are matched without decoding them.
+ * <p>
  * This validator is case-insensitive by default.
  * Use {@link #caseSensitive()} to change this behavior.
  * <p>
@@ -29,13 +38,14 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * @author Hrushikesh Joshi
  */
 @Documented
-@Constraint(validatedBy = FileExtensionValidator.class)
+@Constraint(validatedBy = { FileExtensionValidator.class, FileExtensionBytesValidator.class,
+        FileExtensionBufferValidator.class })
 @Target({ FIELD, PARAMETER, TYPE_USE })
 @Retention(RUNTIME)
 public @interface FileExtension {
     /**
      * Allowed extensions (e.g. "jpg", "png").
-     * Examples: {@code "pdf"}, {@code "txt"}.
+     * Examples: {@code "pdf"}, {@code "txt"}, {@code "tar.gz"}.
      * The dot is optional in config; the validator handles it.
      */
     String[] value();
@@ -29,6 +29,12 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * allowed set (default true)</li>
  * <li>{@code allowedSpecialChars} - defines valid special characters (default
  * "@$!%*?&amp;_#-")</li>
+ * <li>{@code minEntropy} - minimum estimated entropy in bits (default 0, not
+ * checked)</li>
+ * <li>{@code checkBreached} - rejects passwords found in the breached-password
+ * filter installed with
+ * {@link io.github.validationkit.util.BreachedPasswords#install} (default
+ * false)</li>
  * </ul>
  *
  * @author Hrushikesh Joshi
@@ -57,9 +63,50 @@ public @interface StrongPassword {
      */
     String allowedSpecialChars() default "@$!%*?&_#-";
 
+    /**
+     * Minimum entropy in bits, estimated as {@code length * log2(pool)} where
+     * the pool is the size of the character categories used. For example
+     * {@code Password123!} scores about 78 bits. {@code 0} disables the check.
+     */
+    double minEntropy() default 0;
+
+    /**
+     * Whether to reject passwords that may appear in the installed breached
+     * password filter. The filter has no false negatives but a small, configured
+     * rate of false positives.
+     */
+    boolean checkBreached() default false;
+
     String message() default "Password does not meet complexity requirements";
 
     Class<?>[] groups() default {};
 
     Class<? extends Payload>[] payload() default {};
+
+    /**
+     * Why a password was rejected, reported with the violation through
+     * {@link io.github.validationkit.util.FailureReasons}; a violation can
+     * have several.
+     */
+    enum Failure {
+        /**
+         * Shorter than {@link #min()} or longer than {@link #max()}.
+         */
+        LENGTH,
+
+        /**
+         * Missing one of the required character classes.
+         */
+        CHARACTERS,
+
+        /**
+         * Estimated entropy below {@link #minEntropy()}.
+         */
+        ENTROPY,
+
+        /**
+         * Found in the breached-password filter.
+         */
+        BREACHED
+    }
 }
@@ -0,0 +1,136 @@
+package io.github.validationkit.plan;
+
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A {@link Validator} that checks beans against a plan compiled once per
+ * class, and only validates them the standard way to report violations.
+ * <p>
+ * The plan reads each constrained field through a {@code MethodHandle} and
+ * calls the constraint validators directly, skipping the metadata walk,
+ * property paths and violation bookkeeping of a full validation. A valid bean
+ * therefore costs about as much as the validators themselves. An invalid one
+ * is validated again by the delegate, which produces the violations exactly
+ * as before, so the failure path costs one plan run more than it used to.
+ * <p>
+ * Plans cover the default group and field constraints that are
+ * validation-kit constraints or {@code @NotNull}, {@code @NotBlank} and
+ * {@code @NotEmpty}; other classes, other groups and the remaining
+ * operations simply go to the delegate.
+ *
+ * <p>
+ * The validators of the plans come from the
+ * {@code ConstraintValidatorFactory}; {@link #close()} hands them back.
+ *
+ * <pre>{@code
+ * Validator validator = new CompiledValidator(validatorFactory);
+ * }</pre>
+ */
+public final class CompiledValidator implements Validator, AutoCloseable {
+
+    private final Validator validator;
+    private final ConstraintValidatorFactory constraintValidatorFactory;
+    // Every plan compiled, including any a racing thread's plan replaced
+    private final Queue<ValidationPlan> compiled = new ConcurrentLinkedQueue<>();
+    private final ClassValue<ValidationPlan> plans = new ClassValue<>() {
+        @Override
+        protected ValidationPlan computeValue(Class<?> type) {
+            ValidationPlan plan = ValidationPlan.compile(type, validator, constraintValidatorFactory);
+            if (plan != ValidationPlan.UNSUPPORTED) {
+                compiled.add(plan);
+            }
+            return plan;
+        }
+    };
+
+    /**
+     * Validates with the factory's validator, and creates the validators of
+     * the plans with its {@code ConstraintValidatorFactory}.
+     */
+    public CompiledValidator(ValidatorFactory factory) {
+        this(factory.getValidator(), factory.getConstraintValidatorFactory());
+    }
+
+    public CompiledValidator(Validator validator, ConstraintValidatorFactory constraintValidatorFactory) {
+        this.validator = Objects.requireNonNull(validator, "validator must not be null");
+        this.constraintValidatorFactory = Objects.requireNonNull(constraintValidatorFactory,
+                "constraintValidatorFactory must not be null");
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        Objects.requireNonNull(object, "object must not be null");
+        if (isDefaultGroup(groups)) {
+            ValidationPlan plan = plans.get(object.getClass());
+            if (plan != ValidationPlan.UNSUPPORTED && plan.passes(object)) {
+                return Collections.emptySet();
+            }
+        }
+        return validator.validate(object, groups);
+    }
+
+    /**
+     * Whether beans of the type are checked by a compiled plan rather than
+     * always by the delegate.
+     */
+    public boolean isCompiled(Class<?> type) {
+        return plans.get(type) != ValidationPlan.UNSUPPORTED;
+    }
+
+    /**
+     * Releases the validators of all plans compiled so far. Plans compiled
+     * afterwards must be released by another call.
+     */
+    @Override
+    public void close() {
+        ValidationPlan plan;
+        while ((plan = compiled.poll()) != null) {
+            plan.release(constraintValidatorFactory);
+        }
+    }
+
+    private static boolean isDefaultGroup(Class<?>[] groups) {
+        return groups.length == 0 || (groups.length == 1 && groups[0] == Default.class);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+        return validator.validateProperty(object, propertyName, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value,
+            Class<?>... groups) {
+        return validator.validateValue(beanType, propertyName, value, groups);
+    }
+
+    @Override
+    public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+        return validator.getConstraintsForClass(clazz);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        return validator.unwrap(type);
+    }
+
+    @Override
+    public ExecutableValidator forExecutables() {
+        return validator.forExecutables();
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.validationkit.plan;
+
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ValidationException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+
+/**
+ * Context for the validators a {@link ValidationPlan} calls directly. Only
+ * whether a value is valid matters there, as any violation is reported by
+ * validating the bean again the standard way, so custom violations are
+ * accepted and discarded: every node and violation builder is a no-op.
+ * <p>
+ * {@link #unwrap} also hands out provider-specific contexts, such as Hibernate
+ * Validator's {@code HibernateConstraintValidatorContext}, as proxies that
+ * discard what they are given in the same way.
+ */
+final class SilentContext implements ConstraintValidatorContext {
+
+    static final SilentContext INSTANCE = new SilentContext();
+
+    private final SilentBuilder builder = new SilentBuilder();
+
+    private SilentContext() {
+    }
+
+    @Override
+    public void disableDefaultConstraintViolation() {
+    }
+
+    @Override
+    public String getDefaultConstraintMessageTemplate() {
+        return "";
+    }
+
+    @Override
+    public ClockProvider getClockProvider() {
+        return Clock::systemDefaultZone;
+    }
+
+    @Override
+    public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+        return builder;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        if (type.isInterface() && ConstraintValidatorContext.class.isAssignableFrom(type)) {
+            return type.cast(silent(type));
+        }
+        throw new ValidationException("Type " + type.getName() + " not supported for unwrapping");
+    }
+
+    /**
+     * A proxy of a provider-specific context or builder interface: methods
+     * of {@code ConstraintValidatorContext} are answered by this context,
+     * fluent methods return the proxy, other interfaces get a proxy of their
+     * own and anything else a default value.
+     */
+    private static Object silent(Class<?> type) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return objectMethod(proxy, method, args);
+                    }
+                    if (method.getDeclaringClass() == ConstraintValidatorContext.class) {
+                        return method.invoke(INSTANCE, args);
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == void.class) {
+                        return null;
+                    }
+                    if (returnType.isInstance(proxy)) {
+                        return proxy;
+                    }
+                    if (returnType.isInstance(INSTANCE.builder)) {
+                        return INSTANCE.builder;
+                    }
+                    if (returnType.isInstance(INSTANCE)) {
+                        return INSTANCE;
+                    }
+                    if (returnType.isInterface()) {
+                        return silent(returnType);
+                    }
+                    return defaultValue(returnType);
+                });
+    }
+
+    private static Object objectMethod(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return "SilentContext proxy";
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type.isPrimitive()) {
+            // The element of a new array is the zero value of its type
+            return Array.get(Array.newInstance(type, 1), 0);
+        }
+        return type == String.class ? "" : null;
+    }
+
+    /**
+     * Every builder of the violation builder API at once; each step returns
+     * the builder itself and adding the violation returns the context.
+     */
+    private final class SilentBuilder implements ConstraintViolationBuilder,
+            ConstraintViolationBuilder.NodeBuilderDefinedContext,
+            ConstraintViolationBuilder.NodeBuilderCustomizableContext,
+            ConstraintViolationBuilder.NodeContextBuilder,
+            ConstraintViolationBuilder.LeafNodeBuilderDefinedContext,
+            ConstraintViolationBuilder.LeafNodeBuilderCustomizableContext,
+            ConstraintViolationBuilder.LeafNodeContextBuilder,
+            ConstraintViolationBuilder.ContainerElementNodeBuilderDefinedContext,
+            ConstraintViolationBuilder.ContainerElementNodeBuilderCustomizableContext,
+            ConstraintViolationBuilder.ContainerElementNodeContextBuilder {
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public SilentBuilder addNode(String name) {
+            return this;
+        }
+
+        @Override
+        public SilentBuilder addPropertyNode(String name) {
+            return this;
+        }
+
+        @Override
+        public SilentBuilder addBeanNode() {
+            return this;
+        }
+
+        @Override
+        public SilentBuilder addContainerElementNode(String name, Class<?> containerType,
+                Integer typeArgumentIndex) {
+            return this;
+        }
+
+        @Override
+        public SilentBuilder addParameterNode(int index) {
+            return this;
+        }
+
+        @Override
+        public SilentBuilder inIterable() {
+            return this;
+        }
+
+        @Override
+        public SilentBuilder inContainer(Class<?> containerClass, Integer typeArgumentIndex) {
+            return this;
+        }
+
+        @Override
+        public SilentBuilder atKey(Object key) {
+            return this;
+        }
+
+        @Override
+        public SilentBuilder atIndex(Integer index) {
+            return this;
+        }
+
+        @Override
+        public ConstraintValidatorContext addConstraintViolation() {
+            return SilentContext.this;
+        }
+    }
+}
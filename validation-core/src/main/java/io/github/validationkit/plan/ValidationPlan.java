@@ -0,0 +1,353 @@
+package io.github.validationkit.plan;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The constraints of one class in the default group, as a flat list of field
+ * reads and validator calls.
+ * <p>
+ * Only classes whose constraints are all validation-kit constraints or
+ * {@code @NotNull}, {@code @NotBlank} and {@code @NotEmpty} on fields get a
+ * plan. Anything the plan could not reproduce exactly, such as class-level
+ * constraints, cascades, container element constraints, constrained getters
+ * or a redefined default group, leaves the class to the standard path.
+ * <p>
+ * Fields are read directly, without asking the factory's
+ * {@code TraversableResolver} whether they are reachable. JPA entities and
+ * embeddables, for which the resolver keeps lazy properties unloaded, are
+ * therefore left to the standard path too.
+ */
+final class ValidationPlan {
+
+    static final ValidationPlan UNSUPPORTED = new ValidationPlan(new Property[0], List.of());
+
+    private static final String CONSTRAINT_PACKAGE = "io.github.validationkit.constraints.";
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private static final String[] PERSISTENCE_ANNOTATIONS = { "jakarta.persistence.Entity",
+            "jakarta.persistence.Embeddable", "jakarta.persistence.MappedSuperclass" };
+
+    private final Property[] properties;
+    // The validators obtained from the factory, as opposed to built-in checks
+    private final List<ConstraintValidator<?, ?>> instances;
+
+    private ValidationPlan(Property[] properties, List<ConstraintValidator<?, ?>> instances) {
+        this.properties = properties;
+        this.instances = instances;
+    }
+
+    /**
+     * Whether every constraint is satisfied. Validators that throw an
+     * exception count as failed, so the standard path reports what went
+     * wrong.
+     */
+    boolean passes(Object bean) {
+        try {
+            for (Property property : properties) {
+                Object value = property.getter.invokeExact(bean);
+                for (ConstraintValidator<?, Object> validator : property.validators) {
+                    if (!validator.isValid(value, SilentContext.INSTANCE)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // Field getters and isValid declare no checked exceptions
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Hands the validators of the plan back to the factory they came from.
+     */
+    void release(ConstraintValidatorFactory factory) {
+        release(instances, factory);
+    }
+
+    private static void release(List<ConstraintValidator<?, ?>> instances, ConstraintValidatorFactory factory) {
+        for (ConstraintValidator<?, ?> instance : instances) {
+            factory.releaseInstance(instance);
+        }
+    }
+
+    static ValidationPlan compile(Class<?> type, Validator validator, ConstraintValidatorFactory factory) {
+        if (type.isAnnotationPresent(GroupSequence.class) || hasAnnotation(type,
+                "org.hibernate.validator.group.GroupSequenceProvider") || isPersistent(type)) {
+            return UNSUPPORTED;
+        }
+        BeanDescriptor bean = validator.getConstraintsForClass(type);
+        if (!bean.getConstraintDescriptors().isEmpty()) {
+            return UNSUPPORTED;
+        }
+        List<Property> properties = new ArrayList<>();
+        List<ConstraintValidator<?, ?>> instances = new ArrayList<>();
+        for (PropertyDescriptor descriptor : bean.getConstrainedProperties()) {
+            if (descriptor.isCascaded() || !descriptor.getConstrainedContainerElementTypes().isEmpty()) {
+                return unsupported(instances, factory);
+            }
+            Field field = findField(type, descriptor.getPropertyName());
+            if (field == null || hasConstrainedGetter(type, descriptor.getPropertyName())) {
+                return unsupported(instances, factory);
+            }
+            List<ConstraintValidator<?, Object>> validators = new ArrayList<>();
+            for (ConstraintDescriptor<?> constraint : descriptor.getConstraintDescriptors()) {
+                if (!constraint.getGroups().contains(Default.class)) {
+                    continue;
+                }
+                ConstraintValidator<?, Object> compiled = compile(constraint, wrap(field.getType()), factory,
+                        instances);
+                if (compiled == null) {
+                    return unsupported(instances, factory);
+                }
+                validators.add(compiled);
+            }
+            if (!validators.isEmpty()) {
+                MethodHandle getter = getter(field);
+                if (getter == null) {
+                    return unsupported(instances, factory);
+                }
+                properties.add(new Property(getter, validators));
+            }
+        }
+        return new ValidationPlan(properties.toArray(new Property[0]), instances);
+    }
+
+    private static ValidationPlan unsupported(List<ConstraintValidator<?, ?>> instances,
+            ConstraintValidatorFactory factory) {
+        release(instances, factory);
+        return UNSUPPORTED;
+    }
+
+    private static ConstraintValidator<?, Object> compile(ConstraintDescriptor<?> constraint, Class<?> valueType,
+            ConstraintValidatorFactory factory, List<ConstraintValidator<?, ?>> instances) {
+        if (!constraint.getComposingConstraints().isEmpty()) {
+            return null;
+        }
+        Class<? extends Annotation> annotationType = constraint.getAnnotation().annotationType();
+        if (annotationType == NotNull.class) {
+            return (value, context) -> value != null;
+        }
+        if (annotationType == NotBlank.class) {
+            return CharSequence.class.isAssignableFrom(valueType) ? ValidationPlan::isNotBlank : null;
+        }
+        if (annotationType == NotEmpty.class) {
+            return CharSequence.class.isAssignableFrom(valueType) || Collection.class.isAssignableFrom(valueType)
+                    || Map.class.isAssignableFrom(valueType) || valueType.isArray() ? ValidationPlan::isNotEmpty
+                            : null;
+        }
+        if (!annotationType.getName().startsWith(CONSTRAINT_PACKAGE)) {
+            return null;
+        }
+        Class<? extends ConstraintValidator<?, ?>> validatorClass = resolve(constraint, valueType);
+        if (validatorClass == null) {
+            return null;
+        }
+        ConstraintValidator<?, ?> instance = factory.getInstance(validatorClass);
+        instances.add(instance);
+        return initialize(instance, constraint.getAnnotation());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static ConstraintValidator<?, Object> initialize(ConstraintValidator validator, Annotation annotation) {
+        validator.initialize(annotation);
+        return validator;
+    }
+
+    /**
+     * The validator for the declared type, chosen like Hibernate Validator
+     * does: the one for the most specific type the value is assignable to.
+     */
+    private static Class<? extends ConstraintValidator<?, ?>> resolve(ConstraintDescriptor<?> constraint,
+            Class<?> valueType) {
+        Class<? extends ConstraintValidator<?, ?>> best = null;
+        Class<?> bestType = null;
+        for (Class<? extends ConstraintValidator<?, ?>> candidate : constraint.getConstraintValidatorClasses()) {
+            Class<?> validatedType = validatedType(candidate);
+            if (validatedType == null || !validatedType.isAssignableFrom(valueType)) {
+                continue;
+            }
+            if (bestType == null || bestType.isAssignableFrom(validatedType)) {
+                best = candidate;
+                bestType = validatedType;
+            } else if (!validatedType.isAssignableFrom(bestType)) {
+                // Ambiguous; the standard path reports it
+                return null;
+            }
+        }
+        return best;
+    }
+
+    private static Class<?> validatedType(Class<?> validatorClass) {
+        for (Type type : validatorClass.getGenericInterfaces()) {
+            if (type instanceof ParameterizedType
+                    && ((ParameterizedType) type).getRawType() == ConstraintValidator.class) {
+                Type validated = ((ParameterizedType) type).getActualTypeArguments()[1];
+                return validated instanceof Class ? wrap((Class<?>) validated) : null;
+            }
+        }
+        return null;
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current
+                .getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasConstrainedGetter(Class<?> type, String property) {
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        return hasConstrainedGetter(type, "get" + suffix, "is" + suffix);
+    }
+
+    // Walks interfaces too: a getter constrained on an interface is validated
+    // through the implementation's getter, not the field
+    private static boolean hasConstrainedGetter(Class<?> type, String get, String is) {
+        if (type == null || type == Object.class) {
+            return false;
+        }
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.getParameterCount() == 0 && (method.getName().equals(get) || method.getName().equals(is))
+                    && isConstrained(method)) {
+                return true;
+            }
+        }
+        for (Class<?> implemented : type.getInterfaces()) {
+            if (hasConstrainedGetter(implemented, get, is)) {
+                return true;
+            }
+        }
+        return hasConstrainedGetter(type.getSuperclass(), get, is);
+    }
+
+    private static boolean isConstrained(Method method) {
+        for (Annotation annotation : method.getAnnotations()) {
+            if (annotation.annotationType().isAnnotationPresent(Constraint.class)
+                    || annotation.annotationType() == Valid.class) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPersistent(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current
+                .getSuperclass()) {
+            for (String annotation : PERSISTENCE_ANNOTATIONS) {
+                if (hasAnnotation(current, annotation)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasAnnotation(Class<?> type, String annotationName) {
+        for (Annotation annotation : type.getAnnotations()) {
+            if (annotation.annotationType().getName().equals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(),
+                    MethodHandles.lookup());
+            return lookup.unreflectGetter(field).asType(GETTER);
+        } catch (IllegalAccessException | RuntimeException e) {
+            // E.g. a package not opened to validation-kit
+            return null;
+        }
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static boolean isNotBlank(Object value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return false;
+        }
+        // Same as the standard validator's trim(), without the copy
+        CharSequence chars = (CharSequence) value;
+        for (int i = 0; i < chars.length(); i++) {
+            if (chars.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNotEmpty(Object value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() > 0;
+        }
+        if (value instanceof Collection) {
+            return !((Collection<?>) value).isEmpty();
+        }
+        if (value instanceof Map) {
+            return !((Map<?, ?>) value).isEmpty();
+        }
+        return Array.getLength(value) > 0;
+    }
+
+    private static final class Property {
+
+        final MethodHandle getter;
+        final ConstraintValidator<?, Object>[] validators;
+
+        @SuppressWarnings("unchecked")
+        Property(MethodHandle getter, List<ConstraintValidator<?, Object>> validators) {
+            this.getter = getter;
+            this.validators = validators.toArray(new ConstraintValidator[0]);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.validationkit.util;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Supplies the values of {@code @AllowedValues(source = ...)} at runtime, e.g.
+ * from a database table or a remote catalogue.
+ * <p>
+ * Sources are registered by name with {@link AllowedValueSources}; the Spring
+ * Boot starter registers every {@code AllowedValueSource} bean under its bean
+ * name.
+ */
+@FunctionalInterface
+public interface AllowedValueSource {
+
+    /**
+     * Loads the current values. Called on a background thread for reloads, so
+     * it may block.
+     */
+    Collection<String> load() throws IOException;
+
+    /**
+     * Whether the values may have changed since they were last loaded. A
+     * reload is skipped if not, so by default a source is loaded once.
+     * Sources that change override it with a cheap check, such as a version
+     * column or a last-modified time.
+     */
+    default boolean isModified() {
+        return false;
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.validationkit.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Process-wide registry of the {@link AllowedValueSource}s used by
+ * {@code @AllowedValues(source = ...)}.
+ * <p>
+ * A source is loaded by {@link #preload(String)}, or else when the first
+ * validator using it is initialized, on that thread. After that,
+ * {@link #reload(String)} loads and compiles the values on a background
+ * thread and swaps them in atomically, so validation never waits for a reload
+ * and keeps using the previous values if one fails. Reloads run one at a
+ * time, so an older load never overwrites a newer one.
+ * <p>
+ * Names starting with {@value #FILE_PREFIX} need no registration: the rest of
+ * the name is the path of a {@link FileAllowedValueSource}.
+ */
+public final class AllowedValueSources {
+
+    public static final String FILE_PREFIX = "file:";
+
+    private static final ConcurrentMap<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private static final ExecutorService RELOADS = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "validationkit-allowed-values");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private AllowedValueSources() {
+    }
+
+    /**
+     * Registers {@code source} under {@code name}, replacing any source
+     * registered before. Values already loaded from the old source are
+     * reloaded from the new one in the background.
+     */
+    public static void register(String name, AllowedValueSource source) {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(source, "source must not be null");
+        Entry entry = ENTRIES.computeIfAbsent(name, ignored -> new Entry(source));
+        if (entry.replace(source)) {
+            CompletableFuture.runAsync(() -> entry.reload(name, true), RELOADS);
+        }
+    }
+
+    /**
+     * Removes the source; validators already using it keep its last values.
+     */
+    public static void unregister(String name) {
+        ENTRIES.remove(name);
+    }
+
+    /**
+     * Removes the source only if {@code source} is still the one registered
+     * under {@code name}, so it does not remove a source registered since.
+     *
+     * @return whether it was removed
+     */
+    public static boolean unregister(String name, AllowedValueSource source) {
+        Entry entry = ENTRIES.get(name);
+        return entry != null && entry.holds(source) && ENTRIES.remove(name, entry);
+    }
+
+    /**
+     * Loads the named source on this thread unless it has been loaded, so the
+     * first validator using it does not have to.
+     *
+     * @throws IllegalStateException if no source of that name is registered
+     * @throws UncheckedIOException if the source could not be loaded
+     */
+    public static void preload(String name) {
+        Entry entry = ENTRIES.get(name);
+        if (entry == null) {
+            throw new IllegalStateException("No allowed-value source named '" + name + "' is registered");
+        }
+        entry.loaded(name);
+    }
+
+    /**
+     * The values of the named source, loading them if this is the first use.
+     *
+     * @throws IllegalStateException if no source of that name is registered
+     * @throws UncheckedIOException if the source could not be loaded
+     */
+    public static ReloadableAllowedValues get(String name, boolean caseSensitive) {
+        Entry entry = ENTRIES.get(name);
+        if (entry == null) {
+            if (!name.startsWith(FILE_PREFIX)) {
+                throw new IllegalStateException("No allowed-value source named '" + name + "' is registered");
+            }
+            entry = ENTRIES.computeIfAbsent(name,
+                    ignored -> new Entry(new FileAllowedValueSource(Path.of(name.substring(FILE_PREFIX.length())))));
+        }
+        return entry.values(name, caseSensitive);
+    }
+
+    /**
+     * Reloads the named source in the background if it may have changed.
+     *
+     * @return completes once the new values are in use, or exceptionally if
+     *         they could not be loaded
+     */
+    public static CompletableFuture<Void> reload(String name) {
+        Entry entry = ENTRIES.get(name);
+        if (entry == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("No allowed-value source named '" + name + "' is registered"));
+        }
+        return CompletableFuture.runAsync(() -> entry.reload(name, false), RELOADS);
+    }
+
+    /**
+     * Reloads every registered source that may have changed.
+     */
+    public static CompletableFuture<Void> reloadAll() {
+        return CompletableFuture.allOf(ENTRIES.keySet().stream()
+                .map(AllowedValueSources::reload)
+                .toArray(CompletableFuture<?>[]::new));
+    }
+
+    private static String[] load(String name, AllowedValueSource source) {
+        try {
+            Collection<String> values = source.load();
+            return values.toArray(new String[0]);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load allowed-value source '" + name + "'", e);
+        }
+    }
+
+    private static final class Entry {
+
+        private AllowedValueSource source;
+        // The last values loaded from the source, compiled on first use
+        private String[] loaded;
+        // Indexed by case sensitivity; only the ones in use are compiled
+        private final ReloadableAllowedValues[] values = new ReloadableAllowedValues[2];
+
+        Entry(AllowedValueSource source) {
+            this.source = source;
+        }
+
+        /**
+         * Returns true if values were loaded from a different source.
+         */
+        synchronized boolean replace(AllowedValueSource source) {
+            if (this.source == source) {
+                return false;
+            }
+            this.source = source;
+            return loaded != null;
+        }
+
+        synchronized boolean holds(AllowedValueSource source) {
+            return this.source == source;
+        }
+
+        synchronized String[] loaded(String name) {
+            if (loaded == null) {
+                loaded = load(name, source);
+            }
+            return loaded;
+        }
+
+        synchronized ReloadableAllowedValues values(String name, boolean caseSensitive) {
+            int index = caseSensitive ? 1 : 0;
+            if (values[index] == null) {
+                ReloadableAllowedValues compiled = new ReloadableAllowedValues(caseSensitive);
+                compiled.update(loaded(name));
+                values[index] = compiled;
+            }
+            return values[index];
+        }
+
+        void reload(String name, boolean replaced) {
+            AllowedValueSource current;
+            synchronized (this) {
+                current = source;
+            }
+            if (!replaced && !current.isModified()) {
+                return;
+            }
+            // Loaded outside the lock, so initializing validators do not wait
+            String[] reloaded = load(name, current);
+            ReloadableAllowedValues[] targets;
+            synchronized (this) {
+                loaded = reloaded;
+                targets = values.clone();
+            }
+            for (ReloadableAllowedValues target : targets) {
+                if (target != null) {
+                    target.update(reloaded);
+                }
+            }
+        }
+    }
+}
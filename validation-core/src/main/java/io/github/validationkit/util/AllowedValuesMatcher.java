@@ -0,0 +1,143 @@
+package io.github.validationkit.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Immutable, compiled form of an allowed-values list.
+ * <p>
+ * Text is matched with a {@link CharTrie}. Numeric, boolean and character
+ * values are matched against sets that were pre-parsed from the same list, so
+ * a primitive matches exactly when its {@code toString()} form would, but
+ * without boxing or building that string.
+ */
+public final class AllowedValuesMatcher {
+
+    private final CharTrie text;
+    private final LongHashSet integers;
+    private final LongHashSet doubles;
+    private final LongHashSet floats;
+    private final boolean allowsTrue;
+    private final boolean allowsFalse;
+
+    private AllowedValuesMatcher(CharTrie text, LongHashSet integers, LongHashSet doubles, LongHashSet floats) {
+        this.text = text;
+        this.integers = integers;
+        this.doubles = doubles;
+        this.floats = floats;
+        this.allowsTrue = text.contains("true");
+        this.allowsFalse = text.contains("false");
+    }
+
+    /**
+     * Compiles the allowed values.
+     */
+    public static AllowedValuesMatcher compile(String[] values, boolean caseSensitive) {
+        CharTrie text = CharTrie.of(Arrays.asList(values), caseSensitive);
+
+        long[] integers = new long[values.length];
+        long[] doubles = new long[values.length + 3];
+        long[] floats = new long[values.length + 3];
+        int integerCount = 0;
+        int doubleCount = 0;
+        int floatCount = 0;
+        for (String value : values) {
+            // Only keep a number if its canonical string form is itself
+            // allowed, e.g. "7" matches 7 but "007" or "+7" do not.
+            try {
+                long parsed = Long.parseLong(value);
+                if (text.contains(Long.toString(parsed))) {
+                    integers[integerCount++] = parsed;
+                }
+            } catch (NumberFormatException e) {
+                // not an integer
+            }
+            try {
+                double parsed = Double.parseDouble(value);
+                if (text.contains(Double.toString(parsed))) {
+                    doubles[doubleCount++] = Double.doubleToLongBits(parsed);
+                }
+                float parsedFloat = Float.parseFloat(value);
+                if (text.contains(Float.toString(parsedFloat))) {
+                    floats[floatCount++] = Float.floatToIntBits(parsedFloat);
+                }
+            } catch (NumberFormatException e) {
+                // not a floating point number
+            }
+        }
+        // The parsers only accept the exact spellings "NaN" and "Infinity",
+        // which a case-insensitive list may not contain verbatim.
+        for (double special : new double[] { Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY }) {
+            if (text.contains(Double.toString(special))) {
+                doubles[doubleCount++] = Double.doubleToLongBits(special);
+                floats[floatCount++] = Float.floatToIntBits((float) special);
+            }
+        }
+
+        return new AllowedValuesMatcher(text,
+                new LongHashSet(integers, integerCount),
+                new LongHashSet(doubles, doubleCount),
+                new LongHashSet(floats, floatCount));
+    }
+
+    public boolean matches(CharSequence value) {
+        return text.contains(value);
+    }
+
+    /**
+     * Matches UTF-8 encoded text as if it had been decoded to a
+     * {@code String} first, e.g. a field read straight from a request body.
+     */
+    public boolean matchesUtf8(byte[] bytes, int offset, int length) {
+        return text.containsUtf8(bytes, offset, length);
+    }
+
+    /**
+     * Matches the remaining UTF-8 bytes of the buffer, without moving its
+     * position.
+     */
+    public boolean matchesUtf8(ByteBuffer buffer) {
+        return text.containsUtf8(buffer);
+    }
+
+    /**
+     * Matches an integral value ({@code byte}, {@code short}, {@code int} or
+     * {@code long}) as if by {@code Long.toString(value)}.
+     */
+    public boolean matches(long value) {
+        return integers.contains(value);
+    }
+
+    /**
+     * Matches as if by {@code Double.toString(value)}.
+     */
+    public boolean matches(double value) {
+        return doubles.contains(Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Matches as if by {@code Float.toString(value)}.
+     */
+    public boolean matches(float value) {
+        return floats.contains(Float.floatToIntBits(value));
+    }
+
+    public boolean matches(boolean value) {
+        return value ? allowsTrue : allowsFalse;
+    }
+
+    /**
+     * Matches as if by {@code String.valueOf(value)}.
+     */
+    public boolean matches(char value) {
+        int node = text.next(text.root(), value);
+        return node >= 0 && text.isTerminal(node);
+    }
+
+    /**
+     * The underlying text matcher.
+     */
+    public CharTrie text() {
+        return text;
+    }
+}
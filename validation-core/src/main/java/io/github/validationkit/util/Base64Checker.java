@@ -0,0 +1,221 @@
+package io.github.validationkit.util;
+
+import io.github.validationkit.constraints.Base64;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Single-pass, allocation-free Base64 syntax checker.
+ * <p>
+ * Accepts exactly the inputs that the matching {@link java.util.Base64.Decoder}
+ * would decode without throwing (alphabet, padding placement and length of the
+ * final unit), but never materializes the decoded bytes. Instances are
+ * immutable and thread-safe; obtain one per variant with
+ * {@link #of(Base64.Variant)}.
+ */
+public final class Base64Checker {
+
+    private static final int INVALID = -1;
+    private static final int PADDING = -2;
+
+    private static final Base64Checker BASIC = new Base64Checker('+', '/', false);
+    private static final Base64Checker URL_SAFE = new Base64Checker('-', '_', false);
+    private static final Base64Checker MIME = new Base64Checker('+', '/', true);
+
+    private final byte[] sextets = new byte[256];
+    private final boolean mime;
+
+    private Base64Checker(char c62, char c63, boolean mime) {
+        this.mime = mime;
+        Arrays.fill(sextets, (byte) INVALID);
+        for (char c = 'A'; c <= 'Z'; c++) {
+            sextets[c] = (byte) (c - 'A');
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            sextets[c] = (byte) (c - 'a' + 26);
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            sextets[c] = (byte) (c - '0' + 52);
+        }
+        sextets[c62] = 62;
+        sextets[c63] = 63;
+        sextets['='] = PADDING;
+    }
+
+    /**
+     * Returns the shared checker for the given variant.
+     */
+    public static Base64Checker of(Base64.Variant variant) {
+        switch (variant) {
+            case URL_SAFE:
+                return URL_SAFE;
+            case MIME:
+                return MIME;
+            default:
+                return BASIC;
+        }
+    }
+
+    /**
+     * Checks whether the characters form a decodable Base64 sequence.
+     * Characters outside ISO-8859-1 are treated as illegal, matching
+     * {@link java.util.Base64.Decoder#decode(String)}.
+     */
+    public boolean isValid(CharSequence value) {
+        return decodedLength(value) >= 0;
+    }
+
+    /**
+     * Number of bytes the characters decode to, or {@code -1} if they are not
+     * a decodable Base64 sequence. Counted in the same pass as the syntax
+     * check, without decoding.
+     */
+    public int decodedLength(CharSequence value) {
+        int length = value.length();
+        // Bit position of the next sextet within the current 24-bit unit,
+        // tracked the same way as the JDK decoder: 18, 12, 6, 0.
+        int shift = 18;
+        int count = 0;
+        int i = 0;
+        while (i < length) {
+            int sextet = sextet(value.charAt(i++));
+            if (sextet < 0) {
+                if (sextet == PADDING) {
+                    if (shift == 18 || shift == 6 && (i == length || value.charAt(i++) != '=')) {
+                        return -1;
+                    }
+                    break;
+                }
+                if (mime) {
+                    continue;
+                }
+                return -1;
+            }
+            count++;
+            shift -= 6;
+            if (shift < 0) {
+                shift = 18;
+            }
+        }
+        if (shift == 12) {
+            return -1; // dangling single character in the last unit
+        }
+        while (i < length) {
+            if (!mime || sextet(value.charAt(i++)) >= 0) {
+                return -1;
+            }
+        }
+        return (int) (count * 6L / 8);
+    }
+
+    /**
+     * Checks whether the bytes form a decodable Base64 sequence.
+     */
+    public boolean isValid(byte[] value) {
+        return isValid(value, 0, value.length);
+    }
+
+    /**
+     * Checks whether {@code length} bytes of {@code value} starting at
+     * {@code offset} form a decodable Base64 sequence.
+     */
+    public boolean isValid(byte[] value, int offset, int length) {
+        return decodedLength(value, offset, length) >= 0;
+    }
+
+    /**
+     * Number of bytes the range decodes to, or {@code -1} if it is not a
+     * decodable Base64 sequence.
+     */
+    public int decodedLength(byte[] value, int offset, int length) {
+        int end = offset + length;
+        int shift = 18;
+        int count = 0;
+        int i = offset;
+        while (i < end) {
+            int sextet = sextets[value[i++] & 0xff];
+            if (sextet < 0) {
+                if (sextet == PADDING) {
+                    if (shift == 18 || shift == 6 && (i == end || value[i++] != '=')) {
+                        return -1;
+                    }
+                    break;
+                }
+                if (mime) {
+                    continue;
+                }
+                return -1;
+            }
+            count++;
+            shift -= 6;
+            if (shift < 0) {
+                shift = 18;
+            }
+        }
+        if (shift == 12) {
+            return -1;
+        }
+        while (i < end) {
+            if (!mime || sextets[value[i++] & 0xff] >= 0) {
+                return -1;
+            }
+        }
+        return (int) (count * 6L / 8);
+    }
+
+    /**
+     * Checks whether the remaining bytes of the buffer form a decodable
+     * Base64 sequence, without moving its position.
+     */
+    public boolean isValid(ByteBuffer value) {
+        return decodedLength(value) >= 0;
+    }
+
+    /**
+     * Number of bytes the remaining bytes of the buffer decode to, or
+     * {@code -1} if they are not a decodable Base64 sequence.
+     */
+    public int decodedLength(ByteBuffer value) {
+        if (value.hasArray()) {
+            return decodedLength(value.array(), value.arrayOffset() + value.position(), value.remaining());
+        }
+        int end = value.limit();
+        int shift = 18;
+        int count = 0;
+        int i = value.position();
+        while (i < end) {
+            int sextet = sextets[value.get(i++) & 0xff];
+            if (sextet < 0) {
+                if (sextet == PADDING) {
+                    if (shift == 18 || shift == 6 && (i == end || value.get(i++) != '=')) {
+                        return -1;
+                    }
+                    break;
+                }
+                if (mime) {
+                    continue;
+                }
+                return -1;
+            }
+            count++;
+            shift -= 6;
+            if (shift < 0) {
+                shift = 18;
+            }
+        }
+        if (shift == 12) {
+            return -1;
+        }
+        while (i < end) {
+            if (!mime || sextets[value.get(i++) & 0xff] >= 0) {
+                return -1;
+            }
+        }
+        return (int) (count * 6L / 8);
+    }
+
+    private int sextet(char c) {
+        return c < 256 ? sextets[c] : INVALID;
+    }
+}
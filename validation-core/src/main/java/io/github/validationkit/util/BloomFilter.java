@@ -0,0 +1,337 @@
+package io.github.validationkit.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * File-backed Bloom filter over SHA-1 hashes, used to reject passwords that
+ * appear in breach corpora.
+ * <p>
+ * The bits live in a memory-mapped file, so a filter over hundreds of millions
+ * of hashes costs no Java heap and is shared through the page cache. Because
+ * the inputs are SHA-1 hashes, a filter can be built straight from published
+ * hash lists (one hex hash per line) without ever seeing the passwords. The
+ * bit positions come from the first 16 bytes of the hash by double hashing,
+ * which is sound since SHA-1 output is already uniformly distributed.
+ * <p>
+ * Lookups are thread-safe and allocation-free: the password is encoded and
+ * hashed into per-thread buffers, the encoded password being cleared right
+ * after hashing, and the mapped bits are read with absolute gets. Adding
+ * entries is not thread-safe.
+ * <p>
+ * File layout: a {@value #HEADER_SIZE}-byte header (magic {@code VKBF},
+ * version, hash count, entry count and bit count) followed by the bits, bit
+ * {@code i} being bit {@code i % 8} of byte {@code i / 8}.
+ */
+public final class BloomFilter implements Closeable {
+
+    static final int HEADER_SIZE = 32;
+
+    private static final int MAGIC = 0x564B4246; // "VKBF"
+    private static final int VERSION = 1;
+    private static final int MAX_HASHES = 30;
+
+    // Mappings are limited to 2 GiB each, larger filters use several
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private static final ThreadLocal<Hasher> HASHERS = ThreadLocal.withInitial(Hasher::new);
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] segments;
+    private final boolean writable;
+    private final int hashCount;
+    private final long bitCount;
+    private long entryCount;
+
+    private BloomFilter(FileChannel channel, boolean writable) throws IOException {
+        this.channel = channel;
+        this.writable = writable;
+        FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+
+        if (channel.size() < HEADER_SIZE) {
+            throw new IOException("Not a Bloom filter file: too short");
+        }
+        this.header = channel.map(mode, 0, HEADER_SIZE);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a Bloom filter file: bad magic");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IOException("Unsupported Bloom filter version: " + header.getInt(4));
+        }
+        this.hashCount = header.getInt(8);
+        this.entryCount = header.getLong(16);
+        this.bitCount = header.getLong(24);
+        long bytes = bitCount >>> 3;
+        if (hashCount < 1 || hashCount > MAX_HASHES || bitCount < 64 || (bitCount & 63) != 0
+                || channel.size() < HEADER_SIZE + bytes) {
+            throw new IOException("Corrupt Bloom filter header");
+        }
+
+        int count = (int) ((bytes + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        this.segments = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long offset = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(mode, HEADER_SIZE + offset, Math.min(SEGMENT_MASK + 1, bytes - offset));
+        }
+    }
+
+    /**
+     * Maps an existing filter read-only.
+     */
+    public static BloomFilter open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new BloomFilter(channel, false);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates an empty filter sized for {@code expectedEntries} at the given
+     * false positive rate, replacing {@code file}.
+     */
+    public static BloomFilter create(Path file, long expectedEntries, double falsePositiveRate) throws IOException {
+        return create(file, expectedEntries, falsePositiveRate, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates an empty filter sized for {@code expectedEntries} at the given
+     * false positive rate, replacing {@code file}. Fails if the bits would
+     * take more than {@code maxBytes}.
+     */
+    public static BloomFilter create(Path file, long expectedEntries, double falsePositiveRate, long maxBytes)
+            throws IOException {
+        long bits = optimalBitCount(expectedEntries, falsePositiveRate);
+        if (bits >>> 3 > maxBytes) {
+            throw new IllegalArgumentException(String.format(
+                    "%d entries at a false positive rate of %s need %d bytes, more than the budget of %d",
+                    expectedEntries, falsePositiveRate, bits >>> 3, maxBytes));
+        }
+        int hashes = optimalHashCount(expectedEntries, bits);
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, hashes).putLong(16, 0).putLong(24, bits);
+            channel.write(header, 0);
+            // Extend the file with zeroes up to the end of the bits
+            channel.write(ByteBuffer.allocate(1), HEADER_SIZE + (bits >>> 3) - 1);
+            return new BloomFilter(channel, true);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Number of bits needed for {@code expectedEntries} at the given false
+     * positive rate, rounded up to a multiple of 64.
+     */
+    public static long optimalBitCount(long expectedEntries, double falsePositiveRate) {
+        if (expectedEntries < 1) {
+            throw new IllegalArgumentException("expectedEntries must be positive: " + expectedEntries);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1: " + falsePositiveRate);
+        }
+        double bits = -expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        return Math.max(64, (long) Math.ceil(bits / 64) * 64);
+    }
+
+    private static int optimalHashCount(long expectedEntries, long bitCount) {
+        long hashes = Math.round((double) bitCount / expectedEntries * Math.log(2));
+        return (int) Math.max(1, Math.min(MAX_HASHES, hashes));
+    }
+
+    /**
+     * Whether the password may be in the filter. {@code false} is definite.
+     */
+    public boolean mightContain(CharSequence password) {
+        return mightContainSha1(HASHERS.get().sha1(password), 0);
+    }
+
+    /**
+     * Whether the SHA-1 hash starting at {@code offset} may be in the filter.
+     */
+    public boolean mightContainSha1(byte[] sha1, int offset) {
+        long h1 = readLong(sha1, offset);
+        long h2 = readLong(sha1, offset + 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            long index = bit >>> 3;
+            byte b = segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+            if ((b & (1 << (bit & 7))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(CharSequence password) {
+        putSha1(HASHERS.get().sha1(password), 0);
+    }
+
+    /**
+     * Adds a hex-encoded SHA-1 hash, in either case. Anything after the first
+     * 40 characters (such as the {@code :count} suffix of published hash
+     * lists) is ignored.
+     */
+    public void putSha1Hex(CharSequence hex) {
+        if (hex.length() < 40) {
+            throw new IllegalArgumentException("Not a SHA-1 hash: " + hex);
+        }
+        byte[] sha1 = HASHERS.get().digest;
+        for (int i = 0; i < 20; i++) {
+            sha1[i] = (byte) (hexDigit(hex, 2 * i) << 4 | hexDigit(hex, 2 * i + 1));
+        }
+        putSha1(sha1, 0);
+    }
+
+    public void putSha1(byte[] sha1, int offset) {
+        if (!writable) {
+            throw new IllegalStateException("Bloom filter is read-only");
+        }
+        long h1 = readLong(sha1, offset);
+        long h2 = readLong(sha1, offset + 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            long index = bit >>> 3;
+            MappedByteBuffer segment = segments[(int) (index >>> SEGMENT_SHIFT)];
+            int position = (int) (index & SEGMENT_MASK);
+            segment.put(position, (byte) (segment.get(position) | (1 << (bit & 7))));
+        }
+        entryCount++;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Number of entries added, including duplicates.
+     */
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Writes pending changes of a writable filter to the file.
+     */
+    public void flush() {
+        if (writable) {
+            header.putLong(16, entryCount);
+            header.force();
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+        }
+    }
+
+    /**
+     * Flushes and closes the file. The mapping itself is released once the
+     * filter is garbage collected, so lookups already in flight stay safe.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = value << 8 | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static int hexDigit(CharSequence hex, int index) {
+        int digit = Character.digit(hex.charAt(index), 16);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Not a SHA-1 hash: " + hex);
+        }
+        return digit;
+    }
+
+    /**
+     * Per-thread SHA-1 state: the digest, a growable UTF-8 buffer and the
+     * output buffer, so hashing a password allocates nothing once warm.
+     */
+    private static final class Hasher {
+
+        private final MessageDigest sha1;
+        private final byte[] digest = new byte[20];
+        private byte[] utf8 = new byte[64];
+
+        Hasher() {
+            try {
+                this.sha1 = MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-1 is not available", e);
+            }
+        }
+
+        byte[] sha1(CharSequence value) {
+            int length = encode(value);
+            sha1.update(utf8, 0, length);
+            // The buffer outlives the call; do not keep the password in it
+            Arrays.fill(utf8, 0, length, (byte) 0);
+            try {
+                sha1.digest(digest, 0, digest.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException(e);
+            }
+            return digest;
+        }
+
+        private int encode(CharSequence value) {
+            int capacity = value.length() * 3;
+            if (utf8.length < capacity) {
+                utf8 = new byte[capacity];
+            }
+            byte[] out = utf8;
+            int n = 0;
+            for (int i = 0, length = value.length(); i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    out[n++] = (byte) c;
+                } else if (c < 0x800) {
+                    out[n++] = (byte) (0xC0 | c >> 6);
+                    out[n++] = (byte) (0x80 | c & 0x3F);
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    out[n++] = (byte) (0xF0 | codePoint >> 18);
+                    out[n++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    out[n++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    out[n++] = (byte) (0x80 | codePoint & 0x3F);
+                } else if (Character.isSurrogate(c)) {
+                    out[n++] = '?'; // Unpaired surrogate, as String.getBytes does
+                } else {
+                    out[n++] = (byte) (0xE0 | c >> 12);
+                    out[n++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    out[n++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+            return n;
+        }
+    }
+}
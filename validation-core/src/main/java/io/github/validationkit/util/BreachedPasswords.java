@@ -0,0 +1,70 @@
+package io.github.validationkit.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Holds the process-wide breached-password {@link BloomFilter} used by
+ * {@code @StrongPassword(checkBreached = true)}.
+ * <p>
+ * The filter is either installed explicitly (the Spring Boot starter does so
+ * from {@code validation.passwords.breached-filter}) or, on first use, opened
+ * from the file named by the {@code validationkit.breached-passwords.file}
+ * system property.
+ */
+public final class BreachedPasswords {
+
+    public static final String FILE_PROPERTY = "validationkit.breached-passwords.file";
+
+    private static volatile BloomFilter installed;
+
+    private BreachedPasswords() {
+    }
+
+    /**
+     * Makes {@code filter} the one checked by validators; {@code null}
+     * uninstalls the current filter.
+     */
+    public static synchronized void install(BloomFilter filter) {
+        installed = filter;
+    }
+
+    /**
+     * Uninstalls {@code filter} if it is still the installed one, so it does
+     * not remove a filter installed since.
+     */
+    public static synchronized void uninstall(BloomFilter filter) {
+        if (installed == filter) {
+            installed = null;
+        }
+    }
+
+    /**
+     * The installed filter, or {@code null} if there is none.
+     */
+    public static BloomFilter installed() {
+        BloomFilter filter = installed;
+        if (filter == null) {
+            String file = System.getProperty(FILE_PROPERTY);
+            if (file != null) {
+                synchronized (BreachedPasswords.class) {
+                    filter = installed;
+                    if (filter == null) {
+                        filter = open(Path.of(file));
+                        installed = filter;
+                    }
+                }
+            }
+        }
+        return filter;
+    }
+
+    private static BloomFilter open(Path file) {
+        try {
+            return BloomFilter.open(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open breached password filter " + file, e);
+        }
+    }
+}
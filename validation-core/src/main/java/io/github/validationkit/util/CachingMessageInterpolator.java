@@ -0,0 +1,126 @@
+package io.github.validationkit.util;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link MessageInterpolator} that remembers the messages of validation-kit
+ * constraints.
+ * <p>
+ * A message such as {@code "Must be one of {value}"} only depends on the
+ * template, the constraint's attributes and the locale, yet the provider
+ * parses it and formats the whole {@code value} array again for every
+ * violation. This interpolator resolves each (template, constraint
+ * descriptor, locale) combination once through its delegate and reuses the
+ * result.
+ * <p>
+ * Templates that contain an expression ({@code ${...}}), which may refer to the
+ * validated value, are always passed to the delegate, as are the messages of
+ * constraints from other libraries and templates a validator built with
+ * {@code buildConstraintViolationWithTemplate}, which can differ per value.
+ * The cache holds at most {@code maxSize} messages; once full, further
+ * messages are interpolated without being cached.
+ */
+public final class CachingMessageInterpolator implements MessageInterpolator {
+
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private static final String CONSTRAINTS_PACKAGE = "io.github.validationkit.";
+
+    private final MessageInterpolator delegate;
+    private final int maxSize;
+    private final Map<Key, String> messages = new ConcurrentHashMap<>();
+
+    public CachingMessageInterpolator(MessageInterpolator delegate) {
+        this(delegate, DEFAULT_MAX_SIZE);
+    }
+
+    public CachingMessageInterpolator(MessageInterpolator delegate, int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public String interpolate(String messageTemplate, Context context) {
+        return interpolate(messageTemplate, context, Locale.getDefault());
+    }
+
+    @Override
+    public String interpolate(String messageTemplate, Context context, Locale locale) {
+        ConstraintDescriptor<?> descriptor = context.getConstraintDescriptor();
+        if (!isCacheable(messageTemplate, descriptor)) {
+            return delegate.interpolate(messageTemplate, context, locale);
+        }
+
+        Key key = new Key(messageTemplate, descriptor, locale);
+        String message = messages.get(key);
+        if (message == null) {
+            message = delegate.interpolate(messageTemplate, context, locale);
+            if (message != null && messages.size() < maxSize) {
+                messages.putIfAbsent(key, message);
+            }
+        }
+        return message;
+    }
+
+    /**
+     * Number of cached messages.
+     */
+    public int size() {
+        return messages.size();
+    }
+
+    public void clear() {
+        messages.clear();
+    }
+
+    private static boolean isCacheable(String messageTemplate, ConstraintDescriptor<?> descriptor) {
+        return messageTemplate != null
+                && descriptor != null
+                && messageTemplate.indexOf('$') < 0
+                && descriptor.getAnnotation().annotationType().getName().startsWith(CONSTRAINTS_PACKAGE)
+                // Only the declaration's own template
+                && messageTemplate.equals(descriptor.getMessageTemplate());
+    }
+
+    private static final class Key {
+
+        private final String template;
+        private final ConstraintDescriptor<?> descriptor;
+        private final Locale locale;
+        private final int hash;
+
+        Key(String template, ConstraintDescriptor<?> descriptor, Locale locale) {
+            this.template = template;
+            this.descriptor = descriptor;
+            this.locale = locale;
+            this.hash = (template.hashCode() * 31 + descriptor.hashCode()) * 31 + Objects.hashCode(locale);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash && template.equals(other.template) && Objects.equals(locale, other.locale)
+                    && descriptor.equals(other.descriptor);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
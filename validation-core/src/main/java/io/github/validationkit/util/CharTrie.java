@@ -0,0 +1,288 @@
+package io.github.validationkit.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable character trie used to match values against a fixed word list
+ * without allocating.
+ * <p>
+ * Nodes are flattened into arrays: the children of a node are stored
+ * contiguously and sorted by character, so a lookup is a short search per
+ * input character directly on the {@link CharSequence}. When the trie is
+ * case-insensitive, both the words and the input are folded per character:
+ * ASCII letters with a bit operation, everything else with
+ * {@link Character#toLowerCase(char)}.
+ * <p>
+ * Besides whole-word lookups via {@link #contains(CharSequence)}, the node API
+ * ({@link #root()}, {@link #next(int, char)}, {@link #isTerminal(int)}) lets
+ * callers drive the walk themselves, e.g. backwards over a suffix.
+ * {@link #containsUtf8(byte[], int, int)} matches UTF-8 encoded input the
+ * same way, decoding it on the fly instead of creating a {@code String}.
+ */
+public final class CharTrie {
+
+    private static final int LINEAR_SCAN_LIMIT = 8;
+
+    private final boolean caseSensitive;
+    private final int[] firstChild;
+    private final char[] labels;
+    private final int[] targets;
+    private final boolean[] terminal;
+    private final int wordCount;
+    private final int maxLength;
+
+    private CharTrie(boolean caseSensitive, int[] firstChild, char[] labels, int[] targets, boolean[] terminal,
+            int wordCount, int maxLength) {
+        this.caseSensitive = caseSensitive;
+        this.firstChild = firstChild;
+        this.labels = labels;
+        this.targets = targets;
+        this.terminal = terminal;
+        this.wordCount = wordCount;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Compiles the given words into a trie.
+     */
+    public static CharTrie of(Collection<String> words, boolean caseSensitive) {
+        BuildNode root = new BuildNode();
+        int wordCount = 0;
+        int maxLength = 0;
+        for (String word : words) {
+            BuildNode node = root;
+            for (int i = 0; i < word.length(); i++) {
+                char c = fold(word.charAt(i), caseSensitive);
+                node = node.children.computeIfAbsent(c, key -> new BuildNode());
+            }
+            if (!node.terminal) {
+                node.terminal = true;
+                wordCount++;
+            }
+            maxLength = Math.max(maxLength, word.length());
+        }
+        return flatten(root, caseSensitive, wordCount, maxLength);
+    }
+
+    /**
+     * Returns the root node.
+     */
+    public int root() {
+        return 0;
+    }
+
+    /**
+     * Follows the edge labelled {@code c} (after case folding) from
+     * {@code node}.
+     *
+     * @return the child node, or {@code -1} if there is none
+     */
+    public int next(int node, char c) {
+        char key = fold(c, caseSensitive);
+        int low = firstChild[node];
+        int high = firstChild[node + 1] - 1;
+        if (high - low < LINEAR_SCAN_LIMIT) {
+            for (int i = low; i <= high; i++) {
+                if (labels[i] == key) {
+                    return targets[i];
+                }
+            }
+            return -1;
+        }
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = labels[mid];
+            if (label < key) {
+                low = mid + 1;
+            } else if (label > key) {
+                high = mid - 1;
+            } else {
+                return targets[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Whether a configured word ends at {@code node}.
+     */
+    public boolean isTerminal(int node) {
+        return terminal[node];
+    }
+
+    /**
+     * Checks whether the whole character sequence is one of the words.
+     */
+    public boolean contains(CharSequence value) {
+        return contains(value, 0, value.length());
+    }
+
+    /**
+     * Checks whether the characters in {@code [start, end)} form one of the
+     * words.
+     */
+    public boolean contains(CharSequence value, int start, int end) {
+        if (end - start > maxLength) {
+            return false;
+        }
+        int node = 0;
+        for (int i = start; i < end; i++) {
+            node = next(node, value.charAt(i));
+            if (node < 0) {
+                return false;
+            }
+        }
+        return terminal[node];
+    }
+
+    /**
+     * Checks whether {@code length} UTF-8 bytes of {@code bytes} starting at
+     * {@code offset} encode one of the words. Malformed input never matches.
+     */
+    public boolean containsUtf8(byte[] bytes, int offset, int length) {
+        // A char takes at most three bytes, so longer input cannot match
+        if (length > 3L * maxLength) {
+            return false;
+        }
+        int end = offset + length;
+        int node = 0;
+        int i = offset;
+        while (i < end && node >= 0) {
+            int b = bytes[i];
+            if (b >= 0) {
+                node = next(node, (char) b);
+                i++;
+            } else {
+                int codePoint = Utf8.codePointAt(bytes, i, end);
+                if (codePoint < 0) {
+                    return false;
+                }
+                node = next(node, codePoint);
+                i += Utf8.encodedLength(codePoint);
+            }
+        }
+        return node >= 0 && terminal[node];
+    }
+
+    /**
+     * Checks whether the remaining UTF-8 bytes of the buffer encode one of
+     * the words, without moving its position.
+     */
+    public boolean containsUtf8(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return containsUtf8(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        if (buffer.remaining() > 3L * maxLength) {
+            return false;
+        }
+        int end = buffer.limit();
+        int node = 0;
+        int i = buffer.position();
+        while (i < end && node >= 0) {
+            int b = buffer.get(i);
+            if (b >= 0) {
+                node = next(node, (char) b);
+                i++;
+            } else {
+                int codePoint = Utf8.codePointAt(buffer, i, end);
+                if (codePoint < 0) {
+                    return false;
+                }
+                node = next(node, codePoint);
+                i += Utf8.encodedLength(codePoint);
+            }
+        }
+        return node >= 0 && terminal[node];
+    }
+
+    /**
+     * Follows the code point's UTF-16 chars from {@code node}, as the
+     * {@code CharSequence} lookups see them.
+     */
+    private int next(int node, int codePoint) {
+        if (Character.isBmpCodePoint(codePoint)) {
+            return next(node, (char) codePoint);
+        }
+        node = next(node, Character.highSurrogate(codePoint));
+        return node < 0 ? -1 : next(node, Character.lowSurrogate(codePoint));
+    }
+
+    /**
+     * Whether matching folds case.
+     */
+    public boolean isCaseSensitive() {
+        return caseSensitive;
+    }
+
+    /**
+     * Number of distinct words (after case folding).
+     */
+    public int size() {
+        return wordCount;
+    }
+
+    /**
+     * Length in characters of the longest word.
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    static char fold(char c, boolean caseSensitive) {
+        if (caseSensitive) {
+            return c;
+        }
+        if (c < 128) {
+            return c >= 'A' && c <= 'Z' ? (char) (c | 0x20) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    private static CharTrie flatten(BuildNode root, boolean caseSensitive, int wordCount, int maxLength) {
+        List<BuildNode> nodes = new ArrayList<>();
+        Deque<BuildNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        int edgeCount = 0;
+        while (!queue.isEmpty()) {
+            BuildNode node = queue.poll();
+            node.id = nodes.size();
+            nodes.add(node);
+            edgeCount += node.children.size();
+            queue.addAll(node.children.values());
+        }
+
+        // Edges of a node occupy [firstChild[id], firstChild[id + 1]), sorted
+        // by label because the build map is a TreeMap.
+        int[] firstChild = new int[nodes.size() + 1];
+        char[] labels = new char[edgeCount];
+        int[] targets = new int[edgeCount];
+        boolean[] terminal = new boolean[nodes.size()];
+
+        int edge = 0;
+        for (BuildNode node : nodes) {
+            firstChild[node.id] = edge;
+            terminal[node.id] = node.terminal;
+            for (Map.Entry<Character, BuildNode> child : node.children.entrySet()) {
+                labels[edge] = child.getKey();
+                targets[edge] = child.getValue().id;
+                edge++;
+            }
+        }
+        firstChild[nodes.size()] = edge;
+
+        return new CharTrie(caseSensitive, firstChild, labels, targets, terminal, wordCount, maxLength);
+    }
+
+    private static final class BuildNode {
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private boolean terminal;
+        private int id;
+    }
+}
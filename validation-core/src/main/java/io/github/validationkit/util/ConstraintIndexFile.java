@@ -0,0 +1,15 @@
+package io.github.validationkit.util;
+
+/**
+ * The constraint index written by {@code validation-processor} and read by
+ * the Spring Boot starter: the binary names of the constrained types of a
+ * module, one per line, at {@value #LOCATION} in its class output. Blank lines
+ * and lines starting with {@code #} are ignored.
+ */
+public final class ConstraintIndexFile {
+
+    public static final String LOCATION = "META-INF/validation-kit/constrained-types";
+
+    private ConstraintIndexFile() {
+    }
+}
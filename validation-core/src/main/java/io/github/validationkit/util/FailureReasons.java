@@ -0,0 +1,80 @@
+package io.github.validationkit.util;
+
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.engine.HibernateConstraintViolation;
+
+/**
+ * Carries why a constraint failed, such as
+ * {@link io.github.validationkit.constraints.StrongPassword.Failure}, from
+ * its validator to whoever reports the violation.
+ * <p>
+ * The reason travels as Hibernate Validator's dynamic payload, so it is only
+ * reported when Hibernate Validator is the provider; with any other provider
+ * {@link #report} does nothing and {@link #of} returns {@code null}.
+ */
+public final class FailureReasons {
+
+    private static final boolean HIBERNATE_VALIDATOR_PRESENT = isPresent(
+            "org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext");
+
+    private FailureReasons() {
+    }
+
+    /**
+     * Attaches {@code reason} to the violations the validator reports through
+     * {@code context}, including the default one.
+     */
+    public static void report(ConstraintValidatorContext context, Object reason) {
+        if (HIBERNATE_VALIDATOR_PRESENT) {
+            HibernateValidator.report(context, reason);
+        }
+    }
+
+    /**
+     * The reason reported with the violation: an enum constant, or a
+     * collection of them for constraints that can fail for several reasons
+     * at once.
+     *
+     * @return the reason, or {@code null} if none was reported
+     */
+    public static Object of(ConstraintViolation<?> violation) {
+        return HIBERNATE_VALIDATOR_PRESENT ? HibernateValidator.of(violation) : null;
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, FailureReasons.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    // Only loaded when Hibernate Validator is on the classpath
+    private static final class HibernateValidator {
+
+        static void report(ConstraintValidatorContext context, Object reason) {
+            HibernateConstraintValidatorContext hibernateContext;
+            try {
+                hibernateContext = context.unwrap(HibernateConstraintValidatorContext.class);
+            } catch (ValidationException e) {
+                // Another provider
+                return;
+            }
+            if (hibernateContext != null) {
+                hibernateContext.withDynamicPayload(reason);
+            }
+        }
+
+        static Object of(ConstraintViolation<?> violation) {
+            try {
+                return violation.unwrap(HibernateConstraintViolation.class).getDynamicPayload(Object.class);
+            } catch (ValidationException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.validationkit.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads allowed values from a UTF-8 text file, one value per line. Lines are
+ * trimmed; blank lines and lines starting with {@code #} are skipped.
+ * <p>
+ * The file is only read again once its modification time or size changed.
+ */
+public final class FileAllowedValueSource implements AllowedValueSource {
+
+    private final Path file;
+    private volatile FileTime lastModified;
+    private volatile long size = -1;
+
+    public FileAllowedValueSource(Path file) {
+        this.file = Objects.requireNonNull(file, "file must not be null");
+    }
+
+    @Override
+    public Collection<String> load() throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        List<String> values = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String value = line.trim();
+                if (!value.isEmpty() && value.charAt(0) != '#') {
+                    values.add(value);
+                }
+            }
+        }
+        // Read before the content, so a write during the read is picked up
+        // by the next reload
+        lastModified = attributes.lastModifiedTime();
+        size = attributes.size();
+        return values;
+    }
+
+    @Override
+    public boolean isModified() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return !attributes.lastModifiedTime().equals(lastModified) || attributes.size() != size;
+        } catch (IOException e) {
+            // Let the reload report it
+            return true;
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+}
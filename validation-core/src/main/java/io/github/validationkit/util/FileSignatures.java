@@ -0,0 +1,116 @@
+package io.github.validationkit.util;
+
+import io.github.validationkit.constraints.FileContent;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Magic-number table for {@link FileContent}.
+ * <p>
+ * Every signature is matched against the first {@value #PEEK_SIZE} bytes of
+ * the content; {@code -1} in a signature matches any byte, which covers
+ * containers such as RIFF whose type tag follows a length field.
+ */
+public final class FileSignatures {
+
+    /**
+     * Number of leading bytes any signature may look at.
+     */
+    public static final int PEEK_SIZE = 16;
+
+    private static final int ANY = -1;
+
+    private static final int[][][] SIGNATURES = new int[FileContent.Type.values().length][][];
+
+    static {
+        add(FileContent.Type.PNG, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A);
+        add(FileContent.Type.JPEG, 0xFF, 0xD8, 0xFF);
+        add(FileContent.Type.GIF, 'G', 'I', 'F', '8', '7', 'a');
+        add(FileContent.Type.GIF, 'G', 'I', 'F', '8', '9', 'a');
+        add(FileContent.Type.BMP, 'B', 'M');
+        add(FileContent.Type.WEBP, 'R', 'I', 'F', 'F', ANY, ANY, ANY, ANY, 'W', 'E', 'B', 'P');
+        add(FileContent.Type.TIFF, 'I', 'I', '*', 0x00);
+        add(FileContent.Type.TIFF, 'M', 'M', 0x00, '*');
+        add(FileContent.Type.PDF, '%', 'P', 'D', 'F', '-');
+        add(FileContent.Type.ZIP, 'P', 'K', 0x03, 0x04);
+        add(FileContent.Type.ZIP, 'P', 'K', 0x05, 0x06); // Empty archive
+        add(FileContent.Type.ZIP, 'P', 'K', 0x07, 0x08); // Spanned archive
+        add(FileContent.Type.GZIP, 0x1F, 0x8B);
+        add(FileContent.Type.SEVEN_ZIP, '7', 'z', 0xBC, 0xAF, 0x27, 0x1C);
+        add(FileContent.Type.MP4, ANY, ANY, ANY, ANY, 'f', 't', 'y', 'p');
+        add(FileContent.Type.WAV, 'R', 'I', 'F', 'F', ANY, ANY, ANY, ANY, 'W', 'A', 'V', 'E');
+        add(FileContent.Type.OGG, 'O', 'g', 'g', 'S');
+    }
+
+    private FileSignatures() {
+    }
+
+    private static void add(FileContent.Type type, int... signature) {
+        int[][] signatures = SIGNATURES[type.ordinal()];
+        if (signatures == null) {
+            SIGNATURES[type.ordinal()] = new int[][] { signature };
+        } else {
+            int[][] grown = new int[signatures.length + 1][];
+            System.arraycopy(signatures, 0, grown, 0, signatures.length);
+            grown[signatures.length] = signature;
+            SIGNATURES[type.ordinal()] = grown;
+        }
+    }
+
+    /**
+     * Whether the first {@code length} bytes of {@code header} start with a
+     * signature of one of the types.
+     */
+    public static boolean matches(FileContent.Type[] types, byte[] header, int length) {
+        for (FileContent.Type type : types) {
+            for (int[] signature : SIGNATURES[type.ordinal()]) {
+                if (matches(signature, header, length)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(int[] signature, byte[] header, int length) {
+        if (length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (signature[i] != ANY && signature[i] != (header[i] & 0xFF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The shortest content of the given type: its first signature, with zeroes
+     * for the bytes any value is accepted for.
+     */
+    public static byte[] example(FileContent.Type type) {
+        int[] signature = SIGNATURES[type.ordinal()][0];
+        byte[] example = new byte[signature.length];
+        for (int i = 0; i < signature.length; i++) {
+            example[i] = signature[i] == ANY ? 0 : (byte) signature[i];
+        }
+        return example;
+    }
+
+    /**
+     * Reads up to {@code header.length} bytes, fewer only at the end of the
+     * stream, and returns how many were read.
+     */
+    public static int read(InputStream in, byte[] header) throws IOException {
+        int length = 0;
+        while (length < header.length) {
+            int read = in.read(header, length, header.length - length);
+            if (read < 0) {
+                break;
+            }
+            length += read;
+        }
+        return length;
+    }
+}
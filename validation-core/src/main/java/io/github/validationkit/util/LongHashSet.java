@@ -0,0 +1,78 @@
+package io.github.validationkit.util;
+
+/**
+ * Immutable open-addressing set of {@code long} values with linear probing.
+ * <p>
+ * Lookups never box. Zero is used as the empty-slot marker, so membership of
+ * zero itself is tracked separately.
+ */
+final class LongHashSet {
+
+    private static final long[] EMPTY = new long[1];
+
+    private final long[] slots;
+    private final int mask;
+    private final boolean containsZero;
+    private final int size;
+
+    LongHashSet(long[] values, int count) {
+        if (count == 0) {
+            this.slots = EMPTY;
+            this.mask = 0;
+            this.containsZero = false;
+            this.size = 0;
+            return;
+        }
+        int capacity = Integer.highestOneBit(Math.max(2, count) * 2 - 1) << 1;
+        long[] table = new long[capacity];
+        int tableMask = capacity - 1;
+        boolean zero = false;
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            long value = values[i];
+            if (value == 0) {
+                if (!zero) {
+                    zero = true;
+                    distinct++;
+                }
+                continue;
+            }
+            int slot = mix(value) & tableMask;
+            while (table[slot] != 0 && table[slot] != value) {
+                slot = (slot + 1) & tableMask;
+            }
+            if (table[slot] == 0) {
+                table[slot] = value;
+                distinct++;
+            }
+        }
+        this.slots = table;
+        this.mask = tableMask;
+        this.containsZero = zero;
+        this.size = distinct;
+    }
+
+    boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        int slot = mix(value) & mask;
+        long candidate;
+        while ((candidate = slots[slot]) != 0) {
+            if (candidate == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.validationkit.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide, bounded cache of compiled matchers.
+ * <p>
+ * Bean Validation creates one validator instance per constraint declaration,
+ * so the same list of allowed values or extensions declared on many DTOs would
+ * otherwise be compiled once per field. Validators look their matcher up here
+ * by a {@link Key} made of the normalized annotation attributes, and identical
+ * declarations share one immutable instance.
+ * <p>
+ * The cache evicts the least recently used entry once it holds
+ * {@link #maxSize()} matchers. The shared instance defaults to
+ * {@value #DEFAULT_MAX_SIZE} entries and can be resized with the
+ * {@code validationkit.matcher-cache.max-size} system property.
+ */
+public final class MatcherCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final MatcherCache SHARED = new MatcherCache(
+            Integer.getInteger("validationkit.matcher-cache.max-size", DEFAULT_MAX_SIZE));
+
+    private final int maxSize;
+    private final Map<Key, Object> entries;
+    private long hits;
+    private long misses;
+
+    public MatcherCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > MatcherCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * The cache shared by all validation-kit validators.
+     */
+    public static MatcherCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the matcher cached under {@code key}, compiling and caching it
+     * with {@code compiler} on a miss. Compilation happens outside the lock;
+     * if two threads race, the first stored matcher wins.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> compiler) {
+        synchronized (entries) {
+            Object cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return (T) cached;
+            }
+            misses++;
+        }
+        T compiled = compiler.get();
+        synchronized (entries) {
+            Object existing = entries.putIfAbsent(key, compiled);
+            return existing != null ? (T) existing : compiled;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public long hitCount() {
+        synchronized (entries) {
+            return hits;
+        }
+    }
+
+    public long missCount() {
+        synchronized (entries) {
+            return misses;
+        }
+    }
+
+    /**
+     * Drops all entries and resets the statistics. Validators that already
+     * hold a matcher keep using it.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (entries) {
+            return "MatcherCache[size=" + entries.size() + ", maxSize=" + maxSize + ", hits=" + hits
+                    + ", misses=" + misses + "]";
+        }
+    }
+
+    /**
+     * Identity of a compiled matcher: the constraint kind, whether matching is
+     * case-sensitive and the set of values. Values are de-duplicated and sorted
+     * so that declarations listing the same values in a different order share
+     * an entry; for case-insensitive keys they are case-folded first.
+     */
+    public static final class Key {
+
+        private final String kind;
+        private final boolean caseSensitive;
+        private final List<String> values;
+        private final int hash;
+
+        private Key(String kind, boolean caseSensitive, List<String> values) {
+            this.kind = kind;
+            this.caseSensitive = caseSensitive;
+            this.values = values;
+            this.hash = (kind.hashCode() * 31 + Boolean.hashCode(caseSensitive)) * 31 + values.hashCode();
+        }
+
+        public static Key of(String kind, Collection<String> values, boolean caseSensitive) {
+            TreeSet<String> normalized = new TreeSet<>();
+            for (String value : values) {
+                normalized.add(caseSensitive ? value : fold(value));
+            }
+            return new Key(kind, caseSensitive, Collections.unmodifiableList(new ArrayList<>(normalized)));
+        }
+
+        private static String fold(String value) {
+            char[] chars = new char[value.length()];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = CharTrie.fold(value.charAt(i), false);
+            }
+            return new String(chars);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash && caseSensitive == other.caseSensitive && kind.equals(other.kind)
+                    && values.equals(other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return kind + (caseSensitive ? "" : "(ignoreCase)") + values;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.validationkit.util;
+
+/**
+ * The compiled values of one {@link AllowedValueSource}, for one case
+ * sensitivity.
+ * <p>
+ * A reload compiles a new {@link AllowedValuesMatcher} off to the side and
+ * then publishes it with a single volatile write, so lookups never take a
+ * lock and always see either the old or the new values, never a mix.
+ */
+public final class ReloadableAllowedValues {
+
+    private final boolean caseSensitive;
+    private volatile AllowedValuesMatcher matcher;
+
+    ReloadableAllowedValues(boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+    }
+
+    /**
+     * The values as of the last completed load. Read it once per validation,
+     * so a value checked against several elements sees one version.
+     */
+    public AllowedValuesMatcher current() {
+        return matcher;
+    }
+
+    void update(String[] values) {
+        matcher = AllowedValuesMatcher.compile(values, caseSensitive);
+    }
+}
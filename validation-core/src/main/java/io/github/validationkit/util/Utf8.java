@@ -0,0 +1,140 @@
+package io.github.validationkit.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes single code points from UTF-8 bytes in place, so byte-level
+ * matchers can walk encoded input in either direction without building a
+ * {@code String}.
+ * <p>
+ * Only well-formed UTF-8 is decoded: truncated sequences, stray continuation
+ * bytes, overlong forms, surrogates and values above {@code U+10FFFF} all
+ * yield {@link #MALFORMED}. Matchers treat malformed input as not matching.
+ * Buffers are read with absolute indices and their position is never moved.
+ */
+public final class Utf8 {
+
+    /**
+     * Returned instead of a code point for malformed input.
+     */
+    public static final int MALFORMED = -1;
+
+    private Utf8() {
+    }
+
+    /**
+     * Decodes the sequence starting at {@code index}, which must not extend
+     * past {@code end}.
+     *
+     * @return the code point, or {@link #MALFORMED}
+     */
+    public static int codePointAt(byte[] bytes, int index, int end) {
+        int lead = bytes[index];
+        if (lead >= 0) {
+            return lead;
+        }
+        int length = sequenceLength(lead);
+        if (length == 0 || index + length > end) {
+            return MALFORMED;
+        }
+        int codePoint = lead & (0x7f >> length);
+        for (int i = index + 1; i < index + length; i++) {
+            int continuation = bytes[i];
+            if ((continuation & 0xc0) != 0x80) {
+                return MALFORMED;
+            }
+            codePoint = (codePoint << 6) | (continuation & 0x3f);
+        }
+        return checked(codePoint, length);
+    }
+
+    /**
+     * Decodes the sequence starting at absolute {@code index} of the buffer,
+     * which must not extend past {@code end}.
+     *
+     * @return the code point, or {@link #MALFORMED}
+     */
+    public static int codePointAt(ByteBuffer buffer, int index, int end) {
+        int lead = buffer.get(index);
+        if (lead >= 0) {
+            return lead;
+        }
+        int length = sequenceLength(lead);
+        if (length == 0 || index + length > end) {
+            return MALFORMED;
+        }
+        int codePoint = lead & (0x7f >> length);
+        for (int i = index + 1; i < index + length; i++) {
+            int continuation = buffer.get(i);
+            if ((continuation & 0xc0) != 0x80) {
+                return MALFORMED;
+            }
+            codePoint = (codePoint << 6) | (continuation & 0x3f);
+        }
+        return checked(codePoint, length);
+    }
+
+    /**
+     * Decodes the sequence that ends just before {@code index} and does not
+     * start before {@code start}, i.e. steps one code point backwards.
+     *
+     * @return the code point, or {@link #MALFORMED}
+     */
+    public static int codePointBefore(byte[] bytes, int start, int index) {
+        int lead = index - 1;
+        while (lead > start && lead > index - 4 && (bytes[lead] & 0xc0) == 0x80) {
+            lead--;
+        }
+        int codePoint = codePointAt(bytes, lead, index);
+        return codePoint >= 0 && lead + encodedLength(codePoint) == index ? codePoint : MALFORMED;
+    }
+
+    /**
+     * Decodes the sequence that ends just before absolute {@code index} of
+     * the buffer and does not start before {@code start}.
+     *
+     * @return the code point, or {@link #MALFORMED}
+     */
+    public static int codePointBefore(ByteBuffer buffer, int start, int index) {
+        int lead = index - 1;
+        while (lead > start && lead > index - 4 && (buffer.get(lead) & 0xc0) == 0x80) {
+            lead--;
+        }
+        int codePoint = codePointAt(buffer, lead, index);
+        return codePoint >= 0 && lead + encodedLength(codePoint) == index ? codePoint : MALFORMED;
+    }
+
+    /**
+     * Number of bytes the code point takes in UTF-8.
+     */
+    public static int encodedLength(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+    private static int sequenceLength(int lead) {
+        if ((lead & 0xe0) == 0xc0) {
+            return 2;
+        }
+        if ((lead & 0xf0) == 0xe0) {
+            return 3;
+        }
+        if ((lead & 0xf8) == 0xf0) {
+            return 4;
+        }
+        return 0; // continuation byte or invalid lead
+    }
+
+    private static int checked(int codePoint, int length) {
+        if (encodedLength(codePoint) != length || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            return MALFORMED;
+        }
+        return codePoint;
+    }
+}
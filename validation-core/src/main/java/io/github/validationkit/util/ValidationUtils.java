@@ -1,11 +1,49 @@
 package io.github.validationkit.util;
 
-import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ValidationUtils {
 
+    /**
+     * How emptiness is decided for a runtime type. Resolved once per class and
+     * cached, so a call costs one {@link ClassValue} lookup plus a switch,
+     * instead of a chain of {@code instanceof} checks and reflection.
+     */
+    private enum Kind {
+        STRING,
+        CHAR_SEQUENCE,
+        OBJECT_ARRAY,
+        INT_ARRAY,
+        LONG_ARRAY,
+        SHORT_ARRAY,
+        BYTE_ARRAY,
+        CHAR_ARRAY,
+        DOUBLE_ARRAY,
+        FLOAT_ARRAY,
+        BOOLEAN_ARRAY,
+        COLLECTION,
+        MAP,
+        INTEGRAL,
+        FLOATING,
+        BIG_DECIMAL,
+        BIG_INTEGER,
+        OTHER_NUMBER,
+        OTHER
+    }
+
+    private static final ClassValue<Kind> KINDS = new ClassValue<>() {
+        @Override
+        protected Kind computeValue(Class<?> type) {
+            return classify(type);
+        }
+    };
+
     private ValidationUtils() {
         // Private constructor to prevent instantiation
     }
@@ -21,22 +59,165 @@ public class ValidationUtils {
         if (value == null) {
             return true;
         }
-        if (value instanceof String) {
-            return ((String) value).isBlank();
+        switch (KINDS.get(value.getClass())) {
+            case STRING:
+                return ((String) value).isBlank();
+            case CHAR_SEQUENCE:
+                return isBlank((CharSequence) value);
+            case OBJECT_ARRAY:
+                return ((Object[]) value).length == 0;
+            case INT_ARRAY:
+                return ((int[]) value).length == 0;
+            case LONG_ARRAY:
+                return ((long[]) value).length == 0;
+            case SHORT_ARRAY:
+                return ((short[]) value).length == 0;
+            case BYTE_ARRAY:
+                return ((byte[]) value).length == 0;
+            case CHAR_ARRAY:
+                return ((char[]) value).length == 0;
+            case DOUBLE_ARRAY:
+                return ((double[]) value).length == 0;
+            case FLOAT_ARRAY:
+                return ((float[]) value).length == 0;
+            case BOOLEAN_ARRAY:
+                return ((boolean[]) value).length == 0;
+            case COLLECTION:
+                return ((Collection<?>) value).isEmpty();
+            case MAP:
+                return ((Map<?, ?>) value).isEmpty();
+            // Values less than 1 are treated as "missing" for numeric fields
+            case INTEGRAL:
+                return ((Number) value).longValue() < 1;
+            case FLOATING:
+                return ((Number) value).doubleValue() < 1.0;
+            case BIG_DECIMAL:
+                return isLessThanOne((BigDecimal) value);
+            case BIG_INTEGER:
+                return ((BigInteger) value).signum() <= 0;
+            case OTHER_NUMBER:
+                return ((Number) value).doubleValue() < 1.0;
+            default:
+                return false;
         }
-        if (value.getClass().isArray()) {
-            return Array.getLength(value) == 0;
+    }
+
+    /**
+     * UTF-8 counterpart of {@link #isIgnorable(Object)} for text that has
+     * not been decoded: {@code true} if the bytes are empty or only encode
+     * whitespace, like a blank {@code String}.
+     */
+    public static boolean isBlankUtf8(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            int codePoint = Utf8.codePointAt(bytes, i, end);
+            if (codePoint < 0 || !Character.isWhitespace(codePoint)) {
+                return false;
+            }
+            i += Utf8.encodedLength(codePoint);
         }
-        if (value instanceof Collection) {
-            return ((Collection<?>) value).isEmpty();
+        return true;
+    }
+
+    /**
+     * Same as {@link #isBlankUtf8(byte[], int, int)} for the remaining bytes
+     * of the buffer, without moving its position.
+     */
+    public static boolean isBlankUtf8(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return isBlankUtf8(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
         }
-        if (value instanceof Map) {
-            return ((Map<?, ?>) value).isEmpty();
+        int end = buffer.limit();
+        int i = buffer.position();
+        while (i < end) {
+            int codePoint = Utf8.codePointAt(buffer, i, end);
+            if (codePoint < 0 || !Character.isWhitespace(codePoint)) {
+                return false;
+            }
+            i += Utf8.encodedLength(codePoint);
         }
-        if (value instanceof Number) {
-            // Values less than 1 are treated as "missing" for numeric fields
-            return ((Number) value).doubleValue() < 1.0;
+        return true;
+    }
+
+    private static Kind classify(Class<?> type) {
+        if (type == String.class) {
+            return Kind.STRING;
+        }
+        if (type.isArray()) {
+            Class<?> component = type.getComponentType();
+            if (!component.isPrimitive()) {
+                return Kind.OBJECT_ARRAY;
+            }
+            if (component == int.class) {
+                return Kind.INT_ARRAY;
+            }
+            if (component == long.class) {
+                return Kind.LONG_ARRAY;
+            }
+            if (component == short.class) {
+                return Kind.SHORT_ARRAY;
+            }
+            if (component == byte.class) {
+                return Kind.BYTE_ARRAY;
+            }
+            if (component == char.class) {
+                return Kind.CHAR_ARRAY;
+            }
+            if (component == double.class) {
+                return Kind.DOUBLE_ARRAY;
+            }
+            if (component == float.class) {
+                return Kind.FLOAT_ARRAY;
+            }
+            return Kind.BOOLEAN_ARRAY;
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return Kind.COLLECTION;
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return Kind.MAP;
+        }
+        if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+                || type == AtomicInteger.class || type == AtomicLong.class) {
+            return Kind.INTEGRAL;
+        }
+        if (type == Double.class || type == Float.class) {
+            return Kind.FLOATING;
+        }
+        if (BigDecimal.class.isAssignableFrom(type)) {
+            return Kind.BIG_DECIMAL;
+        }
+        if (BigInteger.class.isAssignableFrom(type)) {
+            return Kind.BIG_INTEGER;
+        }
+        if (Number.class.isAssignableFrom(type)) {
+            return Kind.OTHER_NUMBER;
+        }
+        if (CharSequence.class.isAssignableFrom(type)) {
+            return Kind.CHAR_SEQUENCE;
+        }
+        return Kind.OTHER;
+    }
+
+    /**
+     * Exact {@code value < 1} without converting to {@code double}: a positive
+     * decimal is below one exactly when it has no digits before the point.
+     */
+    private static boolean isLessThanOne(BigDecimal value) {
+        return value.signum() <= 0 || value.precision() - value.scale() <= 0;
+    }
+
+    private static boolean isBlank(CharSequence value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = Character.codePointAt(value, i);
+            if (!Character.isWhitespace(codePoint)) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
         }
-        return false;
+        return true;
     }
 }
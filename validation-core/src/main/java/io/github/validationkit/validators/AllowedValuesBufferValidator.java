@@ -0,0 +1,36 @@
+package io.github.validationkit.validators;
+
+import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.util.ValidationUtils;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Validator for {@link AllowedValues} on UTF-8 text in a {@link ByteBuffer},
+ * e.g. a slice of a request body, matched without decoding it to a
+ * {@code String}. The remaining bytes are checked and the position is left
+ * untouched.
+ */
+public class AllowedValuesBufferValidator implements ConstraintValidator<AllowedValues, ByteBuffer> {
+
+    private final AllowedValuesValidator values = new AllowedValuesValidator();
+
+    @Override
+    public void initialize(AllowedValues constraintAnnotation) {
+        values.initialize(constraintAnnotation);
+    }
+
+    @Override
+    public boolean isValid(ByteBuffer value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return values.acceptsNull();
+        }
+        if (ValidationUtils.isBlankUtf8(value)) {
+            return true;
+        }
+
+        return values.matcher().matchesUtf8(value);
+    }
+}
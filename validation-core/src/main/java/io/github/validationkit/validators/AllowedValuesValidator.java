@@ -1,35 +1,46 @@
 package io.github.validationkit.validators;
 
 import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.util.AllowedValueSources;
+import io.github.validationkit.util.AllowedValuesMatcher;
+import io.github.validationkit.util.MatcherCache;
+import io.github.validationkit.util.ReloadableAllowedValues;
 import io.github.validationkit.util.ValidationUtils;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
-
-import java.util.Set;
-import java.util.stream.Collectors;
 
 public class AllowedValuesValidator implements ConstraintValidator<AllowedValues, Object> {
 
-    private Set<String> allowedValues;
-    private boolean caseSensitive;
+    // Compiled once per distinct declaration and shared through the
+    // MatcherCache; matching runs on the CharSequence itself, folding case
+    // inline, so elements are never copied or lowercased.
+    private AllowedValuesMatcher allowedValues;
+    // Set instead for a source(); its matcher is read once per call, so a
+    // reload never changes the values halfway through a collection
+    private ReloadableAllowedValues source;
     private boolean acceptNull;
 
     @Override
     public void initialize(AllowedValues constraintAnnotation) {
-        this.caseSensitive = constraintAnnotation.caseSensitive();
         this.acceptNull = constraintAnnotation.acceptNull();
 
-        if (this.caseSensitive) {
-            this.allowedValues = new HashSet<>(Arrays.asList(constraintAnnotation.value()));
-        } else {
-            this.allowedValues = Arrays.stream(constraintAnnotation.value())
-                    .map(String::toLowerCase)
-                    .collect(Collectors.toSet());
+        String[] values = constraintAnnotation.value();
+        boolean caseSensitive = constraintAnnotation.caseSensitive();
+        if (!constraintAnnotation.source().isEmpty()) {
+            if (values.length > 0) {
+                throw new IllegalArgumentException("@AllowedValues takes either value or source, not both");
+            }
+            this.allowedValues = null;
+            this.source = AllowedValueSources.get(constraintAnnotation.source(), caseSensitive);
+            return;
         }
+        this.source = null;
+        this.allowedValues = MatcherCache.shared().get(
+                MatcherCache.Key.of("AllowedValues", Arrays.asList(values), caseSensitive),
+                () -> AllowedValuesMatcher.compile(values, caseSensitive));
     }
 
     @Override
@@ -37,6 +48,7 @@ public class AllowedValuesValidator implements ConstraintValidator<AllowedValues
         if (value == null) {
             return acceptNull;
         }
+        AllowedValuesMatcher allowedValues = matcher();
 
         // If the value is "effectively empty", we return true (valid).
         // This prevents double errors when used with @NotBlank, @NotEmpty, @Min(1) etc.
@@ -45,39 +57,135 @@ public class AllowedValuesValidator implements ConstraintValidator<AllowedValues
         }
 
         if (value instanceof Collection<?>) {
-            return ((Collection<?>) value).stream()
-                    .allMatch(this::isStringAllowed);
+            for (Object element : (Collection<?>) value) {
+                if (!isStringAllowed(allowedValues, element)) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         if (value.getClass().isArray()) {
-            // TODO:
-            // We use Arrays.stream((Object[]) value) because primitive arrays
-            // like int[] cannot be cast to Object[].
-            // However, handling primitive arrays generically is complex.
-            // For now, we support Object[] (String[], Integer[], etc.).
-            // Primitive arrays will fall through to isStringAllowed(array) which
-            // essentially calls array.toString() -> "[I@...".
-            // If full primitive support is needed, we need reflection.
-            if (value instanceof Object[]) {
-                return Arrays.stream((Object[]) value)
-                        .allMatch(this::isStringAllowed);
-            }
+            return isArrayAllowed(allowedValues, value);
         }
 
-        return isStringAllowed(value);
+        return isStringAllowed(allowedValues, value);
+    }
+
+    /**
+     * The values to match right now; also used by the validators for other
+     * value types, which share this declaration handling.
+     */
+    AllowedValuesMatcher matcher() {
+        return source != null ? source.current() : allowedValues;
+    }
+
+    boolean acceptsNull() {
+        return acceptNull;
+    }
+
+    // Each element is checked the same way as the equivalent boxed value in an
+    // Object[] would be: numbers below 1 are ignorable, everything else has to
+    // match its toString() form. Primitive arrays get their own loop so no
+    // element is boxed or converted to a String.
+    private static boolean isArrayAllowed(AllowedValuesMatcher allowedValues, Object array) {
+        if (array instanceof Object[]) {
+            for (Object element : (Object[]) array) {
+                if (!isStringAllowed(allowedValues, element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof int[]) {
+            for (int element : (int[]) array) {
+                if (element >= 1 && !allowedValues.matches(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof long[]) {
+            for (long element : (long[]) array) {
+                if (element >= 1 && !allowedValues.matches(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof short[]) {
+            for (short element : (short[]) array) {
+                if (element >= 1 && !allowedValues.matches(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof byte[]) {
+            for (byte element : (byte[]) array) {
+                if (element >= 1 && !allowedValues.matches(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof double[]) {
+            for (double element : (double[]) array) {
+                if (!(element < 1.0) && !allowedValues.matches(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof float[]) {
+            for (float element : (float[]) array) {
+                if (!(element < 1.0f) && !allowedValues.matches(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof char[]) {
+            for (char element : (char[]) array) {
+                if (!allowedValues.matches(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (boolean element : (boolean[]) array) {
+            if (!allowedValues.matches(element)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private boolean isStringAllowed(Object value) {
+    private static boolean isStringAllowed(AllowedValuesMatcher allowedValues, Object value) {
         if (value == null || ValidationUtils.isIgnorable(value)) {
             return true;
         }
 
-        String stringValue = value.toString();
-        if (!caseSensitive) {
-            stringValue = stringValue.toLowerCase();
+        if (value instanceof CharSequence) {
+            return allowedValues.matches((CharSequence) value);
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return allowedValues.matches(((Number) value).longValue());
+        }
+        if (value instanceof Double) {
+            return allowedValues.matches(((Double) value).doubleValue());
+        }
+        if (value instanceof Float) {
+            return allowedValues.matches(((Float) value).floatValue());
+        }
+        if (value instanceof Character) {
+            return allowedValues.matches(((Character) value).charValue());
+        }
+        if (value instanceof Boolean) {
+            return allowedValues.matches(((Boolean) value).booleanValue());
         }
 
-        return allowedValues.contains(stringValue);
+        return allowedValues.matches(value.toString());
     }
 
 }
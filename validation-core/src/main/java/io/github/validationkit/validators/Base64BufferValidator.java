@@ -0,0 +1,39 @@
+package io.github.validationkit.validators;
+
+import io.github.validationkit.constraints.Base64;
+import io.github.validationkit.util.Base64Checker;
+import io.github.validationkit.util.FailureReasons;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Validator for {@link Base64} on the remaining bytes of a {@link ByteBuffer},
+ * e.g. a slice of a request body. The position is left untouched.
+ */
+public class Base64BufferValidator implements ConstraintValidator<Base64, ByteBuffer> {
+
+    private Base64Checker checker = Base64Checker.of(Base64.Variant.BASIC);
+    private int maxDecodedBytes = Integer.MAX_VALUE;
+
+    @Override
+    public void initialize(Base64 constraintAnnotation) {
+        this.checker = Base64Checker.of(constraintAnnotation.variant());
+        this.maxDecodedBytes = constraintAnnotation.maxDecodedBytes();
+    }
+
+    @Override
+    public boolean isValid(ByteBuffer value, ConstraintValidatorContext context) {
+        if (value == null || !value.hasRemaining()) {
+            return true;
+        }
+
+        int decoded = checker.decodedLength(value);
+        if (decoded >= 0 && decoded <= maxDecodedBytes) {
+            return true;
+        }
+        FailureReasons.report(context, decoded < 0 ? Base64.Failure.MALFORMED : Base64.Failure.TOO_LARGE);
+        return false;
+    }
+}
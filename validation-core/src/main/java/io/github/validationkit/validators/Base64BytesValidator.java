@@ -0,0 +1,38 @@
+package io.github.validationkit.validators;
+
+import io.github.validationkit.constraints.Base64;
+import io.github.validationkit.util.Base64Checker;
+import io.github.validationkit.util.FailureReasons;
+import io.github.validationkit.util.ValidationUtils;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator for {@link Base64} on raw {@code byte[]} content, e.g. an encoded
+ * payload that was never turned into a {@code String}.
+ */
+public class Base64BytesValidator implements ConstraintValidator<Base64, byte[]> {
+
+    private Base64Checker checker = Base64Checker.of(Base64.Variant.BASIC);
+    private int maxDecodedBytes = Integer.MAX_VALUE;
+
+    @Override
+    public void initialize(Base64 constraintAnnotation) {
+        this.checker = Base64Checker.of(constraintAnnotation.variant());
+        this.maxDecodedBytes = constraintAnnotation.maxDecodedBytes();
+    }
+
+    @Override
+    public boolean isValid(byte[] value, ConstraintValidatorContext context) {
+        if (ValidationUtils.isIgnorable(value)) {
+            return true;
+        }
+
+        int decoded = checker.decodedLength(value, 0, value.length);
+        if (decoded >= 0 && decoded <= maxDecodedBytes) {
+            return true;
+        }
+        FailureReasons.report(context, decoded < 0 ? Base64.Failure.MALFORMED : Base64.Failure.TOO_LARGE);
+        return false;
+    }
+}
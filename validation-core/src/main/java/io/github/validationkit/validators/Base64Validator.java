@@ -1,23 +1,34 @@
 package io.github.validationkit.validators;
 
 import io.github.validationkit.constraints.Base64;
+import io.github.validationkit.util.Base64Checker;
+import io.github.validationkit.util.FailureReasons;
 import io.github.validationkit.util.ValidationUtils;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-public class Base64Validator implements ConstraintValidator<Base64, String> {
+public class Base64Validator implements ConstraintValidator<Base64, CharSequence> {
+
+    private Base64Checker checker = Base64Checker.of(Base64.Variant.BASIC);
+    private int maxDecodedBytes = Integer.MAX_VALUE;
+
+    @Override
+    public void initialize(Base64 constraintAnnotation) {
+        this.checker = Base64Checker.of(constraintAnnotation.variant());
+        this.maxDecodedBytes = constraintAnnotation.maxDecodedBytes();
+    }
 
     @Override
-    public boolean isValid(String value, ConstraintValidatorContext context) {
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
         if (ValidationUtils.isIgnorable(value)) {
             return true;
         }
 
-        try {
-            java.util.Base64.getDecoder().decode(value);
+        int decoded = checker.decodedLength(value);
+        if (decoded >= 0 && decoded <= maxDecodedBytes) {
             return true;
-        } catch (IllegalArgumentException e) {
-            return false;
         }
+        FailureReasons.report(context, decoded < 0 ? Base64.Failure.MALFORMED : Base64.Failure.TOO_LARGE);
+        return false;
     }
 }
@@ -0,0 +1,29 @@
+package io.github.validationkit.validators;
+
+import io.github.validationkit.constraints.FileContent;
+import io.github.validationkit.util.FileSignatures;
+import io.github.validationkit.util.ValidationUtils;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator for {@link FileContent} on content already in memory.
+ */
+public class FileContentBytesValidator implements ConstraintValidator<FileContent, byte[]> {
+
+    private FileContent.Type[] types;
+
+    @Override
+    public void initialize(FileContent constraintAnnotation) {
+        this.types = constraintAnnotation.value();
+    }
+
+    @Override
+    public boolean isValid(byte[] value, ConstraintValidatorContext context) {
+        if (ValidationUtils.isIgnorable(value)) {
+            return true;
+        }
+
+        return FileSignatures.matches(types, value, value.length);
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.validationkit.validators;
+
+import io.github.validationkit.constraints.FileContent;
+import io.github.validationkit.util.FileSignatures;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Validator for {@link FileContent} on a {@link Path}.
+ * <p>
+ * Reads the first {@value io.github.validationkit.util.FileSignatures#PEEK_SIZE}
+ * bytes with a single positional read. A file that does not exist or cannot be
+ * read is invalid.
+ */
+public class FileContentPathValidator implements ConstraintValidator<FileContent, Path> {
+
+    private FileContent.Type[] types;
+
+    @Override
+    public void initialize(FileContent constraintAnnotation) {
+        this.types = constraintAnnotation.value();
+    }
+
+    @Override
+    public boolean isValid(Path value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+
+        byte[] header = new byte[FileSignatures.PEEK_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(header);
+        try (FileChannel channel = FileChannel.open(value, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+                // Short reads are possible on some file systems
+            }
+        } catch (IOException e) {
+            return false;
+        }
+
+        int length = buffer.position();
+        return length == 0 || FileSignatures.matches(types, header, length);
+    }
+}
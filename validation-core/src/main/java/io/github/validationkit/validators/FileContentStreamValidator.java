@@ -0,0 +1,54 @@
+package io.github.validationkit.validators;
+
+import io.github.validationkit.constraints.FileContent;
+import io.github.validationkit.util.FileSignatures;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Validator for {@link FileContent} on an {@link InputStream}.
+ * <p>
+ * Marks the stream, reads at most
+ * {@value io.github.validationkit.util.FileSignatures#PEEK_SIZE} bytes and
+ * resets it, so the caller can still consume the whole content. Streams that
+ * cannot be reset are rejected with an {@link IllegalArgumentException}
+ * rather than silently losing their first bytes.
+ */
+public class FileContentStreamValidator implements ConstraintValidator<FileContent, InputStream> {
+
+    private FileContent.Type[] types;
+
+    @Override
+    public void initialize(FileContent constraintAnnotation) {
+        this.types = constraintAnnotation.value();
+    }
+
+    @Override
+    public boolean isValid(InputStream value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        if (!value.markSupported()) {
+            throw new IllegalArgumentException(
+                    "@FileContent needs an InputStream that supports mark/reset, such as a BufferedInputStream");
+        }
+
+        byte[] header = new byte[FileSignatures.PEEK_SIZE];
+        int length;
+        value.mark(header.length);
+        try {
+            try {
+                length = FileSignatures.read(value, header);
+            } finally {
+                value.reset();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+
+        return length == 0 || FileSignatures.matches(types, header, length);
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.validationkit.validators;
+
+import io.github.validationkit.constraints.FileExtension;
+import io.github.validationkit.util.CharTrie;
+import io.github.validationkit.util.ValidationUtils;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Validator for {@link FileExtension} on a UTF-8 encoded filename in the
+ * remaining bytes of a {@link ByteBuffer}. The position is left untouched.
+ */
+public class FileExtensionBufferValidator implements ConstraintValidator<FileExtension, ByteBuffer> {
+
+    private CharTrie reversedExtensions;
+
+    @Override
+    public void initialize(FileExtension constraintAnnotation) {
+        this.reversedExtensions = FileExtensionValidator.reversedExtensions(constraintAnnotation);
+    }
+
+    @Override
+    public boolean isValid(ByteBuffer value, ConstraintValidatorContext context) {
+        if (value == null || ValidationUtils.isBlankUtf8(value)) {
+            return true;
+        }
+
+        return FileExtensionValidator.hasAllowedExtension(reversedExtensions, value);
+    }
+}
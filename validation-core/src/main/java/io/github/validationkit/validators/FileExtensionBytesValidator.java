@@ -0,0 +1,30 @@
+package io.github.validationkit.validators;
+
+import io.github.validationkit.constraints.FileExtension;
+import io.github.validationkit.util.CharTrie;
+import io.github.validationkit.util.ValidationUtils;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator for {@link FileExtension} on a UTF-8 encoded filename in a
+ * {@code byte[]}, matched without decoding it to a {@code String}.
+ */
+public class FileExtensionBytesValidator implements ConstraintValidator<FileExtension, byte[]> {
+
+    private CharTrie reversedExtensions;
+
+    @Override
+    public void initialize(FileExtension constraintAnnotation) {
+        this.reversedExtensions = FileExtensionValidator.reversedExtensions(constraintAnnotation);
+    }
+
+    @Override
+    public boolean isValid(byte[] value, ConstraintValidatorContext context) {
+        if (value == null || ValidationUtils.isBlankUtf8(value, 0, value.length)) {
+            return true;
+        }
+
+        return FileExtensionValidator.hasAllowedExtension(reversedExtensions, value, 0, value.length);
+    }
+}
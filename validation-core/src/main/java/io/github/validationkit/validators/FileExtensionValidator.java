@@ -1,46 +1,161 @@
 package io.github.validationkit.validators;
 
 import io.github.validationkit.constraints.FileExtension;
+import io.github.validationkit.util.CharTrie;
+import io.github.validationkit.util.MatcherCache;
+import io.github.validationkit.util.Utf8;
 import io.github.validationkit.util.ValidationUtils;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.util.Arrays;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
-public class FileExtensionValidator implements ConstraintValidator<FileExtension, String> {
+public class FileExtensionValidator implements ConstraintValidator<FileExtension, CharSequence> {
 
-    private Set<String> allowedExtensions;
-    private boolean caseSensitive;
+    // Trie over the reversed extensions ("tar.gz" is stored as "zg.rat"), so
+    // a filename can be matched by walking it backwards from its last char.
+    private CharTrie reversedExtensions;
 
     @Override
     public void initialize(FileExtension constraintAnnotation) {
-        this.caseSensitive = constraintAnnotation.caseSensitive();
+        this.reversedExtensions = reversedExtensions(constraintAnnotation);
+    }
+
+    static CharTrie reversedExtensions(FileExtension constraintAnnotation) {
+        boolean caseSensitive = constraintAnnotation.caseSensitive();
+
+        List<String> extensions = new ArrayList<>();
+        for (String ext : constraintAnnotation.value()) {
+            extensions.add(ext.startsWith(".") ? ext.substring(1) : ext); // Strip dot if user provided it
+        }
 
-        this.allowedExtensions = Arrays.stream(constraintAnnotation.value())
-                .map(ext -> ext.startsWith(".") ? ext.substring(1) : ext) // Strip dot if user provided it
-                .map(ext -> caseSensitive ? ext : ext.toLowerCase())
-                .collect(Collectors.toSet());
+        // Identical declarations share one immutable trie
+        return MatcherCache.shared().get(
+                MatcherCache.Key.of("FileExtension", extensions, caseSensitive),
+                () -> CharTrie.of(reverse(extensions), caseSensitive));
     }
 
     @Override
-    public boolean isValid(String value, ConstraintValidatorContext context) {
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
         if (ValidationUtils.isIgnorable(value)) {
             return true;
         }
 
-        int lastDotIndex = value.lastIndexOf('.');
-        if (lastDotIndex == -1 || lastDotIndex == value.length() - 1) {
-            return false; // No extension found
+        return hasAllowedExtension(reversedExtensions, value);
+    }
+
+    /**
+     * Walks the name from the end and accepts as soon as a configured
+     * extension is immediately preceded by a dot. Multi-part extensions such as
+     * {@code tar.gz} simply continue through the inner dot. Nothing is
+     * allocated and the walk stops at the first character that cannot extend
+     * any configured extension.
+     */
+    private static boolean hasAllowedExtension(CharTrie trie, CharSequence value) {
+        int root = trie.root();
+        int node = root;
+        for (int i = value.length() - 1; i >= 0; i--) {
+            char c = value.charAt(i);
+            if (c == '.' && node != root && trie.isTerminal(node)) {
+                return true;
+            }
+            node = trie.next(node, c);
+            if (node < 0) {
+                return false;
+            }
         }
+        return false; // No extension found
+    }
 
-        String extension = value.substring(lastDotIndex + 1);
+    /**
+     * Same walk over a UTF-8 encoded name, stepping back one code point at a
+     * time. Malformed input has no allowed extension.
+     */
+    static boolean hasAllowedExtension(CharTrie trie, byte[] bytes, int offset, int length) {
+        int root = trie.root();
+        int node = root;
+        int i = offset + length;
+        while (i > offset) {
+            int b = bytes[i - 1];
+            if (b >= 0) {
+                if (b == '.' && node != root && trie.isTerminal(node)) {
+                    return true;
+                }
+                node = trie.next(node, (char) b);
+                i--;
+            } else {
+                int codePoint = Utf8.codePointBefore(bytes, offset, i);
+                if (codePoint < 0) {
+                    return false;
+                }
+                node = previous(trie, node, codePoint);
+                i -= Utf8.encodedLength(codePoint);
+            }
+            if (node < 0) {
+                return false;
+            }
+        }
+        return false;
+    }
 
-        if (!caseSensitive) {
-            extension = extension.toLowerCase();
+    /**
+     * Same walk over the remaining bytes of the buffer, without moving its
+     * position.
+     */
+    static boolean hasAllowedExtension(CharTrie trie, ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return hasAllowedExtension(trie, buffer.array(), buffer.arrayOffset() + buffer.position(),
+                    buffer.remaining());
+        }
+        int root = trie.root();
+        int node = root;
+        int start = buffer.position();
+        int i = buffer.limit();
+        while (i > start) {
+            int b = buffer.get(i - 1);
+            if (b >= 0) {
+                if (b == '.' && node != root && trie.isTerminal(node)) {
+                    return true;
+                }
+                node = trie.next(node, (char) b);
+                i--;
+            } else {
+                int codePoint = Utf8.codePointBefore(buffer, start, i);
+                if (codePoint < 0) {
+                    return false;
+                }
+                node = previous(trie, node, codePoint);
+                i -= Utf8.encodedLength(codePoint);
+            }
+            if (node < 0) {
+                return false;
+            }
         }
+        return false;
+    }
 
-        return allowedExtensions.contains(extension);
+    // Backwards, a surrogate pair is seen low surrogate first
+    private static int previous(CharTrie trie, int node, int codePoint) {
+        if (Character.isBmpCodePoint(codePoint)) {
+            return trie.next(node, (char) codePoint);
+        }
+        node = trie.next(node, Character.lowSurrogate(codePoint));
+        return node < 0 ? -1 : trie.next(node, Character.highSurrogate(codePoint));
+    }
+
+    private static List<String> reverse(List<String> extensions) {
+        List<String> reversed = new ArrayList<>(extensions.size());
+        for (String ext : extensions) {
+            // Plain char order, not StringBuilder.reverse(), which would keep
+            // surrogate pairs intact while the walk sees them low-first.
+            char[] chars = new char[ext.length()];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = ext.charAt(chars.length - 1 - i);
+            }
+            reversed.add(new String(chars));
+        }
+        return reversed;
     }
 }
@@ -1,37 +1,89 @@
 package io.github.validationkit.validators;
 
 import io.github.validationkit.constraints.StrongPassword;
+import io.github.validationkit.util.BloomFilter;
+import io.github.validationkit.util.BreachedPasswords;
+import io.github.validationkit.util.FailureReasons;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Validator for {@link StrongPassword}.
  * <p>
- * Checks length and presence of required character types.
- * Returns the first violation message if multiple fail.
+ * Checks length and presence of required character types in a single scan
+ * that records each category as a bit. Valid passwords are accepted without
+ * allocating; the violation message is only assembled when a check fails.
+ * <p>
+ * The entropy estimate is {@code length * log2(pool)}, the pool being the
+ * size of the character categories present (26 lowercase, 26 uppercase, 10
+ * digits, 33 other ASCII, 100 beyond ASCII). The breached-password lookup
+ * only runs for passwords that pass every other check.
  */
 public class StrongPasswordValidator implements ConstraintValidator<StrongPassword, String> {
 
+    private static final int UPPERCASE = 1;
+    private static final int LOWERCASE = 1 << 1;
+    private static final int DIGIT = 1 << 2;
+    private static final int SPECIAL = 1 << 3;
+
+    // Categories for the entropy estimate
+    private static final int POOL_LOWER = 1;
+    private static final int POOL_UPPER = 1 << 1;
+    private static final int POOL_DIGIT = 1 << 2;
+    private static final int POOL_ASCII = 1 << 3;
+    private static final int POOL_OTHER = 1 << 4;
+    private static final double[] POOL_BITS = poolBits();
+
     private int min;
     private int max;
-    private boolean hasUppercase;
-    private boolean hasLowercase;
-    private boolean hasDigit;
-    private boolean hasSpecialChar;
-    private String allowedSpecialChars;
+    private int required;
+    private boolean[] specialChars;
+    private double minEntropy;
+    // Null unless checkBreached
+    private BloomFilter breached;
+
+    private String lengthMessage;
+    private String specialCharMessage;
+    private String entropyMessage;
 
     @Override
     public void initialize(StrongPassword constraintAnnotation) {
         this.min = constraintAnnotation.min();
         this.max = constraintAnnotation.max();
-        this.hasUppercase = constraintAnnotation.hasUppercase();
-        this.hasLowercase = constraintAnnotation.hasLowercase();
-        this.hasDigit = constraintAnnotation.hasDigit();
-        this.hasSpecialChar = constraintAnnotation.hasSpecialChar();
-        this.allowedSpecialChars = constraintAnnotation.allowedSpecialChars();
+
+        int mask = 0;
+        if (constraintAnnotation.hasUppercase()) {
+            mask |= UPPERCASE;
+        }
+        if (constraintAnnotation.hasLowercase()) {
+            mask |= LOWERCASE;
+        }
+        if (constraintAnnotation.hasDigit()) {
+            mask |= DIGIT;
+        }
+        if (constraintAnnotation.hasSpecialChar()) {
+            mask |= SPECIAL;
+        }
+        this.required = mask;
+
+        String allowedSpecialChars = constraintAnnotation.allowedSpecialChars();
+        this.specialChars = buildSpecialCharTable(allowedSpecialChars);
+
+        this.lengthMessage = lengthMessage(min, max);
+        /*
+         * Escape characters for the error message to avoid confusion.
+         * We just list them as is for now.
+         */
+        this.specialCharMessage = "Must contain at least one special character from: " + allowedSpecialChars;
+
+        this.minEntropy = constraintAnnotation.minEntropy();
+        this.entropyMessage = String.format("Must have an estimated entropy of at least %s bits",
+                BigDecimal.valueOf(minEntropy).stripTrailingZeros().toPlainString());
+        this.breached = constraintAnnotation.checkBreached() ? breachedFilter() : null;
     }
 
     @Override
@@ -40,83 +92,169 @@ public class StrongPasswordValidator implements ConstraintValidator<StrongPasswo
             return true; // null is valid, use @NotNull if needed
         }
 
-        List<String> errors = new ArrayList<>();
+        int length = value.length();
+        boolean lengthValid = length >= min && length <= max;
+        int missing = required & ~scan(value);
+        boolean entropyValid = minEntropy <= 0 || entropy(value) >= minEntropy;
 
-        if (value.length() < min || value.length() > max) {
-            if (max == Integer.MAX_VALUE) {
-                errors.add(String.format("Length must be at least %d characters", min));
-            } else {
-                errors.add(String.format("Length must be between %d and %d characters", min, max));
+        if (lengthValid && missing == 0 && entropyValid) {
+            if (breached == null || !breached.mightContain(value)) {
+                return true;
             }
+            context.disableDefaultConstraintViolation();
+            FailureReasons.report(context, StrongPassword.Failure.BREACHED);
+            context.buildConstraintViolationWithTemplate("Must not be a known breached password")
+                    .addConstraintViolation();
+            return false;
         }
 
-        if (hasUppercase && !containsUppercase(value)) {
-            errors.add("Must contain at least one uppercase letter");
-        }
+        // Disable default message and add custom messages
+        context.disableDefaultConstraintViolation();
+        FailureReasons.report(context, failures(lengthValid, missing, entropyValid));
+        context.buildConstraintViolationWithTemplate(buildMessage(lengthValid, missing, entropyValid))
+                .addConstraintViolation();
 
-        if (hasLowercase && !containsLowercase(value)) {
-            errors.add("Must contain at least one lowercase letter");
-        }
+        return false;
+    }
 
-        if (hasDigit && !containsDigit(value)) {
-            errors.add("Must contain at least one digit");
+    /**
+     * The message reported for a password of the wrong length, also used by
+     * checks that reject overlong passwords before validation.
+     */
+    public static String lengthMessage(int min, int max) {
+        if (max == Integer.MAX_VALUE) {
+            return String.format("Length must be at least %d characters", min);
         }
+        return String.format("Length must be between %d and %d characters", min, max);
+    }
 
-        if (hasSpecialChar && !containsSpecialChar(value, allowedSpecialChars)) {
-            /*
-             * Escape characters for the error message to avoid confusion.
-             * We just list them as is for now.
-             */
-            errors.add("Must contain at least one special character from: " + allowedSpecialChars);
+    // Resolved once, so a misconfiguration fails the first validation of the
+    // constraint rather than only passwords that pass every other check
+    private static BloomFilter breachedFilter() {
+        BloomFilter filter = BreachedPasswords.installed();
+        if (filter == null) {
+            throw new IllegalStateException(
+                    "@StrongPassword(checkBreached = true) needs a filter, see BreachedPasswords.install");
         }
+        return filter;
+    }
 
-        if (errors.isEmpty()) {
-            return true;
+    /**
+     * Naive estimate in bits, {@code length * log2(pool)}, counting code
+     * points.
+     */
+    static double entropy(String value) {
+        int pool = 0;
+        int codePoints = 0;
+        for (int i = 0, length = value.length(); i < length; codePoints++) {
+            int c = value.codePointAt(i);
+            i += Character.charCount(c);
+            if (c >= 'a' && c <= 'z') {
+                pool |= POOL_LOWER;
+            } else if (c >= 'A' && c <= 'Z') {
+                pool |= POOL_UPPER;
+            } else if (c >= '0' && c <= '9') {
+                pool |= POOL_DIGIT;
+            } else if (c < 0x80) {
+                pool |= POOL_ASCII;
+            } else {
+                pool |= POOL_OTHER;
+            }
         }
+        return codePoints * POOL_BITS[pool];
+    }
 
-        // Disable default message and add custom messages
-        context.disableDefaultConstraintViolation();
-
-        // Join all errors
-        String finalMessage = String.join(", ", errors);
-        context.buildConstraintViolationWithTemplate(finalMessage).addConstraintViolation();
-
-        return false;
+    private static double[] poolBits() {
+        int[] sizes = { 26, 26, 10, 33, 100 };
+        double[] bits = new double[1 << sizes.length];
+        for (int pool = 1; pool < bits.length; pool++) {
+            int size = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                if ((pool & 1 << i) != 0) {
+                    size += sizes[i];
+                }
+            }
+            bits[pool] = Math.log(size) / Math.log(2);
+        }
+        return bits;
     }
 
-    private boolean containsUppercase(String value) {
-        for (char c : value.toCharArray()) {
+    /**
+     * Collects the character categories present in the value, stopping as soon
+     * as every required category has been seen.
+     */
+    private int scan(String value) {
+        int found = 0;
+        boolean[] special = specialChars;
+        for (int i = 0, length = value.length(); i < length && (found & required) != required; i++) {
+            char c = value.charAt(i);
             if (Character.isUpperCase(c)) {
-                return true;
+                found |= UPPERCASE;
+            } else if (Character.isLowerCase(c)) {
+                found |= LOWERCASE;
+            } else if (Character.isDigit(c)) {
+                found |= DIGIT;
+            }
+            if (c < special.length && special[c]) {
+                found |= SPECIAL;
             }
         }
-        return false;
+        return found;
     }
 
-    private boolean containsLowercase(String value) {
-        for (char c : value.toCharArray()) {
-            if (Character.isLowerCase(c)) {
-                return true;
-            }
+    private static Set<StrongPassword.Failure> failures(boolean lengthValid, int missing, boolean entropyValid) {
+        Set<StrongPassword.Failure> failures = EnumSet.noneOf(StrongPassword.Failure.class);
+        if (!lengthValid) {
+            failures.add(StrongPassword.Failure.LENGTH);
         }
-        return false;
+        if (missing != 0) {
+            failures.add(StrongPassword.Failure.CHARACTERS);
+        }
+        if (!entropyValid) {
+            failures.add(StrongPassword.Failure.ENTROPY);
+        }
+        return failures;
     }
 
-    private boolean containsDigit(String value) {
-        for (char c : value.toCharArray()) {
-            if (Character.isDigit(c)) {
-                return true;
-            }
+    private String buildMessage(boolean lengthValid, int missing, boolean entropyValid) {
+        StringBuilder message = new StringBuilder();
+        if (!lengthValid) {
+            append(message, lengthMessage);
         }
-        return false;
+        if ((missing & UPPERCASE) != 0) {
+            append(message, "Must contain at least one uppercase letter");
+        }
+        if ((missing & LOWERCASE) != 0) {
+            append(message, "Must contain at least one lowercase letter");
+        }
+        if ((missing & DIGIT) != 0) {
+            append(message, "Must contain at least one digit");
+        }
+        if ((missing & SPECIAL) != 0) {
+            append(message, specialCharMessage);
+        }
+        if (!entropyValid) {
+            append(message, entropyMessage);
+        }
+        return message.toString();
     }
 
-    private boolean containsSpecialChar(String value, String allowedChars) {
-        for (char c : value.toCharArray()) {
-            if (allowedChars.indexOf(c) >= 0) {
-                return true;
-            }
+    private static void append(StringBuilder message, String error) {
+        if (message.length() > 0) {
+            message.append(", ");
         }
-        return false;
+        message.append(error);
+    }
+
+    private static boolean[] buildSpecialCharTable(String allowedChars) {
+        int size = 0;
+        for (int i = 0; i < allowedChars.length(); i++) {
+            size = Math.max(size, allowedChars.charAt(i) + 1);
+        }
+        boolean[] table = new boolean[size];
+        for (int i = 0; i < allowedChars.length(); i++) {
+            table[allowedChars.charAt(i)] = true;
+        }
+        return table;
     }
 }
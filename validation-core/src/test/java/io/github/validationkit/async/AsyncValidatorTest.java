@@ -0,0 +1,300 @@
+package io.github.validationkit.async;
+
+import io.github.validationkit.constraints.AllowedValues;
+import jakarta.validation.Constraint;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncValidatorTest {
+
+    private static ValidatorFactory factory;
+    private static Validator validator;
+
+    private AsyncValidator asyncValidator;
+
+    @BeforeAll
+    static void createFactory() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void closeFactory() {
+        factory.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        asyncValidator = new AsyncValidator(validator);
+        UniqueValidator.calls.set(0);
+        UniqueValidator.barrier = null;
+    }
+
+    @Test
+    void shouldRunIndependentChecksConcurrently() {
+        // Each check waits for the other, so they only complete if they overlap
+        UniqueValidator.barrier = new CountDownLatch(2);
+
+        Set<ConstraintViolation<Account>> violations = asyncValidator.validate(new Account("taken", "free@x.io"));
+
+        assertEquals(1, violations.size());
+        ConstraintViolation<Account> violation = violations.iterator().next();
+        assertEquals("username", violation.getPropertyPath().toString());
+        assertEquals("Already taken", violation.getMessage());
+        assertEquals(2, UniqueValidator.calls.get());
+    }
+
+    @Test
+    void shouldCombineWithSynchronousConstraints() {
+        Set<ConstraintViolation<Account>> violations = asyncValidator.validate(new Account("free", "taken", "root"));
+
+        assertEquals(2, violations.size());
+    }
+
+    @Test
+    void shouldCheckContainerElementsOncePerValue() {
+        Set<ConstraintViolation<Team>> violations = asyncValidator
+                .validate(new Team(List.of("free", "taken", "free", "taken")));
+
+        assertEquals(2, violations.size());
+        assertEquals(2, UniqueValidator.calls.get());
+    }
+
+    @Test
+    void shouldNotCallAsyncChecksForSynchronousBeans() {
+        Set<ConstraintViolation<Plain>> violations = asyncValidator.validate(new Plain("root"));
+
+        assertEquals(validator.validate(new Plain("root")).size(), violations.size());
+        assertEquals(0, UniqueValidator.calls.get());
+    }
+
+    @Test
+    void shouldOnlyRecordChecksForClassesWithAsyncConstraints() {
+        assertTrue(asyncValidator.hasAsyncConstraints(Account.class));
+        assertTrue(asyncValidator.hasAsyncConstraints(Team.class));
+        assertTrue(asyncValidator.hasAsyncConstraints(Department.class));
+        assertFalse(asyncValidator.hasAsyncConstraints(Plain.class));
+    }
+
+    @Test
+    void shouldWaitWhenValidatedDirectly() {
+        Set<ConstraintViolation<Account>> violations = validator.validate(new Account("taken", "taken"));
+
+        assertEquals(2, violations.size());
+    }
+
+    @Test
+    void shouldNotBlockTheCaller() throws Exception {
+        // Both checks count down, then wait for the test to release them
+        CountDownLatch release = new CountDownLatch(3);
+        UniqueValidator.barrier = release;
+
+        CompletableFuture<Set<ConstraintViolation<Account>>> result = asyncValidator
+                .validateAsync(new Account("taken", "free"));
+        assertFalse(result.isDone());
+
+        release.countDown();
+        assertEquals(1, result.get(5, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void shouldReportFailingChecks() {
+        ValidationException e = assertThrows(ValidationException.class,
+                () -> asyncValidator.validate(new Account("boom", "free")));
+
+        assertEquals("lookup failed", e.getCause().getMessage());
+    }
+
+    @Test
+    void shouldExposeAValidator() {
+        Validator concurrent = asyncValidator.asValidator();
+
+        assertEquals(1, concurrent.validate(new Account("taken", "free")).size());
+        assertNotEquals(validator, concurrent);
+        assertEquals(validator.getConstraintsForClass(Account.class), concurrent.getConstraintsForClass(Account.class));
+    }
+
+    @Test
+    void shouldInterpolateTheSecondPassInTheCallersContext() throws Exception {
+        ValidatorFactory localized = Validation.byDefaultProvider().configure()
+                .messageInterpolator(new ThreadLocaleInterpolator())
+                .buildValidatorFactory();
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            ContextDecorator decorator = task -> {
+                Locale captured = ThreadLocaleInterpolator.locale.get();
+                return () -> {
+                    ThreadLocaleInterpolator.locale.set(captured);
+                    try {
+                        task.run();
+                    } finally {
+                        ThreadLocaleInterpolator.locale.remove();
+                    }
+                };
+            };
+            AsyncValidator localizedValidator = new AsyncValidator(localized.getValidator(), executor,
+                    decorator);
+
+            ThreadLocaleInterpolator.locale.set(Locale.GERMAN);
+            assertEquals("Already taken [de]", localizedValidator.validate(new Account("taken", "free"))
+                    .iterator().next().getMessage());
+
+            // The checks wait for the test, so the second pass runs on an
+            // executor thread once the caller has moved on
+            CountDownLatch release = new CountDownLatch(3);
+            UniqueValidator.barrier = release;
+            CompletableFuture<Set<ConstraintViolation<Account>>> result = localizedValidator
+                    .validateAsync(new Account("taken", "free"));
+            ThreadLocaleInterpolator.locale.set(Locale.FRENCH);
+            release.countDown();
+
+            assertEquals("Already taken [de]", result.get(5, TimeUnit.SECONDS).iterator().next().getMessage());
+        } finally {
+            ThreadLocaleInterpolator.locale.remove();
+            executor.shutdown();
+            localized.close();
+        }
+    }
+
+    /**
+     * Interpolates in a locale bound to the thread, like Spring's
+     * {@code LocaleContextMessageInterpolator}.
+     */
+    static class ThreadLocaleInterpolator implements MessageInterpolator {
+
+        static final ThreadLocal<Locale> locale = new ThreadLocal<>();
+
+        @Override
+        public String interpolate(String messageTemplate, Context context) {
+            Locale current = locale.get();
+            return interpolate(messageTemplate, context, current != null ? current : Locale.ROOT);
+        }
+
+        @Override
+        public String interpolate(String messageTemplate, Context context, Locale locale) {
+            return messageTemplate + " [" + locale + "]";
+        }
+    }
+
+    @Target({ FIELD, TYPE_USE })
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = UniqueValidator.class)
+    public @interface Unique {
+
+        String message() default "Already taken";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class UniqueValidator implements AsyncConstraintValidator<Unique, String> {
+
+        static final AtomicInteger calls = new AtomicInteger();
+        static volatile CountDownLatch barrier;
+
+        @Override
+        public CompletionStage<Boolean> isValidAsync(String value) {
+            calls.incrementAndGet();
+            CountDownLatch latch = barrier;
+            if (latch != null) {
+                latch.countDown();
+                try {
+                    if (!latch.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("checks did not run concurrently");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            if ("boom".equals(value)) {
+                return CompletableFuture.failedFuture(new IllegalStateException("lookup failed"));
+            }
+            return CompletableFuture.completedFuture(!"taken".equals(value));
+        }
+    }
+
+    static class Account {
+
+        @Unique
+        private final String username;
+
+        @Unique
+        private final String email;
+
+        @AllowedValues({ "user", "admin" })
+        private final String role;
+
+        Account(String username, String email) {
+            this(username, email, "user");
+        }
+
+        Account(String username, String email, String role) {
+            this.username = username;
+            this.email = email;
+            this.role = role;
+        }
+    }
+
+    static class Team {
+
+        private final List<@Unique String> members;
+
+        Team(List<String> members) {
+            this.members = members;
+        }
+    }
+
+    static class Department {
+
+        @Valid
+        private final Plain head;
+
+        Department(Plain head) {
+            this.head = head;
+        }
+    }
+
+    static class Plain {
+
+        @AllowedValues({ "user", "admin" })
+        private final String role;
+
+        Plain(String role) {
+            this.role = role;
+        }
+    }
+}
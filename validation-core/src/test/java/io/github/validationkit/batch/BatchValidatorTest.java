@@ -0,0 +1,140 @@
+package io.github.validationkit.batch;
+
+import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.constraints.FileExtension;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchValidatorTest {
+
+    private static ValidatorFactory factory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void shouldReportViolationsByRowIndex() {
+        List<Row> rows = rows(1000, 7, 123, 999);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BatchValidationResult<Row> result = new BatchValidator(validator, executor, 16).validate(rows);
+
+            assertFalse(result.isValid());
+            assertFalse(result.isAborted());
+            assertEquals(1000, result.getValidatedRowCount());
+            assertEquals(Arrays.asList(7, 123, 999), new ArrayList<>(result.getViolations().keySet()));
+            assertEquals("role", result.getViolations(123).iterator().next().getPropertyPath().toString());
+            assertTrue(result.getViolations(8).isEmpty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldAcceptValidBatch() {
+        BatchValidationResult<Row> result = new BatchValidator(validator).validate(rows(500));
+
+        assertTrue(result.isValid());
+        assertEquals(500, result.getValidatedRowCount());
+    }
+
+    @Test
+    void shouldStopAfterMaxInvalidRows() {
+        List<Row> rows = rows(100, 10, 20, 30, 40, 50);
+
+        // Same-thread executor keeps the stopping point deterministic
+        BatchValidationResult<Row> result = new BatchValidator(validator, Runnable::run, 8).validate(rows, 2);
+
+        assertTrue(result.isAborted());
+        assertEquals(2, result.getInvalidRowCount());
+        assertEquals(21, result.getValidatedRowCount());
+    }
+
+    @Test
+    void shouldValidateStreams() {
+        BatchValidationResult<Row> result = new BatchValidator(validator, Runnable::run, 4)
+                .validate(rows(50, 3, 49).stream());
+
+        assertEquals(Arrays.asList(3, 49), new ArrayList<>(result.getViolations().keySet()));
+        assertEquals(50, result.getValidatedRowCount());
+    }
+
+    @Test
+    void shouldNotReadStreamPastLimit() {
+        int[] read = new int[1];
+        BatchValidationResult<Row> result = new BatchValidator(validator, Runnable::run, 10)
+                .validate(IntStream.range(0, 1000).mapToObj(i -> {
+                    read[0]++;
+                    return i % 2 == 0 ? new Row("admin", "a.png") : new Row("root", "a.png");
+                }), 3);
+
+        assertTrue(result.isAborted());
+        assertEquals(10, read[0]);
+    }
+
+    @Test
+    void shouldRejectNullRows() {
+        List<Row> rows = new ArrayList<>(rows(5));
+        rows.set(2, null);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new BatchValidator(validator, Runnable::run).validate(rows));
+        assertEquals("Row 2 is null", e.getMessage());
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchValidator(validator, Runnable::run, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BatchValidator(validator).validate(rows(1), 0));
+    }
+
+    private static List<Row> rows(int count, int... invalidRows) {
+        List<Row> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row("admin", "avatar" + i + ".png"));
+        }
+        for (int invalid : invalidRows) {
+            rows.set(invalid, new Row("root", "avatar.png"));
+        }
+        return rows;
+    }
+
+    static class Row {
+
+        @AllowedValues({ "admin", "user" })
+        private final String role;
+
+        @FileExtension({ "jpg", "png" })
+        private final String avatar;
+
+        Row(String role, String avatar) {
+            this.role = role;
+            this.avatar = avatar;
+        }
+    }
+}
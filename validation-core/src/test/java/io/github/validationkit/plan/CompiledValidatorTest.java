@@ -0,0 +1,224 @@
+package io.github.validationkit.plan;
+
+import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.constraints.Base64;
+import io.github.validationkit.constraints.FileExtension;
+import io.github.validationkit.constraints.StrongPassword;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CompiledValidatorTest {
+
+    private static ValidatorFactory factory;
+
+    private Validator delegate;
+    private CompiledValidator validator;
+
+    @BeforeAll
+    static void createFactory() {
+        factory = Validation.buildDefaultValidatorFactory();
+    }
+
+    @AfterAll
+    static void closeFactory() {
+        factory.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(Validator.class, delegatesTo(factory.getValidator()));
+        validator = new CompiledValidator(delegate, factory.getConstraintValidatorFactory());
+    }
+
+    @Test
+    void shouldNotValidateValidBeansTheStandardWay() {
+        Account account = new Account("coder", "admin", List.of("java"), "pic.png", "Secret123!", 3, "aGk=");
+
+        assertTrue(validator.isCompiled(Account.class));
+        assertTrue(validator.validate(account).isEmpty());
+        verify(delegate, never()).validate(any());
+    }
+
+    @Test
+    void shouldReportViolationsLikeTheStandardPath() {
+        Account account = new Account(" ", "root", List.of("java", "cobol"), "pic.exe", "weak", 4,
+                "not base64!");
+
+        Set<ConstraintViolation<Account>> violations = validator.validate(account);
+
+        assertEquals(describe(factory.getValidator().validate(account)), describe(violations));
+        assertEquals(7, violations.size());
+        verify(delegate, times(1)).validate(account);
+    }
+
+    @Test
+    void shouldTreatControlCharactersAsBlank() {
+        Account account = new Account("\u0001", "admin", null, null, null, 3, null);
+
+        assertEquals(Set.of("username"), describe(validator.validate(account)).stream()
+                .map(violation -> violation.substring(0, violation.indexOf(':')))
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void shouldLeaveUnsupportedClassesToTheStandardPath() {
+        assertFalse(validator.isCompiled(Patterned.class));
+        assertFalse(validator.isCompiled(Team.class));
+
+        assertEquals(1, validator.validate(new Patterned("abc")).size());
+        assertEquals(1, validator.validate(new Team(new Account("", "admin", null, null, null, 3, null))).size());
+    }
+
+    @Test
+    void shouldLeaveGettersConstrainedOnInterfacesToTheStandardPath() {
+        assertFalse(validator.isCompiled(Nickname.class));
+
+        // The field is not empty, but the getter the constraint is declared on is
+        assertEquals(1, validator.validate(new Nickname("  ")).size());
+    }
+
+    @Test
+    void shouldOnlyCompileTheDefaultGroup() {
+        Grouped grouped = new Grouped("guest");
+
+        assertTrue(validator.isCompiled(Grouped.class));
+        assertTrue(validator.validate(grouped).isEmpty());
+        assertEquals(1, validator.validate(grouped, Strict.class).size());
+    }
+
+    @Test
+    void shouldReleaseThePlansValidatorsOnClose() {
+        ConstraintValidatorFactory constraintValidatorFactory = mock(ConstraintValidatorFactory.class,
+                delegatesTo(factory.getConstraintValidatorFactory()));
+        CompiledValidator closeable = new CompiledValidator(delegate, constraintValidatorFactory);
+        assertTrue(closeable.validate(new Grouped("admin")).isEmpty());
+        assertTrue(closeable.validate(new Account("coder", "admin", null, null, null, 3, null)).isEmpty());
+
+        closeable.close();
+
+        // Account's six validation-kit constraints; Grouped's is not in the
+        // default group
+        verify(constraintValidatorFactory, times(6)).releaseInstance(any());
+    }
+
+    private static Set<String> describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.toSet());
+    }
+
+    static class Account {
+
+        @NotBlank
+        private final String username;
+
+        @NotEmpty
+        @AllowedValues({ "admin", "user" })
+        private final String role;
+
+        @AllowedValues({ "java", "spring" })
+        private final Collection<String> tags;
+
+        @FileExtension({ "png", "jpg" })
+        private final String picture;
+
+        @StrongPassword
+        private final String password;
+
+        @AllowedValues({ "1", "2", "3" })
+        private final int level;
+
+        @Base64
+        private final String avatar;
+
+        Account(String username, String role, Collection<String> tags, String picture, String password, int level,
+                String avatar) {
+            this.username = username;
+            this.role = role;
+            this.tags = tags;
+            this.picture = picture;
+            this.password = password;
+            this.level = level;
+            this.avatar = avatar;
+        }
+    }
+
+    static class Patterned {
+
+        @Pattern(regexp = "[0-9]+")
+        private final String code;
+
+        Patterned(String code) {
+            this.code = code;
+        }
+    }
+
+    static class Team {
+
+        @Valid
+        private final Account owner;
+
+        Team(Account owner) {
+            this.owner = owner;
+        }
+    }
+
+    interface Named {
+
+        @NotEmpty
+        String getName();
+    }
+
+    static class Nickname implements Named {
+
+        private final String name;
+
+        Nickname(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name.trim();
+        }
+    }
+
+    interface Strict {
+    }
+
+    static class Grouped {
+
+        @AllowedValues(value = { "admin" }, groups = Strict.class)
+        private final String role;
+
+        Grouped(String role) {
+            this.role = role;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.validationkit.plan;
+
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ValidationException;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SilentContextTest {
+
+    private final ConstraintValidatorContext context = SilentContext.INSTANCE;
+
+    @Test
+    void shouldAcceptCustomViolations() {
+        assertSame(context, context.buildConstraintViolationWithTemplate("{custom}")
+                .addPropertyNode("address").addPropertyNode("city").inIterable().atIndex(2)
+                .addBeanNode().inContainer(java.util.List.class, 0)
+                .addConstraintViolation());
+        assertSame(context, context.buildConstraintViolationWithTemplate("{custom}")
+                .addContainerElementNode("tags", java.util.List.class, 0).inIterable().atKey("java")
+                .addPropertyNode("name")
+                .addConstraintViolation());
+        assertSame(context, context.buildConstraintViolationWithTemplate("{custom}")
+                .addParameterNode(1)
+                .addConstraintViolation());
+    }
+
+    @Test
+    void shouldUnwrapToASilentProviderContext() {
+        HibernateConstraintValidatorContext hibernate = context.unwrap(HibernateConstraintValidatorContext.class);
+
+        hibernate.addMessageParameter("max", 10)
+                .addExpressionVariable("value", "x")
+                .withDynamicPayload("payload")
+                .buildConstraintViolationWithTemplate("{custom}")
+                .enableExpressionLanguage()
+                .addPropertyNode("name")
+                .addConstraintViolation();
+        hibernate.disableDefaultConstraintViolation();
+
+        assertSame(context, context.unwrap(ConstraintValidatorContext.class));
+        assertThrows(ValidationException.class, () -> context.unwrap(String.class));
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.validationkit.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AllowedValueSourcesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadFilesAndReloadThemOnceChanged() throws IOException {
+        Path file = Files.writeString(directory.resolve("countries.txt"), "# ISO 3166\nDE\n  FR \n\nUS\n");
+        String name = AllowedValueSources.FILE_PREFIX + file;
+        try {
+            ReloadableAllowedValues values = AllowedValueSources.get(name, true);
+            AllowedValuesMatcher first = values.current();
+            assertTrue(first.matches("FR"));
+            assertFalse(first.matches("# ISO 3166"));
+            assertFalse(first.matches("GB"));
+
+            // Unchanged, so not compiled again
+            AllowedValueSources.reload(name).join();
+            assertSame(first, values.current());
+
+            Files.writeString(file, "DE\nFR\nUS\nGB\n");
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+            AllowedValueSources.reload(name).join();
+            assertTrue(values.current().matches("GB"));
+            // Earlier lookups keep the version they read
+            assertFalse(first.matches("GB"));
+        } finally {
+            AllowedValueSources.unregister(name);
+        }
+    }
+
+    @Test
+    void shouldKeepPreviousValuesIfReloadFails() {
+        AtomicInteger loads = new AtomicInteger();
+        AllowedValueSources.register("flaky", new AllowedValueSource() {
+            @Override
+            public Collection<String> load() throws IOException {
+                if (loads.incrementAndGet() > 1) {
+                    throw new IOException("catalogue unavailable");
+                }
+                return List.of("A-100", "B-200");
+            }
+
+            @Override
+            public boolean isModified() {
+                return true;
+            }
+        });
+        try {
+            ReloadableAllowedValues values = AllowedValueSources.get("flaky", false);
+            assertSame(values, AllowedValueSources.get("flaky", false));
+            AllowedValuesMatcher loaded = values.current();
+
+            CompletionException e = assertThrows(CompletionException.class,
+                    () -> AllowedValueSources.reload("flaky").join());
+            assertInstanceOf(UncheckedIOException.class, e.getCause());
+            assertSame(loaded, values.current());
+            assertTrue(values.current().matches("a-100"));
+        } finally {
+            AllowedValueSources.unregister("flaky");
+        }
+    }
+
+    @Test
+    void shouldLoadSourcesOnceUnlessModified() {
+        AtomicInteger loads = new AtomicInteger();
+        AllowedValueSources.register("plans", () -> {
+            loads.incrementAndGet();
+            return List.of("free", "pro");
+        });
+        try {
+            AllowedValueSources.preload("plans");
+            assertEquals(1, loads.get());
+
+            ReloadableAllowedValues sensitive = AllowedValueSources.get("plans", true);
+            AllowedValuesMatcher loaded = sensitive.current();
+            AllowedValueSources.get("plans", false);
+            AllowedValueSources.reload("plans").join();
+
+            assertEquals(1, loads.get());
+            assertSame(loaded, sensitive.current());
+        } finally {
+            AllowedValueSources.unregister("plans");
+        }
+    }
+
+    @Test
+    void shouldOnlyUnregisterTheGivenSource() {
+        AllowedValueSource first = () -> List.of("a");
+        AllowedValueSource second = () -> List.of("b");
+        AllowedValueSources.register("letters", first);
+        AllowedValueSources.register("letters", second);
+        try {
+            assertFalse(AllowedValueSources.unregister("letters", first));
+            assertTrue(AllowedValueSources.get("letters", true).current().matches("b"));
+            assertTrue(AllowedValueSources.unregister("letters", second));
+            assertThrows(IllegalStateException.class, () -> AllowedValueSources.get("letters", true));
+        } finally {
+            AllowedValueSources.unregister("letters");
+        }
+    }
+
+    @Test
+    void shouldCompileEachCaseSensitivitySeparately() {
+        AllowedValueSources.register("roles", () -> List.of("Admin"));
+        try {
+            ReloadableAllowedValues sensitive = AllowedValueSources.get("roles", true);
+            ReloadableAllowedValues insensitive = AllowedValueSources.get("roles", false);
+
+            assertNotSame(sensitive, insensitive);
+            assertFalse(sensitive.current().matches("admin"));
+            assertTrue(insensitive.current().matches("admin"));
+        } finally {
+            AllowedValueSources.unregister("roles");
+        }
+    }
+
+    @Test
+    void shouldRejectUnknownSources() {
+        assertThrows(IllegalStateException.class, () -> AllowedValueSources.get("missing", true));
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> AllowedValueSources.reload("missing").join());
+        assertEquals(IllegalStateException.class, e.getCause().getClass());
+        assertThrows(UncheckedIOException.class,
+                () -> AllowedValueSources.get(AllowedValueSources.FILE_PREFIX + directory.resolve("none.txt"), true));
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.validationkit.util;
+
+import io.github.validationkit.constraints.Base64;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Base64CheckerTest {
+
+    private static final List<String> SAMPLES = List.of(
+            "", "A", "AB", "ABC", "ABCD", "AB==", "ABC=", "A===", "AB=", "AB=C", "=", "==", "ABCD=",
+            "ABCD==", "ABCDE", "SGVsbG8=", "dGVzdA==", "dGVzdA", "SGVsbG8", "a+b/", "a-b_", "ab\r\ncd",
+            "ab cd", "AB==\r\n", "AB==AB", "AB== ", "éAB=", "AB€=", "!!!", "invalid-base64");
+
+    @Test
+    void shouldAgreeWithJdkDecodersOnEdgeCases() {
+        for (String sample : SAMPLES) {
+            assertAgrees(sample);
+        }
+    }
+
+    @Test
+    void shouldAgreeWithJdkDecodersOnRandomInput() {
+        Random random = new Random(42);
+        char[] alphabet = "ABCXYZabcxyz0189+/-_=\r\n !".toCharArray();
+        for (int n = 0; n < 20_000; n++) {
+            char[] chars = new char[random.nextInt(12)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = alphabet[random.nextInt(alphabet.length)];
+            }
+            assertAgrees(new String(chars));
+        }
+    }
+
+    @Test
+    void shouldValidateByteRanges() {
+        byte[] bytes = "xxSGVsbG8=yy".getBytes(StandardCharsets.US_ASCII);
+        Base64Checker checker = Base64Checker.of(Base64.Variant.BASIC);
+
+        assertTrue(checker.isValid(bytes, 2, 8));
+        assertFalse(checker.isValid(bytes, 0, 9));
+    }
+
+    @Test
+    void shouldValidateBuffersWithoutMovingThem() {
+        byte[] bytes = "xxSGVsbG8=yy".getBytes(StandardCharsets.US_ASCII);
+        Base64Checker checker = Base64Checker.of(Base64.Variant.BASIC);
+        ByteBuffer heap = ByteBuffer.wrap(bytes, 2, 8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).position(2).limit(10);
+
+        assertTrue(checker.isValid(heap));
+        assertTrue(checker.isValid(direct));
+        assertTrue(checker.isValid(heap.asReadOnlyBuffer()));
+        assertEquals(2, direct.position());
+        assertFalse(checker.isValid(direct.limit(7)));
+        assertFalse(checker.isValid(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    void shouldCountDecodedBytesLikeJdkDecoders() {
+        for (String sample : SAMPLES) {
+            assertEquals(jdkDecodedLength(java.util.Base64.getDecoder(), sample),
+                    Base64Checker.of(Base64.Variant.BASIC).decodedLength(sample), () -> "BASIC: " + sample);
+            assertEquals(jdkDecodedLength(java.util.Base64.getMimeDecoder(), sample),
+                    Base64Checker.of(Base64.Variant.MIME).decodedLength(sample), () -> "MIME: " + sample);
+        }
+    }
+
+    private static int jdkDecodedLength(java.util.Base64.Decoder decoder, String sample) {
+        return jdkAccepts(decoder, sample) ? decoder.decode(sample).length : -1;
+    }
+
+    private static void assertAgrees(String sample) {
+        assertEquals(jdkAccepts(java.util.Base64.getDecoder(), sample),
+                Base64Checker.of(Base64.Variant.BASIC).isValid(sample), () -> "BASIC: " + sample);
+        assertEquals(jdkAccepts(java.util.Base64.getUrlDecoder(), sample),
+                Base64Checker.of(Base64.Variant.URL_SAFE).isValid(sample), () -> "URL_SAFE: " + sample);
+        assertEquals(jdkAccepts(java.util.Base64.getMimeDecoder(), sample),
+                Base64Checker.of(Base64.Variant.MIME).isValid(sample), () -> "MIME: " + sample);
+
+        byte[] bytes = sample.getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(jdkAccepts(java.util.Base64.getMimeDecoder(), sample),
+                Base64Checker.of(Base64.Variant.MIME).isValid(bytes), () -> "MIME bytes: " + sample);
+        assertEquals(jdkAccepts(java.util.Base64.getDecoder(), sample),
+                Base64Checker.of(Base64.Variant.BASIC).isValid(bytes), () -> "BASIC bytes: " + sample);
+        assertEquals(jdkAccepts(java.util.Base64.getMimeDecoder(), sample),
+                Base64Checker.of(Base64.Variant.MIME).isValid(
+                        ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()),
+                () -> "MIME buffer: " + sample);
+    }
+
+    private static boolean jdkAccepts(java.util.Base64.Decoder decoder, String sample) {
+        try {
+            decoder.decode(sample);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
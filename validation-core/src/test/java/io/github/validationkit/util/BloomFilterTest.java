@@ -0,0 +1,114 @@
+package io.github.validationkit.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldFindAddedPasswordsAfterReopening() throws IOException {
+        Path file = directory.resolve("breached.bf");
+        try (BloomFilter filter = BloomFilter.create(file, 1000, 0.01)) {
+            for (int i = 0; i < 1000; i++) {
+                filter.put("password" + i);
+            }
+        }
+
+        try (BloomFilter filter = BloomFilter.open(file)) {
+            assertEquals(1000, filter.getEntryCount());
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(filter.mightContain("password" + i));
+            }
+            assertThrows(IllegalStateException.class, () -> filter.put("other"));
+        }
+    }
+
+    @Test
+    void shouldStayNearTheFalsePositiveRate() throws IOException {
+        try (BloomFilter filter = BloomFilter.create(directory.resolve("breached.bf"), 10_000, 0.01)) {
+            for (int i = 0; i < 10_000; i++) {
+                filter.put("breached-" + i);
+            }
+            int falsePositives = 0;
+            for (int i = 0; i < 100_000; i++) {
+                if (filter.mightContain("fresh-" + i)) {
+                    falsePositives++;
+                }
+            }
+            assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        }
+    }
+
+    @Test
+    void shouldAcceptHexHashes() throws Exception {
+        try (BloomFilter filter = BloomFilter.create(directory.resolve("breached.bf"), 10, 0.001)) {
+            // Upper case with a count suffix, as in published hash lists
+            filter.putSha1Hex(HexFormat.of().withUpperCase().formatHex(sha1("hunter2")) + ":17");
+
+            assertTrue(filter.mightContain("hunter2"));
+            assertFalse(filter.mightContain("hunter3"));
+            assertTrue(filter.mightContainSha1(sha1("hunter2"), 0));
+            assertThrows(IllegalArgumentException.class, () -> filter.putSha1Hex("abc"));
+            assertThrows(IllegalArgumentException.class, () -> filter.putSha1Hex("z".repeat(40)));
+        }
+    }
+
+    @Test
+    void shouldHashPasswordsAsUtf8() throws Exception {
+        String password = "pässwörd€🔑";
+        try (BloomFilter filter = BloomFilter.create(directory.resolve("breached.bf"), 10, 0.001)) {
+            filter.putSha1(sha1(password), 0);
+
+            assertTrue(filter.mightContain(password));
+            assertTrue(filter.mightContain(new StringBuilder(password)));
+        }
+    }
+
+    @Test
+    void shouldSizeFromTheFalsePositiveRate() {
+        // About 9.6 bits per entry at 1 %
+        assertEquals(9_585_088, BloomFilter.optimalBitCount(1_000_000, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.optimalBitCount(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.optimalBitCount(10, 1));
+    }
+
+    @Test
+    void shouldEnforceTheMemoryBudget() {
+        Path file = directory.resolve("breached.bf");
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(file, 1_000_000, 0.01, 1 << 20));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void shouldRejectOtherFiles() throws IOException {
+        Path file = directory.resolve("other.bin");
+        byte[] bytes = new byte[64];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> BloomFilter.open(file));
+
+        Files.write(file, new byte[3]);
+        assertThrows(IOException.class, () -> BloomFilter.open(file));
+    }
+
+    private static byte[] sha1(String value) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-1").digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.validationkit.util;
+
+import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.constraints.FileExtension;
+import io.github.validationkit.constraints.StrongPassword;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachingMessageInterpolatorTest {
+
+    private CountingInterpolator delegate;
+    private CachingMessageInterpolator interpolator;
+    private ValidatorFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingInterpolator(new ResourceBundleMessageInterpolator());
+        interpolator = new CachingMessageInterpolator(delegate);
+        factory = Validation.byDefaultProvider().configure().messageInterpolator(interpolator)
+                .buildValidatorFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void shouldInterpolateEachDeclarationOnce() {
+        for (int i = 0; i < 5; i++) {
+            Set<ConstraintViolation<Upload>> violations = factory.getValidator().validate(new Upload("root", "a.exe"));
+            assertEquals(2, violations.size());
+            for (ConstraintViolation<Upload> violation : violations) {
+                if (violation.getPropertyPath().toString().equals("role")) {
+                    assertEquals("Must be one of [admin, user]", violation.getMessage());
+                } else {
+                    assertEquals("Extension must be one of [jpg, png]", violation.getMessage());
+                }
+            }
+        }
+
+        assertEquals(2, delegate.calls.get());
+        assertEquals(2, interpolator.size());
+    }
+
+    @Test
+    void shouldNotCacheExpressions() {
+        for (int i = 0; i < 3; i++) {
+            ConstraintViolation<Expression> violation = factory.getValidator().validate(new Expression("v" + i))
+                    .iterator().next();
+            assertEquals("v" + i + " is not allowed", violation.getMessage());
+        }
+
+        assertEquals(3, delegate.calls.get());
+        assertEquals(0, interpolator.size());
+    }
+
+    @Test
+    void shouldNotCacheOtherConstraints() {
+        factory.getValidator().validate(new Other(""));
+        factory.getValidator().validate(new Other(""));
+
+        assertEquals(2, delegate.calls.get());
+        assertEquals(0, interpolator.size());
+    }
+
+    @Test
+    void shouldNotCacheTemplatesBuiltByValidators() {
+        for (int i = 0; i < 3; i++) {
+            ConstraintViolation<Password> violation = factory.getValidator().validate(new Password("abc"))
+                    .iterator().next();
+            assertEquals("Length must be at least 8 characters, Must contain at least one uppercase letter, "
+                    + "Must contain at least one digit, Must contain at least one special character from: !",
+                    violation.getMessage());
+        }
+
+        assertEquals(3, delegate.calls.get());
+        assertEquals(0, interpolator.size());
+    }
+
+    @Test
+    void shouldKeyOnLocale() {
+        Upload upload = new Upload("root", "a.png");
+        ConstraintViolation<Upload> violation = factory.getValidator().validate(upload).iterator().next();
+        MessageInterpolator.Context context = new MessageInterpolator.Context() {
+            @Override
+            public jakarta.validation.metadata.ConstraintDescriptor<?> getConstraintDescriptor() {
+                return violation.getConstraintDescriptor();
+            }
+
+            @Override
+            public Object getValidatedValue() {
+                return violation.getInvalidValue();
+            }
+
+            @Override
+            public <T> T unwrap(Class<T> type) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        int before = delegate.calls.get();
+
+        interpolator.interpolate(violation.getMessageTemplate(), context, Locale.GERMAN);
+        interpolator.interpolate(violation.getMessageTemplate(), context, Locale.GERMAN);
+        interpolator.interpolate(violation.getMessageTemplate(), context, Locale.FRENCH);
+
+        assertEquals(before + 2, delegate.calls.get());
+    }
+
+    @Test
+    void shouldStopCachingWhenFull() {
+        interpolator = new CachingMessageInterpolator(delegate, 0);
+        factory.close();
+        factory = Validation.byDefaultProvider().configure().messageInterpolator(interpolator)
+                .buildValidatorFactory();
+
+        factory.getValidator().validate(new Upload("root", "a.png"));
+        factory.getValidator().validate(new Upload("root", "a.png"));
+
+        assertEquals(2, delegate.calls.get());
+        assertEquals(0, interpolator.size());
+    }
+
+    @Test
+    void shouldRejectNegativeMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingMessageInterpolator(delegate, -1));
+    }
+
+    private static class CountingInterpolator implements MessageInterpolator {
+
+        private final MessageInterpolator delegate;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        CountingInterpolator(MessageInterpolator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String interpolate(String messageTemplate, Context context) {
+            calls.incrementAndGet();
+            return delegate.interpolate(messageTemplate, context);
+        }
+
+        @Override
+        public String interpolate(String messageTemplate, Context context, Locale locale) {
+            calls.incrementAndGet();
+            return delegate.interpolate(messageTemplate, context, locale);
+        }
+    }
+
+    static class Upload {
+
+        @AllowedValues({ "admin", "user" })
+        private final String role;
+
+        @FileExtension({ "jpg", "png" })
+        private final String file;
+
+        Upload(String role, String file) {
+            this.role = role;
+            this.file = file;
+        }
+    }
+
+    static class Expression {
+
+        @AllowedValues(value = { "admin" }, message = "${validatedValue} is not allowed")
+        private final String role;
+
+        Expression(String role) {
+            this.role = role;
+        }
+    }
+
+    static class Password {
+
+        @StrongPassword(allowedSpecialChars = "!")
+        private final String value;
+
+        Password(String value) {
+            this.value = value;
+        }
+    }
+
+    static class Other {
+
+        @NotBlank
+        private final String name;
+
+        Other(String name) {
+            this.name = name;
+        }
+    }
+}
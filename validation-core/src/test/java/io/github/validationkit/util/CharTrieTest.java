@@ -0,0 +1,112 @@
+package io.github.validationkit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CharTrieTest {
+
+    @Test
+    void shouldMatchWholeWordsOnly() {
+        CharTrie trie = CharTrie.of(List.of("go", "golang", "java"), true);
+
+        assertTrue(trie.contains("go"));
+        assertTrue(trie.contains("golang"));
+        assertTrue(trie.contains("java"));
+        assertFalse(trie.contains("gol"));
+        assertFalse(trie.contains("javascript"));
+        assertFalse(trie.contains(""));
+    }
+
+    @Test
+    void shouldBeCaseSensitiveWhenConfigured() {
+        CharTrie trie = CharTrie.of(List.of("Java"), true);
+
+        assertTrue(trie.contains("Java"));
+        assertFalse(trie.contains("java"));
+    }
+
+    @Test
+    void shouldFoldCaseWhenInsensitive() {
+        CharTrie trie = CharTrie.of(List.of("Java", "ÄPFEL"), false);
+
+        assertTrue(trie.contains("JAVA"));
+        assertTrue(trie.contains(new StringBuilder("jAvA")));
+        assertTrue(trie.contains("äpfel"));
+        assertFalse(trie.contains("javas"));
+    }
+
+    @Test
+    void shouldMatchSubRanges() {
+        CharTrie trie = CharTrie.of(List.of("png"), true);
+
+        assertTrue(trie.contains("image.png", 6, 9));
+        assertFalse(trie.contains("image.png", 5, 9));
+    }
+
+    @Test
+    void shouldMatchUtf8BytesLikeDecodedText() {
+        CharTrie trie = CharTrie.of(List.of("Java", "ÄPFEL", "€uro", "smile\uD83D\uDE00"), false);
+
+        for (String value : List.of("java", "JAVA", "äpfel", "Äpfel", "€URO", "SMILE\uD83D\uDE00", "smile",
+                "jav", "javas", "")) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            boolean expected = trie.contains(value);
+            assertEquals(expected, trie.containsUtf8(bytes, 0, bytes.length), value);
+            assertEquals(expected, trie.containsUtf8(ByteBuffer.wrap(bytes)), value);
+            assertEquals(expected, trie.containsUtf8(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()),
+                    value);
+        }
+    }
+
+    @Test
+    void shouldMatchUtf8SlicesWithoutMovingTheBuffer() {
+        CharTrie trie = CharTrie.of(List.of("äpfel"), true);
+        byte[] body = "{\"fruit\":\"äpfel\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer slice = ByteBuffer.wrap(body, 10, 6);
+
+        assertTrue(trie.containsUtf8(body, 10, 6));
+        assertTrue(trie.containsUtf8(slice));
+        assertEquals(10, slice.position());
+        assertFalse(trie.containsUtf8(body, 10, 5));
+        // "ä" as an overlong or truncated sequence
+        assertFalse(trie.containsUtf8(new byte[] { (byte) 0xc3, 'p', 'f', 'e', 'l' }, 0, 5));
+        assertFalse(trie.containsUtf8(new byte[] { (byte) 0xe0, (byte) 0x83, (byte) 0xa4, 'p', 'f', 'e', 'l' },
+                0, 7));
+    }
+
+    @Test
+    void shouldHandleLargeFanOut() {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            words.add("tag-" + i);
+        }
+        CharTrie trie = CharTrie.of(words, true);
+
+        assertEquals(5_000, trie.size());
+        for (String word : words) {
+            assertTrue(trie.contains(word));
+        }
+        assertFalse(trie.contains("tag-5000"));
+        assertFalse(trie.contains("tag-"));
+    }
+
+    @Test
+    void shouldExposeNodeWalk() {
+        CharTrie trie = CharTrie.of(List.of("ab"), true);
+
+        int node = trie.next(trie.root(), 'a');
+        assertFalse(trie.isTerminal(node));
+        node = trie.next(node, 'b');
+        assertTrue(trie.isTerminal(node));
+        assertEquals(-1, trie.next(node, 'c'));
+        assertEquals(2, trie.maxLength());
+    }
+}
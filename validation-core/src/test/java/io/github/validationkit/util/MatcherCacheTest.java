@@ -0,0 +1,69 @@
+package io.github.validationkit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MatcherCacheTest {
+
+    @Test
+    void shouldShareMatchersForEquivalentDeclarations() {
+        MatcherCache cache = new MatcherCache(16);
+        AtomicInteger compilations = new AtomicInteger();
+
+        Object first = cache.get(MatcherCache.Key.of("AllowedValues", List.of("us", "de", "fr"), true),
+                () -> new Object[] { compilations.incrementAndGet() });
+        Object second = cache.get(MatcherCache.Key.of("AllowedValues", List.of("fr", "us", "de", "us"), true),
+                () -> new Object[] { compilations.incrementAndGet() });
+
+        assertSame(first, second);
+        assertEquals(1, compilations.get());
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void shouldDistinguishKindAndCaseSensitivity() {
+        MatcherCache.Key sensitive = MatcherCache.Key.of("AllowedValues", List.of("A"), true);
+
+        assertNotEquals(sensitive, MatcherCache.Key.of("AllowedValues", List.of("A"), false));
+        assertNotEquals(sensitive, MatcherCache.Key.of("FileExtension", List.of("A"), true));
+        assertEquals(MatcherCache.Key.of("AllowedValues", List.of("A"), false),
+                MatcherCache.Key.of("AllowedValues", List.of("a"), false));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries() {
+        MatcherCache cache = new MatcherCache(2);
+        MatcherCache.Key a = MatcherCache.Key.of("k", List.of("a"), true);
+        MatcherCache.Key b = MatcherCache.Key.of("k", List.of("b"), true);
+        MatcherCache.Key c = MatcherCache.Key.of("k", List.of("c"), true);
+
+        Object matcherA = cache.get(a, Object::new);
+        cache.get(b, Object::new);
+        cache.get(a, Object::new); // touch a, b is now eldest
+        cache.get(c, Object::new);
+
+        assertEquals(2, cache.size());
+        assertSame(matcherA, cache.get(a, Object::new));
+        assertNotSame(cache.get(b, Object::new), cache.get(c, Object::new));
+    }
+
+    @Test
+    void clearShouldResetStatistics() {
+        MatcherCache cache = new MatcherCache(4);
+        cache.get(MatcherCache.Key.of("k", List.of("a"), true), Object::new);
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.hitCount());
+        assertEquals(0, cache.missCount());
+    }
+}
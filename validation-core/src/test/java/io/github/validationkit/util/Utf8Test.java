@@ -0,0 +1,105 @@
+package io.github.validationkit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Utf8Test {
+
+    @Test
+    void shouldDecodeLikeTheStrictJdkDecoder() {
+        Random random = new Random(7);
+        byte[] interesting = { 'a', '.', (byte) 0x80, (byte) 0xbf, (byte) 0xc0, (byte) 0xc3, (byte) 0xa4,
+                (byte) 0xe2, (byte) 0x82, (byte) 0xac, (byte) 0xed, (byte) 0xa0, (byte) 0xf0, (byte) 0x9f,
+                (byte) 0x98, (byte) 0x80, (byte) 0xf4, (byte) 0x90, (byte) 0xff };
+        for (int run = 0; run < 20_000; run++) {
+            byte[] bytes = new byte[random.nextInt(7)];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = interesting[random.nextInt(interesting.length)];
+            }
+            String expected = strictDecode(bytes);
+            assertEquals(expected, forwards(bytes), () -> hex(bytes));
+            assertEquals(expected, backwards(bytes), () -> hex(bytes));
+            assertEquals(expected, forwards(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()),
+                    () -> hex(bytes));
+        }
+    }
+
+    @Test
+    void shouldCountEncodedBytes() {
+        assertEquals(1, Utf8.encodedLength('a'));
+        assertEquals(2, Utf8.encodedLength('ä'));
+        assertEquals(3, Utf8.encodedLength('€'));
+        assertEquals(4, Utf8.encodedLength(0x1F600));
+    }
+
+    private static String forwards(byte[] bytes) {
+        StringBuilder decoded = new StringBuilder();
+        int i = 0;
+        while (i < bytes.length) {
+            int codePoint = Utf8.codePointAt(bytes, i, bytes.length);
+            if (codePoint == Utf8.MALFORMED) {
+                return null;
+            }
+            decoded.appendCodePoint(codePoint);
+            i += Utf8.encodedLength(codePoint);
+        }
+        return decoded.toString();
+    }
+
+    private static String forwards(ByteBuffer buffer) {
+        StringBuilder decoded = new StringBuilder();
+        int i = buffer.position();
+        while (i < buffer.limit()) {
+            int codePoint = Utf8.codePointAt(buffer, i, buffer.limit());
+            if (codePoint == Utf8.MALFORMED) {
+                return null;
+            }
+            decoded.appendCodePoint(codePoint);
+            i += Utf8.encodedLength(codePoint);
+        }
+        return decoded.toString();
+    }
+
+    private static String backwards(byte[] bytes) {
+        StringBuilder reversed = new StringBuilder();
+        int i = bytes.length;
+        while (i > 0) {
+            int codePoint = Utf8.codePointBefore(bytes, 0, i);
+            if (codePoint == Utf8.MALFORMED) {
+                return null;
+            }
+            reversed.insert(0, Character.toChars(codePoint));
+            i -= Utf8.encodedLength(codePoint);
+        }
+        return reversed.toString();
+    }
+
+    private static String strictDecode(byte[] bytes) {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        try {
+            CharBuffer chars = decoder.decode(ByteBuffer.wrap(bytes));
+            return chars.toString();
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x ", b));
+        }
+        return hex.toString();
+    }
+}
@@ -1,6 +1,9 @@
 package io.github.validationkit.util;
 
 import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -75,4 +78,51 @@ class ValidationUtilsTest {
         assertFalse(ValidationUtils.isIgnorable(new String[] { "a" }));
         assertFalse(ValidationUtils.isIgnorable(new int[] { 1 }));
     }
+
+    @Test
+    void isIgnorable_shouldCompareBigDecimalExactly() {
+        assertTrue(ValidationUtils.isIgnorable(new BigDecimal("0.9999999999999999999999")));
+        assertTrue(ValidationUtils.isIgnorable(new BigDecimal("0.000")));
+        assertTrue(ValidationUtils.isIgnorable(new BigDecimal("-12.5")));
+        assertFalse(ValidationUtils.isIgnorable(new BigDecimal("1.000")));
+        assertFalse(ValidationUtils.isIgnorable(new BigDecimal("1E+3")));
+        assertFalse(ValidationUtils.isIgnorable(new BigDecimal("1.0000000000000000000001")));
+    }
+
+    @Test
+    void isIgnorable_shouldHandleBigInteger() {
+        assertTrue(ValidationUtils.isIgnorable(BigInteger.ZERO));
+        assertTrue(ValidationUtils.isIgnorable(BigInteger.valueOf(-5)));
+        assertFalse(ValidationUtils.isIgnorable(BigInteger.ONE));
+        assertFalse(ValidationUtils.isIgnorable(BigInteger.TEN.pow(40)));
+    }
+
+    @Test
+    void isIgnorable_shouldTreatLongValuesExactly() {
+        assertFalse(ValidationUtils.isIgnorable(Long.MAX_VALUE));
+        assertTrue(ValidationUtils.isIgnorable(Long.MIN_VALUE));
+        assertTrue(ValidationUtils.isIgnorable((short) 0));
+        assertFalse(ValidationUtils.isIgnorable((byte) 1));
+    }
+
+    @Test
+    void isIgnorable_shouldCheckBlankCharSequences() {
+        assertTrue(ValidationUtils.isIgnorable(new StringBuilder(" \t")));
+        assertFalse(ValidationUtils.isIgnorable(new StringBuilder(" x ")));
+    }
+
+    @Test
+    void isIgnorable_shouldHandleEveryPrimitiveArrayType() {
+        assertTrue(ValidationUtils.isIgnorable(new long[0]));
+        assertTrue(ValidationUtils.isIgnorable(new char[0]));
+        assertTrue(ValidationUtils.isIgnorable(new boolean[0]));
+        assertFalse(ValidationUtils.isIgnorable(new double[] { 0 }));
+        assertFalse(ValidationUtils.isIgnorable(new byte[] { 0 }));
+    }
+
+    @Test
+    void isIgnorable_shouldReturnFalseForOtherObjects() {
+        assertFalse(ValidationUtils.isIgnorable(new Object()));
+        assertFalse(ValidationUtils.isIgnorable(Boolean.FALSE));
+    }
 }
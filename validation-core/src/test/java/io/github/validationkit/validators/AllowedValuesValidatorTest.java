@@ -1,6 +1,7 @@
 package io.github.validationkit.validators;
 
 import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.util.AllowedValueSources;
 import jakarta.validation.ConstraintValidatorContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,10 +9,14 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AllowedValuesValidatorTest {
@@ -27,11 +32,17 @@ class AllowedValuesValidatorTest {
         private final String[] value;
         private final boolean caseSensitive;
         private final boolean acceptNull;
+        private final String source;
 
         public AllowedValuesMock(String[] value, boolean caseSensitive, boolean acceptNull) {
+            this(value, caseSensitive, acceptNull, "");
+        }
+
+        public AllowedValuesMock(String[] value, boolean caseSensitive, boolean acceptNull, String source) {
             this.value = value;
             this.caseSensitive = caseSensitive;
             this.acceptNull = acceptNull;
+            this.source = source;
         }
 
         @Override
@@ -60,6 +71,11 @@ class AllowedValuesValidatorTest {
             return caseSensitive;
         }
 
+        @Override
+        public String source() {
+            return source;
+        }
+
         @Override
         public boolean acceptNull() {
             return acceptNull;
@@ -126,6 +142,105 @@ class AllowedValuesValidatorTest {
         assertFalse(validator.isValid(new String[] { "java", "rust" }, context)); // rust is invalid
     }
 
+    @Test
+    void shouldValidateCharSequencesWithoutConversion() {
+        assertTrue(validator.isValid(new StringBuilder("python"), context));
+        assertFalse(validator.isValid(new StringBuilder("pythonic"), context));
+        assertTrue(validator.isValid(List.of(new StringBuilder("go"), "java"), context));
+    }
+
+    @Test
+    void shouldFoldCaseForCollections() {
+        validator.initialize(new AllowedValuesMock(new String[] { "Java", "Go" }, false, true));
+
+        assertTrue(validator.isValid(List.of("JAVA", "go"), context));
+        assertFalse(validator.isValid(List.of("JAVA", "rust"), context));
+    }
+
+    @Test
+    void shouldValidatePrimitiveArrays() {
+        validator.initialize(new AllowedValuesMock(new String[] { "200", "404", "9000000000", "007" }, true, true));
+
+        assertTrue(validator.isValid(new int[] { 200, 404 }, context));
+        assertFalse(validator.isValid(new int[] { 200, 500 }, context));
+        assertFalse(validator.isValid(new int[] { 7 }, context)); // "007" is not the string form of 7
+        assertTrue(validator.isValid(new long[] { 9_000_000_000L, 404L }, context));
+        assertTrue(validator.isValid(new short[] { 200 }, context));
+        assertFalse(validator.isValid(new short[] { 201 }, context));
+    }
+
+    @Test
+    void shouldSkipPrimitiveElementsBelowOneLikeBoxedElements() {
+        validator.initialize(new AllowedValuesMock(new String[] { "5" }, true, true));
+
+        assertTrue(validator.isValid(new int[] { 0, -3, 5 }, context));
+        assertTrue(validator.isValid(new Integer[] { 0, -3, 5 }, context));
+        assertFalse(validator.isValid(new double[] { 0.5, 5.0 }, context)); // 5.0 is "5.0", not "5"
+        assertFalse(validator.isValid(new Double[] { 0.5, 5.0 }, context));
+    }
+
+    @Test
+    void shouldMatchFloatingPointByStringForm() {
+        validator.initialize(new AllowedValuesMock(new String[] { "1.5", "2.0", "NaN" }, true, true));
+
+        assertTrue(validator.isValid(new double[] { 1.5, 2.0, Double.NaN }, context));
+        assertTrue(validator.isValid(new float[] { 1.5f, 2f }, context));
+        assertFalse(validator.isValid(new double[] { 2.5 }, context));
+        assertTrue(validator.isValid(new Double[] { 1.5, 2.0 }, context));
+    }
+
+    @Test
+    void shouldMatchCharAndBooleanArrays() {
+        validator.initialize(new AllowedValuesMock(new String[] { "a", "b", "TRUE" }, false, true));
+
+        assertTrue(validator.isValid(new char[] { 'a', 'B' }, context));
+        assertFalse(validator.isValid(new char[] { 'a', 'c' }, context));
+        assertTrue(validator.isValid(new boolean[] { true }, context));
+        assertFalse(validator.isValid(new boolean[] { true, false }, context));
+        assertTrue(validator.isValid(new Character[] { 'A' }, context));
+    }
+
+    @Test
+    void shouldTakeValuesFromSource() {
+        AllowedValueSources.register("languages", () -> List.of("java", "kotlin"));
+        try {
+            validator.initialize(new AllowedValuesMock(new String[0], false, true, "languages"));
+            assertTrue(validator.isValid("Kotlin", context));
+            assertFalse(validator.isValid(List.of("java", "scala"), context));
+
+            AllowedValueSources.register("languages", () -> List.of("java", "scala"));
+            AllowedValueSources.reload("languages").join();
+            assertTrue(validator.isValid(List.of("java", "scala"), context));
+            assertFalse(validator.isValid("kotlin", context));
+        } finally {
+            AllowedValueSources.unregister("languages");
+        }
+    }
+
+    @Test
+    void shouldRejectValuesAndSourceTogether() {
+        assertThrows(IllegalArgumentException.class, () -> validator
+                .initialize(new AllowedValuesMock(new String[] { "java" }, true, true, "file:languages.txt")));
+        assertThrows(IllegalStateException.class,
+                () -> validator.initialize(new AllowedValuesMock(new String[0], true, true, "unknown")));
+    }
+
+    @Test
+    void shouldValidateUtf8Buffers() {
+        AllowedValuesBufferValidator bufferValidator = new AllowedValuesBufferValidator();
+        bufferValidator.initialize(new AllowedValuesMock(new String[] { "java", "café" }, false, false));
+        byte[] body = "{\"lang\":\"CAFÉ\",\"other\":\"go\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer lang = ByteBuffer.wrap(body, 9, 5);
+
+        assertTrue(bufferValidator.isValid(lang, context));
+        assertEquals(9, lang.position());
+        assertFalse(bufferValidator.isValid(ByteBuffer.wrap(body, 25, 2), context));
+        assertTrue(bufferValidator.isValid(ByteBuffer.allocateDirect(4).put("JAVA".getBytes(StandardCharsets.UTF_8))
+                .flip(), context));
+        assertTrue(bufferValidator.isValid(ByteBuffer.wrap(" ".getBytes(StandardCharsets.UTF_8)), context));
+        assertFalse(bufferValidator.isValid(null, context));
+    }
+
     @Test
     void shouldValidateObjectToString() {
         // Enums or custom objects rely on toString()
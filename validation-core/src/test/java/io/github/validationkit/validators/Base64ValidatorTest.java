@@ -1,11 +1,15 @@
 package io.github.validationkit.validators;
 
+import io.github.validationkit.constraints.Base64;
 import jakarta.validation.ConstraintValidatorContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -41,4 +45,94 @@ class Base64ValidatorTest {
         assertFalse(validator.isValid("!!!", context)); // Special characters
         assertFalse(validator.isValid("invalid-base64", context));
     }
+
+    @Test
+    void shouldAcceptCharSequences() {
+        assertTrue(validator.isValid(new StringBuilder("SGVsbG8="), context));
+        assertFalse(validator.isValid(new StringBuilder("SGVsb"), context));
+    }
+
+    @Test
+    void shouldSupportUrlSafeVariant() {
+        validator.initialize(new Base64Mock(Base64.Variant.URL_SAFE));
+
+        assertTrue(validator.isValid("-_-_", context));
+        assertFalse(validator.isValid("+/+/", context));
+    }
+
+    @Test
+    void shouldSupportMimeVariant() {
+        assertFalse(validator.isValid("SGVs\r\nbG8=", context));
+
+        validator.initialize(new Base64Mock(Base64.Variant.MIME));
+
+        assertTrue(validator.isValid("SGVs\r\nbG8=", context));
+    }
+
+    @Test
+    void shouldValidateByteArrays() {
+        Base64BytesValidator bytesValidator = new Base64BytesValidator();
+
+        assertTrue(bytesValidator.isValid(null, context));
+        assertTrue(bytesValidator.isValid(new byte[0], context));
+        assertTrue(bytesValidator.isValid("SGVsbG8=".getBytes(StandardCharsets.US_ASCII), context));
+        assertFalse(bytesValidator.isValid("Hello".getBytes(StandardCharsets.US_ASCII), context));
+    }
+
+    @Test
+    void shouldLimitDecodedSize() {
+        validator.initialize(new Base64Mock(Base64.Variant.MIME, 5));
+        Base64BytesValidator bytesValidator = new Base64BytesValidator();
+        bytesValidator.initialize(new Base64Mock(Base64.Variant.BASIC, 5));
+
+        assertTrue(validator.isValid("SGVs\r\nbG8=", context)); // "Hello"
+        assertFalse(validator.isValid("SGVsbG8h", context)); // "Hello!"
+        assertTrue(bytesValidator.isValid("SGVsbG8".getBytes(StandardCharsets.US_ASCII), context));
+        assertFalse(bytesValidator.isValid("SGVsbG8hIQ==".getBytes(StandardCharsets.US_ASCII), context));
+    }
+
+    @SuppressWarnings("all")
+    private static class Base64Mock implements Base64 {
+        private final Variant variant;
+        private final int maxDecodedBytes;
+
+        Base64Mock(Variant variant) {
+            this(variant, Integer.MAX_VALUE);
+        }
+
+        Base64Mock(Variant variant, int maxDecodedBytes) {
+            this.variant = variant;
+            this.maxDecodedBytes = maxDecodedBytes;
+        }
+
+        @Override
+        public Variant variant() {
+            return variant;
+        }
+
+        @Override
+        public int maxDecodedBytes() {
+            return maxDecodedBytes;
+        }
+
+        @Override
+        public String message() {
+            return "mock message";
+        }
+
+        @Override
+        public Class<?>[] groups() {
+            return new Class[0];
+        }
+
+        @Override
+        public Class<? extends jakarta.validation.Payload>[] payload() {
+            return (Class<? extends jakarta.validation.Payload>[]) new Class<?>[0];
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return Base64.class;
+        }
+    }
 }
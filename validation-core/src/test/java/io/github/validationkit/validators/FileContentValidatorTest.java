@@ -0,0 +1,149 @@
+package io.github.validationkit.validators;
+
+import io.github.validationkit.constraints.FileContent;
+import io.github.validationkit.util.FileSignatures;
+import jakarta.validation.Payload;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileContentValidatorTest {
+
+    private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D };
+    private static final byte[] JPEG = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10, 'J', 'F' };
+    private static final byte[] PDF = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldMatchBytes() {
+        FileContentBytesValidator validator = new FileContentBytesValidator();
+        validator.initialize(annotation(FileContent.Type.PNG, FileContent.Type.JPEG));
+
+        assertTrue(validator.isValid(PNG, null));
+        assertTrue(validator.isValid(JPEG, null));
+        assertFalse(validator.isValid(PDF, null));
+        // Truncated signature
+        assertFalse(validator.isValid(new byte[] { (byte) 0x89, 'P', 'N' }, null));
+        assertTrue(validator.isValid(null, null));
+        assertTrue(validator.isValid(new byte[0], null));
+    }
+
+    @Test
+    void shouldMatchSignaturesWithWildcards() {
+        FileContentBytesValidator validator = new FileContentBytesValidator();
+        validator.initialize(annotation(FileContent.Type.WEBP, FileContent.Type.MP4));
+
+        assertTrue(validator.isValid(ascii("RIFF\u0001\u0002\u0003\u0004WEBPVP8 "), null));
+        assertFalse(validator.isValid(ascii("RIFF\u0001\u0002\u0003\u0004WAVEfmt "), null));
+        assertTrue(validator.isValid(ascii("\u0000\u0000\u0000\u0018ftypmp42"), null));
+    }
+
+    @Test
+    void shouldProvideExamplesOfEveryType() {
+        FileContentBytesValidator validator = new FileContentBytesValidator();
+        for (FileContent.Type type : FileContent.Type.values()) {
+            validator.initialize(annotation(type));
+            assertTrue(validator.isValid(FileSignatures.example(type), null), type.name());
+        }
+        assertArrayEquals(new byte[] { 0x1F, (byte) 0x8B }, FileSignatures.example(FileContent.Type.GZIP));
+    }
+
+    @Test
+    void shouldPeekIntoStreamAndReset() throws IOException {
+        FileContentStreamValidator validator = new FileContentStreamValidator();
+        validator.initialize(annotation(FileContent.Type.PDF));
+
+        byte[] content = new byte[1 << 20];
+        System.arraycopy(PDF, 0, content, 0, PDF.length);
+        InputStream in = new BufferedInputStream(new ByteArrayInputStream(content));
+
+        assertTrue(validator.isValid(in, null));
+        assertEquals('%', in.read());
+        assertEquals(content.length - 1, in.readAllBytes().length);
+
+        assertFalse(validator.isValid(new ByteArrayInputStream(PNG), null));
+        assertTrue(validator.isValid(new ByteArrayInputStream(new byte[0]), null));
+        assertTrue(validator.isValid(null, null));
+    }
+
+    @Test
+    void shouldRejectStreamsThatCannotBeReset() {
+        FileContentStreamValidator validator = new FileContentStreamValidator();
+        validator.initialize(annotation(FileContent.Type.PDF));
+
+        InputStream in = new InputStream() {
+            @Override
+            public int read() {
+                return -1;
+            }
+        };
+        assertThrows(IllegalArgumentException.class, () -> validator.isValid(in, null));
+    }
+
+    @Test
+    void shouldReadOnlyTheHeaderOfFiles() throws IOException {
+        FileContentPathValidator validator = new FileContentPathValidator();
+        validator.initialize(annotation(FileContent.Type.PNG));
+
+        Path png = Files.write(directory.resolve("image.dat"), PNG);
+        Path pdf = Files.write(directory.resolve("image.png"), PDF);
+        Path empty = Files.write(directory.resolve("empty.png"), new byte[0]);
+
+        assertTrue(validator.isValid(png, null));
+        assertFalse(validator.isValid(pdf, null));
+        assertTrue(validator.isValid(empty, null));
+        assertFalse(validator.isValid(directory.resolve("missing.png"), null));
+        assertFalse(validator.isValid(directory, null));
+        assertTrue(validator.isValid(null, null));
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static FileContent annotation(FileContent.Type... types) {
+        return new FileContent() {
+            @Override
+            public FileContent.Type[] value() {
+                return types;
+            }
+
+            @Override
+            public String message() {
+                return "error";
+            }
+
+            @Override
+            public Class<?>[] groups() {
+                return new Class<?>[0];
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public Class<? extends Payload>[] payload() {
+                return (Class<? extends Payload>[]) new Class<?>[0];
+            }
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return FileContent.class;
+            }
+        };
+    }
+}
@@ -6,6 +6,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -64,4 +69,68 @@ class FileExtensionValidatorTest {
         assertFalse(validator.isValid("README", context));
         assertFalse(validator.isValid("docker-compose", context));
     }
+
+    @Test
+    void shouldRejectTrailingDot() {
+        assertFalse(validator.isValid("image.", context));
+        assertFalse(validator.isValid(".", context));
+    }
+
+    @Test
+    void shouldMatchOnlyAtDotBoundary() {
+        assertFalse(validator.isValid("imagejpg", context));
+        assertFalse(validator.isValid("image.xjpg", context));
+        assertTrue(validator.isValid(".jpg", context));
+        assertFalse(validator.isValid("archive.jpg/readme", context));
+    }
+
+    @Test
+    void shouldSupportMultiPartExtensions() {
+        validator.initialize(new FileExtensionMock(new String[] { ".tar.gz", "min.js" }, false));
+
+        assertTrue(validator.isValid("backup.tar.gz", context));
+        assertTrue(validator.isValid("BACKUP.TAR.GZ", context));
+        assertTrue(validator.isValid("app.min.js", context));
+        assertFalse(validator.isValid("backup.gz", context));
+        assertFalse(validator.isValid("app.js", context));
+        assertFalse(validator.isValid("tar.gz", context)); // no name before the extension's own dot
+    }
+
+    @Test
+    void shouldAcceptAnyConfiguredSuffix() {
+        validator.initialize(new FileExtensionMock(new String[] { "gz", "tar.gz" }, true));
+
+        assertTrue(validator.isValid("a.gz", context));
+        assertTrue(validator.isValid("a.tar.gz", context));
+        assertTrue(validator.isValid("a.b.gz", context));
+    }
+
+    @Test
+    void shouldAcceptCharSequences() {
+        assertTrue(validator.isValid(new StringBuilder("image.png"), context));
+    }
+
+    @Test
+    void shouldMatchUtf8NamesLikeStrings() {
+        FileExtensionMock extensions = new FileExtensionMock(new String[] { "tar.gz", "jpg", "ÄRGER", "\uD83D\uDE00" },
+                false);
+        validator.initialize(extensions);
+        FileExtensionBytesValidator bytesValidator = new FileExtensionBytesValidator();
+        bytesValidator.initialize(extensions);
+        FileExtensionBufferValidator bufferValidator = new FileExtensionBufferValidator();
+        bufferValidator.initialize(extensions);
+
+        for (String name : List.of("backup.tar.gz", "bäckup.TAR.GZ", "photo.jpg", "føto.JPG", "a.ärger",
+                "face.\uD83D\uDE00", "\uD83D\uDE00.png", "backup.gz", "tar.gz", "photo.jpgx", ".jpg", "", "  ")) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            boolean expected = validator.isValid(name, context);
+            assertEquals(expected, bytesValidator.isValid(bytes, context), name);
+            assertEquals(expected, bufferValidator.isValid(ByteBuffer.wrap(bytes), context), name);
+            assertEquals(expected, bufferValidator.isValid(
+                    ByteBuffer.allocateDirect(bytes.length).put(bytes).flip(), context), name);
+        }
+        assertTrue(bytesValidator.isValid(null, context));
+        // Truncated "ä" before the extension
+        assertFalse(bytesValidator.isValid(new byte[] { 'a', (byte) 0xc3, '.', 'j', 'p', 'g', 'x' }, context));
+    }
 }
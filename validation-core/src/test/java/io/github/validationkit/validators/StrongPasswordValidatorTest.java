@@ -1,19 +1,27 @@
 package io.github.validationkit.validators;
 
 import io.github.validationkit.constraints.StrongPassword;
+import io.github.validationkit.util.BloomFilter;
+import io.github.validationkit.util.BreachedPasswords;
 import jakarta.validation.ConstraintValidatorContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.nio.file.Path;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -109,11 +117,92 @@ class StrongPasswordValidatorTest {
         assertTrue(captor.getValue().contains("between 8 and 20 characters"));
     }
 
+    @Test
+    void testCombinedMessageOrder() {
+        validator.isValid("abc", context);
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(context).buildConstraintViolationWithTemplate(captor.capture());
+        assertEquals("Length must be at least 8 characters, "
+                + "Must contain at least one uppercase letter, "
+                + "Must contain at least one digit, "
+                + "Must contain at least one special character from: @$!%*?&_#-", captor.getValue());
+    }
+
+    @Test
+    void testValidPasswordDoesNotTouchContext() {
+        assertTrue(validator.isValid("Password123!", context));
+
+        verifyNoInteractions(context);
+    }
+
+    @Test
+    void testNonAsciiSpecialChars() {
+        validator.initialize(createAnnotation(8, Integer.MAX_VALUE, true, true, true, true, "§€"));
+
+        assertTrue(validator.isValid("Password123€", context));
+        assertFalse(validator.isValid("Password123!", context));
+    }
+
     @Test
     void testNullValid() {
         assertTrue(validator.isValid(null, context));
     }
 
+    @Test
+    void testEntropyEstimate() {
+        assertEquals(12 * Math.log(95) / Math.log(2), StrongPasswordValidator.entropy("Password123!"), 1e-9);
+        assertEquals(8 * Math.log(26) / Math.log(2), StrongPasswordValidator.entropy("password"), 1e-9);
+        assertEquals(0, StrongPasswordValidator.entropy(""));
+    }
+
+    @Test
+    void testMinEntropy() {
+        StrongPasswordMock annotation = new StrongPasswordMock(1, Integer.MAX_VALUE, false, false, false, false, "");
+        annotation.minEntropy = 60;
+        validator.initialize(annotation);
+
+        assertTrue(validator.isValid("Password123!", context));
+        assertFalse(validator.isValid("abcdefgh", context));
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(context).buildConstraintViolationWithTemplate(captor.capture());
+        assertEquals("Must have an estimated entropy of at least 60 bits", captor.getValue());
+    }
+
+    @Test
+    void testCheckBreached(@TempDir Path directory) throws IOException {
+        StrongPasswordMock annotation = new StrongPasswordMock(8, Integer.MAX_VALUE, true, true, true, true,
+                "@$!%*?&_#-");
+        annotation.checkBreached = true;
+
+        try (BloomFilter filter = BloomFilter.create(directory.resolve("breached.bf"), 100, 0.001)) {
+            filter.put("Password123!");
+            BreachedPasswords.install(filter);
+            validator.initialize(annotation);
+
+            assertFalse(validator.isValid("Password123!", context));
+            assertTrue(validator.isValid("Tr0ub4dour&3x", context));
+            // Weak passwords are rejected for their own reasons first
+            assertFalse(validator.isValid("abc", context));
+
+            ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+            verify(context, Mockito.times(2)).buildConstraintViolationWithTemplate(captor.capture());
+            assertEquals("Must not be a known breached password", captor.getAllValues().get(0));
+        } finally {
+            BreachedPasswords.install(null);
+        }
+    }
+
+    @Test
+    void testCheckBreachedWithoutFilter() {
+        StrongPasswordMock annotation = new StrongPasswordMock(8, Integer.MAX_VALUE, true, true, true, true,
+                "@$!%*?&_#-");
+        annotation.checkBreached = true;
+
+        assertThrows(IllegalStateException.class, () -> validator.initialize(annotation));
+    }
+
     // Helper to create annotation instance
     private StrongPassword createAnnotation(int min, int max, boolean hasUpper, boolean hasLower, boolean hasDigit,
             boolean hasSpecial, String allowedSpecials) {
@@ -129,6 +218,8 @@ class StrongPasswordValidatorTest {
         private final boolean hasDigit;
         private final boolean hasSpecial;
         private final String allowedSpecials;
+        private double minEntropy;
+        private boolean checkBreached;
 
         public StrongPasswordMock(int min, int max, boolean hasUpper, boolean hasLower, boolean hasDigit,
                 boolean hasSpecial, String allowedSpecials) {
@@ -176,6 +267,16 @@ class StrongPasswordValidatorTest {
             return allowedSpecials;
         }
 
+        @Override
+        public double minEntropy() {
+            return minEntropy;
+        }
+
+        @Override
+        public boolean checkBreached() {
+            return checkBreached;
+        }
+
         @Override
         public String message() {
             return "error";
@@ -0,0 +1,265 @@
+package io.github.validationkit.processor;
+
+import io.github.validationkit.util.ConstraintIndexFile;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Indexes, at compile time, every type that Bean Validation will have to
+ * build metadata for: types with a constraint (any annotation meta-annotated
+ * with {@code @jakarta.validation.Constraint}, including the validation-kit
+ * ones) or a {@code @Valid} cascade on the type, a field, a method, a
+ * parameter or a type argument such as {@code List<@AllowedValues String>}.
+ * <p>
+ * Two resources are written to the class output:
+ * <ul>
+ * <li>{@value ConstraintIndexFile#LOCATION}: the binary names of those types,
+ * one per line. The Spring Boot starter reads it to register AOT runtime
+ * hints and to warm up validation without scanning the class path.</li>
+ * <li>{@code META-INF/native-image/validation-kit/<project>/reflect-config.json}:
+ * the reflection configuration GraalVM native-image needs for Hibernate
+ * Validator to read those types. {@code <project>} is set with the
+ * {@code -Avalidationkit.project=...} compiler option and defaults to
+ * {@code app}.</li>
+ * </ul>
+ * Entries from an earlier compilation into the same output are kept while the
+ * type still exists, so incremental builds do not lose types that were not
+ * recompiled.
+ * <p>
+ * The index lists types; it does not contain constraint metadata. Hibernate
+ * Validator still reads the annotations of each type reflectively the first
+ * time it is validated. What the index saves is finding the types: native
+ * images get their reflection configuration without a class path scan, and
+ * the starter's warm-up builds that metadata before the first request.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(ConstraintIndexProcessor.PROJECT_OPTION)
+public class ConstraintIndexProcessor extends AbstractProcessor {
+
+    static final String PROJECT_OPTION = "validationkit.project";
+
+    private static final String CONSTRAINT = "jakarta.validation.Constraint";
+    private static final String VALID = "jakarta.validation.Valid";
+
+    private final Set<String> scannedTypes = new HashSet<>();
+    private final Set<String> constrainedTypes = new TreeSet<>();
+    private final Map<String, Boolean> constraintAnnotations = new HashMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            write();
+        } else {
+            for (Element element : roundEnv.getRootElements()) {
+                if (element instanceof TypeElement) {
+                    scan((TypeElement) element);
+                }
+            }
+        }
+        // Never claim annotations, other processors may need them
+        return false;
+    }
+
+    private void scan(TypeElement type) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        scannedTypes.add(binaryName);
+        if (isConstrained(type)) {
+            constrainedTypes.add(binaryName);
+        }
+        for (Element member : type.getEnclosedElements()) {
+            if (member instanceof TypeElement) {
+                scan((TypeElement) member);
+            }
+        }
+    }
+
+    private boolean isConstrained(TypeElement type) {
+        if (hasConstraint(type.getAnnotationMirrors())) {
+            return true;
+        }
+        for (Element member : type.getEnclosedElements()) {
+            if (member instanceof VariableElement) {
+                if (hasConstraint(member.getAnnotationMirrors()) || hasConstraint(member.asType())) {
+                    return true;
+                }
+            } else if (member instanceof ExecutableElement) {
+                ExecutableElement executable = (ExecutableElement) member;
+                if (hasConstraint(executable.getAnnotationMirrors())
+                        || hasConstraint(executable.getReturnType())) {
+                    return true;
+                }
+                for (VariableElement parameter : executable.getParameters()) {
+                    if (hasConstraint(parameter.getAnnotationMirrors()) || hasConstraint(parameter.asType())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    // Type-use annotations, including those nested in type arguments and
+    // array components
+    private boolean hasConstraint(TypeMirror type) {
+        if (hasConstraint(type.getAnnotationMirrors())) {
+            return true;
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                if (hasConstraint(argument)) {
+                    return true;
+                }
+            }
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            return hasConstraint(((ArrayType) type).getComponentType());
+        }
+        return false;
+    }
+
+    private boolean hasConstraint(Iterable<? extends AnnotationMirror> annotations) {
+        for (AnnotationMirror annotation : annotations) {
+            Element annotationType = annotation.getAnnotationType().asElement();
+            String name = ((TypeElement) annotationType).getQualifiedName().toString();
+            if (VALID.equals(name) || constraintAnnotations.computeIfAbsent(name,
+                    key -> isConstraintAnnotation(annotationType))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConstraintAnnotation(Element annotationType) {
+        if (annotationType.getKind() != ElementKind.ANNOTATION_TYPE) {
+            return false;
+        }
+        for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+            TypeElement metaType = (TypeElement) meta.getAnnotationType().asElement();
+            if (CONSTRAINT.equals(metaType.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void write() {
+        Filer filer = processingEnv.getFiler();
+        Set<String> types = new TreeSet<>(constrainedTypes);
+        readPreviousIndex(filer, types);
+        if (types.isEmpty()) {
+            return;
+        }
+
+        String project = processingEnv.getOptions().getOrDefault(PROJECT_OPTION, "app");
+        try {
+            FileObject index = filer.createResource(StandardLocation.CLASS_OUTPUT, "", ConstraintIndexFile.LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (String type : types) {
+                    writer.write(type);
+                    writer.write('\n');
+                }
+            }
+
+            FileObject reflectConfig = filer.createResource(StandardLocation.CLASS_OUTPUT, "",
+                    "META-INF/native-image/validation-kit/" + project + "/reflect-config.json");
+            try (Writer writer = reflectConfig.openWriter()) {
+                writer.write("[\n");
+                int i = 0;
+                for (String type : types) {
+                    writer.write("  {\n");
+                    writer.write("    \"name\": \"" + type + "\",\n");
+                    writer.write("    \"allDeclaredFields\": true,\n");
+                    writer.write("    \"allDeclaredMethods\": true,\n");
+                    writer.write("    \"allDeclaredConstructors\": true\n");
+                    writer.write(++i < types.size() ? "  },\n" : "  }\n");
+                }
+                writer.write("]\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write the validation-kit constraint index: " + e.getMessage());
+        }
+    }
+
+    private void readPreviousIndex(Filer filer, Set<String> types) {
+        try {
+            FileObject previous = filer.getResource(StandardLocation.CLASS_OUTPUT, "", ConstraintIndexFile.LOCATION);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(previous.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    // Keep types that were not recompiled this time (those
+                    // were scanned again) and still exist
+                    if (!line.isEmpty() && !line.startsWith("#") && !scannedTypes.contains(line)
+                            && findType(line) != null) {
+                        types.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // No previous index
+        }
+    }
+
+    /**
+     * Looks a type up by its binary name. {@code $} separates nested types
+     * but may also be part of a name, so every split is tried: the part
+     * before it names the enclosing type, whose members are compared by
+     * binary name.
+     */
+    private TypeElement findType(String binaryName) {
+        Elements elements = processingEnv.getElementUtils();
+        TypeElement type = elements.getTypeElement(binaryName);
+        if (type != null && elements.getBinaryName(type).contentEquals(binaryName)) {
+            return type;
+        }
+        for (int nested = binaryName.lastIndexOf('$'); nested > 0; nested = binaryName.lastIndexOf('$',
+                nested - 1)) {
+            TypeElement enclosing = findType(binaryName.substring(0, nested));
+            if (enclosing == null) {
+                continue;
+            }
+            for (Element member : enclosing.getEnclosedElements()) {
+                if (member instanceof TypeElement
+                        && elements.getBinaryName((TypeElement) member).contentEquals(binaryName)) {
+                    return (TypeElement) member;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.validationkit.processor;
+
+import io.github.validationkit.util.ConstraintIndexFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConstraintIndexProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void shouldIndexConstrainedTypes() throws IOException {
+        compile(List.of("-Avalidationkit.project=orders"),
+                source("com.example.UserRequest", """
+                        package com.example;
+
+                        import io.github.validationkit.constraints.AllowedValues;
+
+                        public class UserRequest {
+                            @AllowedValues({ "admin", "user" })
+                            private String role;
+
+                            public static class Address {
+                                @jakarta.validation.constraints.NotBlank
+                                private String city;
+                            }
+                        }
+                        """),
+                source("com.example.Tags", """
+                        package com.example;
+
+                        import io.github.validationkit.constraints.AllowedValues;
+                        import java.util.List;
+
+                        public class Tags {
+                            private List<@AllowedValues({ "java" }) String> tags;
+                        }
+                        """),
+                source("com.example.Order", """
+                        package com.example;
+
+                        public class Order {
+                            @jakarta.validation.Valid
+                            private UserRequest customer;
+                        }
+                        """),
+                source("com.example.Controller", """
+                        package com.example;
+
+                        import io.github.validationkit.constraints.FileExtension;
+
+                        public class Controller {
+                            public void upload(@FileExtension({ "png" }) String name) {
+                            }
+                        }
+                        """),
+                source("com.example.Plain", """
+                        package com.example;
+
+                        public class Plain {
+                            @Deprecated
+                            private String name;
+                        }
+                        """));
+
+        assertEquals(List.of("com.example.Controller", "com.example.Order", "com.example.Tags",
+                "com.example.UserRequest", "com.example.UserRequest$Address"), index());
+
+        String reflectConfig = Files.readString(
+                output.resolve("META-INF/native-image/validation-kit/orders/reflect-config.json"));
+        assertTrue(reflectConfig.contains("\"name\": \"com.example.UserRequest$Address\""));
+        assertTrue(reflectConfig.contains("\"allDeclaredFields\": true"));
+        assertFalse(reflectConfig.contains("com.example.Plain"));
+    }
+
+    @Test
+    void shouldNotWriteAnIndexWithoutConstraints() throws IOException {
+        compile(List.of(), source("com.example.Plain", """
+                package com.example;
+
+                public class Plain {
+                }
+                """));
+
+        assertFalse(Files.exists(output.resolve(ConstraintIndexFile.LOCATION)));
+    }
+
+    @Test
+    void shouldKeepTypesThatWereNotRecompiled() throws IOException {
+        compile(List.of(), source("com.example.First", """
+                package com.example;
+
+                public class First {
+                    @io.github.validationkit.constraints.Base64
+                    private String avatar;
+                }
+                """));
+        compile(List.of(), source("com.example.Second", """
+                package com.example;
+
+                public class Second {
+                    @io.github.validationkit.constraints.StrongPassword
+                    private String password;
+                }
+                """));
+
+        assertEquals(List.of("com.example.First", "com.example.Second"), index());
+    }
+
+    @Test
+    void shouldKeepNestedTypesThatWereNotRecompiled() throws IOException {
+        compile(List.of(), source("com.example.Outer", """
+                package com.example;
+
+                public class Outer {
+                    public static class Inner {
+                        @io.github.validationkit.constraints.Base64
+                        private String avatar;
+
+                        public static class Deepest$Type {
+                            @io.github.validationkit.constraints.Base64
+                            private String avatar;
+                        }
+                    }
+                }
+                """), source("com.example.Dollar$Top", """
+                package com.example;
+
+                public class Dollar$Top {
+                    @io.github.validationkit.constraints.Base64
+                    private String avatar;
+                }
+                """));
+        compile(List.of(), source("com.example.Other", """
+                package com.example;
+
+                public class Other {
+                    @io.github.validationkit.constraints.StrongPassword
+                    private String password;
+                }
+                """));
+
+        assertEquals(List.of("com.example.Dollar$Top", "com.example.Other", "com.example.Outer$Inner",
+                "com.example.Outer$Inner$Deepest$Type"), index());
+    }
+
+    private List<String> index() throws IOException {
+        return Files.readAllLines(output.resolve(ConstraintIndexFile.LOCATION));
+    }
+
+    private void compile(List<String> options, JavaFileObject... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> arguments = new ArrayList<>(options);
+        arguments.addAll(List.of("-d", output.toString(),
+                "-classpath", System.getProperty("java.class.path") + File.pathSeparator + output));
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, arguments, null,
+                Arrays.asList(sources));
+        task.setProcessors(List.of(new ConstraintIndexProcessor()));
+
+        assertTrue(task.call(), () -> diagnostics.getDiagnostics().toString());
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -1,8 +1,12 @@
 package io.github.validationkit.samples.controller;
 
 import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.constraints.FileContent;
 import io.github.validationkit.samples.dto.UserRequest;
+import io.github.validationkit.starter.streaming.JsonArrayValidator;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -10,8 +14,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import io.github.validationkit.samples.dto.PasswordRequest;
+import java.io.IOException;
 import java.util.Map;
 
 @RestController
@@ -19,6 +25,12 @@ import java.util.Map;
 @Validated // Required for method validation (@RequestParam)
 public class UserController {
 
+    private final JsonArrayValidator jsonArrayValidator;
+
+    public UserController(JsonArrayValidator jsonArrayValidator) {
+        this.jsonArrayValidator = jsonArrayValidator;
+    }
+
     @PostMapping
     public Map<String, String> createUser(@Valid @RequestBody UserRequest request) {
         return Map.of("status", "success", "message", "User created: " + request.getUsername());
@@ -29,6 +41,22 @@ public class UserController {
         return Map.of("status", "success", "message", "Password is valid!");
     }
 
+    // Streams the array: each user is validated as it is read, and the
+    // request is rejected after 10 invalid users.
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Map<String, String> importUsers(HttpServletRequest request) throws IOException {
+        int imported = jsonArrayValidator.validate(request.getInputStream(), UserRequest.class, 10, user -> {
+        });
+        return Map.of("status", "success", "message", "Users imported: " + imported);
+    }
+
+    // Checks the uploaded bytes, whatever the file is called
+    @PostMapping(path = "/avatar", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public Map<String, String> uploadAvatar(
+            @RequestParam @FileContent({ FileContent.Type.PNG, FileContent.Type.JPEG }) MultipartFile file) {
+        return Map.of("status", "success", "message", "Avatar uploaded: " + file.getOriginalFilename());
+    }
+
     @GetMapping("/search")
     public Map<String, String> searchUsers(
             @RequestParam @AllowedValues({ "active", "inactive" }) String status) {
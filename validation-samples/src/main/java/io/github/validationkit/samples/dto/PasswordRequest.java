@@ -4,7 +4,7 @@ import io.github.validationkit.constraints.StrongPassword;
 
 public class PasswordRequest {
 
-    @StrongPassword(message = "Password is too weak")
+    @StrongPassword(max = 128, message = "Password is too weak")
     private String password;
 
     @StrongPassword(min = 12, hasSpecialChar = false, message = "Pin must be at least 12 chars, no special chars required")
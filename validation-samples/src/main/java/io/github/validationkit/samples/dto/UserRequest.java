@@ -3,19 +3,21 @@ package io.github.validationkit.samples.dto;
 import io.github.validationkit.constraints.AllowedValues;
 import io.github.validationkit.constraints.Base64;
 import io.github.validationkit.constraints.FileExtension;
+import io.github.validationkit.samples.validation.AvailableUsername;
 import jakarta.validation.constraints.NotBlank;
 import java.util.Collection;
 
 public class UserRequest {
 
     @NotBlank(message = "Username is required")
+    @AvailableUsername
     private String username;
 
     @AllowedValues(value = { "admin", "user", "guest" }, message = "Role must be one of {value}")
     @NotBlank(message = "Role is required")
     private String role;
 
-    @Base64(message = "Avatar must be a valid Base64 string")
+    @Base64(maxDecodedBytes = 65536, message = "Avatar must be a valid Base64 string")
     private String avatarBase64;
 
     @FileExtension(value = { "jpg", "png" }, message = "Profile image must be strict jpg/png")
@@ -27,6 +29,9 @@ public class UserRequest {
     @AllowedValues(value = { "java", "spring", "react" }, message = "Tags must be valid technology stacks")
     private String[] tags;
 
+    @AllowedValues(source = "countryCodes", caseSensitive = false, message = "Country must be an ISO 3166 code")
+    private String country;
+
     // Getters and Setters
     public String getUsername() {
         return username;
@@ -75,4 +80,12 @@ public class UserRequest {
     public void setTags(String[] tags) {
         this.tags = tags;
     }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
 }
@@ -0,0 +1,27 @@
+package io.github.validationkit.samples.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Example of an async constraint: the username must not be registered yet.
+ */
+@Documented
+@Constraint(validatedBy = AvailableUsernameValidator.class)
+@Target(FIELD)
+@Retention(RUNTIME)
+public @interface AvailableUsername {
+
+    String message() default "Username is already taken";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,20 @@
+package io.github.validationkit.samples.validation;
+
+import io.github.validationkit.async.AsyncConstraintValidator;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Stands in for a lookup in a user repository, which would block on I/O.
+ */
+public class AvailableUsernameValidator implements AsyncConstraintValidator<AvailableUsername, String> {
+
+    private static final Set<String> REGISTERED = Set.of("admin", "root");
+
+    @Override
+    public CompletionStage<Boolean> isValidAsync(String value) {
+        return CompletableFuture.completedFuture(value == null || !REGISTERED.contains(value));
+    }
+}
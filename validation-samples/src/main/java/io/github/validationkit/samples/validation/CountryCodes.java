@@ -0,0 +1,21 @@
+package io.github.validationkit.samples.validation;
+
+import io.github.validationkit.util.AllowedValueSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Stands in for a reference-data table; used by
+ * {@code @AllowedValues(source = "countryCodes")}.
+ */
+@Component("countryCodes")
+public class CountryCodes implements AllowedValueSource {
+
+    @Override
+    public Collection<String> load() {
+        return Arrays.asList(Locale.getISOCountries());
+    }
+}
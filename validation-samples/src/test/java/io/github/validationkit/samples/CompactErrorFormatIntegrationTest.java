@@ -0,0 +1,83 @@
+package io.github.validationkit.samples;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = { "validation.errors.format=compact", "validation.size-limits.enabled=true" })
+@AutoConfigureMockMvc
+class CompactErrorFormatIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldReportCatalogCodesWithParameters() throws Exception {
+    mockMvc.perform(post("/api/users/validate-password")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"password\": \"weak\", \"pin\": \"Abcdefghijk1\"}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors", hasSize(2)))
+        .andExpect(jsonPath("$.errors[*].field").value(contains("password", "password")))
+        .andExpect(jsonPath("$.errors[0].id").value(5))
+        .andExpect(jsonPath("$.errors[0].params.min").value(8))
+        .andExpect(jsonPath("$.errors[0].params.max").value(128))
+        .andExpect(jsonPath("$.errors[0].code").doesNotExist())
+        .andExpect(jsonPath("$.errors[0].message").doesNotExist())
+        .andExpect(jsonPath("$.errors[1].id").value(6))
+        .andExpect(jsonPath("$.errors[1].params.required").value(contains("uppercase", "lowercase", "digit", "special")))
+        .andExpect(jsonPath("$.errors[1].params.allowedSpecialChars").value("@$!%*?&_#-"));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldKeepMessagesOfOtherConstraints() throws Exception {
+    String json = """
+        {
+          "username": "",
+          "role": "root",
+          "avatarBase64": "not base64!"
+        }
+        """;
+
+    mockMvc.perform(post("/api/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(json))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[?(@.field == 'role')].id").value(contains(1)))
+        .andExpect(jsonPath("$.errors[?(@.field == 'role')].params.value[*]")
+            .value(contains("admin", "user", "guest")))
+        .andExpect(jsonPath("$.errors[?(@.field == 'avatarBase64')].id").value(contains(2)))
+        .andExpect(jsonPath("$.errors[?(@.field == 'avatarBase64')].params.variant").value(contains("BASIC")))
+        .andExpect(jsonPath("$.errors[?(@.field == 'avatarBase64')].params.maxDecodedBytes").isEmpty())
+        .andExpect(jsonPath("$.errors[?(@.field == 'username')].code").value(hasItem("NotBlank")))
+        .andExpect(jsonPath("$.errors[?(@.field == 'username')].message").value(hasItem("Username is required")));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldReportMethodParametersAndSizeLimitsCompactly() throws Exception {
+    mockMvc.perform(get("/api/users/search").param("status", "deleted"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[0].field").value("status"))
+        .andExpect(jsonPath("$.errors[0].id").value(1));
+
+    mockMvc.perform(post("/api/users/validate-password")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"password\": \"" + "Aa1!".repeat(1_000) + "\"}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[0].field").value("password"))
+        .andExpect(jsonPath("$.errors[0].id").value(5))
+        .andExpect(jsonPath("$.errors[0].params.max").value(128));
+  }
+}
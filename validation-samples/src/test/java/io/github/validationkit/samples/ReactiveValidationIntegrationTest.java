@@ -0,0 +1,176 @@
+package io.github.validationkit.samples;
+
+import io.github.validationkit.samples.dto.PasswordRequest;
+import io.github.validationkit.samples.dto.UserRequest;
+import io.github.validationkit.samples.validation.CountryCodes;
+import io.github.validationkit.starter.streaming.ReactiveBodyValidator;
+import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = ReactiveValidationIntegrationTest.ReactiveApplication.class,
+    properties = { "spring.main.web-application-type=reactive", "validation.size-limits.enabled=true" })
+@AutoConfigureWebTestClient
+class ReactiveValidationIntegrationTest {
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @Autowired
+  private Validator validator;
+
+  @Test
+  void shouldRenderWebExchangeBindException() {
+    webTestClient.post().uri("/reactive/users/validate-password")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"password\": \"weak\", \"pin\": \"Abcdefghijk1\"}")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("Validation failed")
+        .jsonPath("$.errors[0].field").isEqualTo("password")
+        .jsonPath("$.errors[0].code").isEqualTo("StrongPassword");
+  }
+
+  @Test
+  void shouldRejectOversizedFieldsWhileDecoding() {
+    webTestClient.post().uri("/reactive/users/validate-password")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"password\": \"" + "Aa1!".repeat(50_000) + "\", \"pin\": \"Abcdefghijk1\"}")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.errors.length()").isEqualTo(1)
+        .jsonPath("$.errors[0].field").isEqualTo("password")
+        .jsonPath("$.errors[0].message").isEqualTo("Length must be between 8 and 128 characters");
+
+    webTestClient.post().uri("/reactive/users/validate-password")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"password\": ")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.errors").doesNotExist();
+  }
+
+  @Test
+  void shouldCheckAsyncConstraintsWithoutBlocking() {
+    webTestClient.post().uri("/reactive/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"username\": \"admin\", \"role\": \"user\"}")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.errors[0].field").isEqualTo("username")
+        .jsonPath("$.errors[0].code").isEqualTo("AvailableUsername");
+
+    webTestClient.post().uri("/reactive/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"username\": \"jane\", \"role\": \"user\"}")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("User created: jane");
+  }
+
+  @Test
+  void shouldRefuseToBlockNonBlockingThreads() {
+    UserRequest user = new UserRequest();
+    user.setUsername("jane");
+    user.setRole("user");
+
+    Mono<?> validation = Mono.fromCallable(() -> validator.validate(user)).subscribeOn(Schedulers.parallel());
+
+    ValidationException e = assertThrows(ValidationException.class, validation::block);
+    assertInstanceOf(IllegalStateException.class, e.getCause());
+  }
+
+  @Test
+  void shouldValidateStreamedElements() {
+    String users = """
+        [
+          {"username": "a", "role": "user"},
+          {"username": "b", "role": "root"},
+          {"username": "c", "role": "guest"},
+          {"username": "d", "role": "super-admin"}
+        ]
+        """;
+
+    webTestClient.post().uri("/reactive/users/bulk")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(users)
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.errors").value(hasSize(2))
+        .jsonPath("$.errors[*].field").value(contains("[1].role", "[3].role"));
+  }
+
+  @Test
+  void shouldPassValidElementsThrough() {
+    webTestClient.post().uri("/reactive/users/bulk")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("[{\"username\": \"a\", \"role\": \"user\"}, {\"username\": \"b\", \"role\": \"guest\"}]")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("Users imported: 2");
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableAutoConfiguration
+  @Import({ ReactiveUserController.class, CountryCodes.class })
+  static class ReactiveApplication {
+  }
+
+  @RestController
+  @RequestMapping("/reactive/users")
+  static class ReactiveUserController {
+
+    private final ReactiveBodyValidator reactiveBodyValidator;
+
+    ReactiveUserController(ReactiveBodyValidator reactiveBodyValidator) {
+      this.reactiveBodyValidator = reactiveBodyValidator;
+    }
+
+    @PostMapping
+    public Mono<Map<String, String>> createUser(@RequestBody Mono<UserRequest> request) {
+      return reactiveBodyValidator.validate(request)
+          .map(user -> Map.of("status", "success", "message", "User created: " + user.getUsername()));
+    }
+
+    @PostMapping("/validate-password")
+    public Mono<Map<String, String>> validatePassword(@Valid @RequestBody Mono<PasswordRequest> request) {
+      return request.map(password -> Map.of("status", "success", "message", "Password is valid!"));
+    }
+
+    @PostMapping("/bulk")
+    public Mono<Map<String, String>> importUsers(@RequestBody Flux<UserRequest> users) {
+      return reactiveBodyValidator.validate(users, 10)
+          .count()
+          .map(imported -> Map.of("status", "success", "message", "Users imported: " + imported));
+    }
+  }
+}
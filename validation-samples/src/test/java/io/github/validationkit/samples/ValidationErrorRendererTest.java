@@ -0,0 +1,129 @@
+package io.github.validationkit.samples;
+
+import io.github.validationkit.constraints.Base64;
+import io.github.validationkit.constraints.StrongPassword;
+import io.github.validationkit.starter.configuration.ValidationProperties;
+import io.github.validationkit.starter.exception.ValidationErrorRenderer;
+import io.github.validationkit.starter.exception.ValidationErrorResponse;
+import io.github.validationkit.starter.exception.ValidationErrorResponse.ValidationError;
+import io.github.validationkit.starter.exception.ViolationCode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ValidationErrorRendererTest {
+
+  private static ValidatorFactory factory;
+  private static Validator validator;
+
+  @BeforeAll
+  static void createFactory() {
+    factory = Validation.buildDefaultValidatorFactory();
+    validator = factory.getValidator();
+  }
+
+  @AfterAll
+  static void closeFactory() {
+    factory.close();
+  }
+
+  @Test
+  void shouldReportEachPasswordFailureWithItsOwnCode() {
+    List<ValidationError> errors = render(compact(0), new Credentials("abc", "AAAA"));
+
+    assertEquals(List.of(ViolationCode.STRONG_PASSWORD_LENGTH, ViolationCode.STRONG_PASSWORD_CHARACTERS,
+        ViolationCode.STRONG_PASSWORD_ENTROPY), errors.stream().map(ValidationError::getViolationCode).toList());
+    assertEquals(Map.of("min", 8, "max", 64), errors.get(0).getParameters());
+    assertEquals(Map.of("required", List.of("uppercase", "lowercase", "digit", "special"),
+        "allowedSpecialChars", "!#"), errors.get(1).getParameters());
+    assertNull(errors.get(0).getMessage());
+  }
+
+  @Test
+  void shouldReportEntropyWithItsMinimum() {
+    List<ValidationError> errors = render(compact(0), new Credentials("Aaaaaaaaaa1!", "AAAA"));
+
+    assertEquals(1, errors.size());
+    assertEquals(ViolationCode.STRONG_PASSWORD_ENTROPY, errors.get(0).getViolationCode());
+    assertEquals(Map.of("minEntropy", 80.0), errors.get(0).getParameters());
+  }
+
+  @Test
+  void shouldTellMalformedFromOversizedBase64() {
+    List<ValidationError> malformed = render(compact(0), new Credentials("Correct-Horse-9#", "not base64!"));
+    List<ValidationError> oversized = render(compact(0), new Credentials("Correct-Horse-9#", "AAAAAAAA"));
+
+    assertEquals(ViolationCode.BASE64_MALFORMED, malformed.get(0).getViolationCode());
+    assertEquals(Map.of("variant", Base64.Variant.BASIC), malformed.get(0).getParameters());
+    assertEquals(ViolationCode.BASE64_TOO_LARGE, oversized.get(0).getViolationCode());
+    assertEquals(Map.of("maxDecodedBytes", 4), oversized.get(0).getParameters());
+  }
+
+  @Test
+  void shouldKeepTheFirstReasonWhenFull() {
+    List<ValidationError> errors = render(compact(1), new Credentials("abc", "AAAA"));
+
+    assertEquals(1, errors.size());
+    assertEquals(ViolationCode.STRONG_PASSWORD_LENGTH, errors.get(0).getViolationCode());
+  }
+
+  @Test
+  void shouldReportMessagesInTheFullFormat() {
+    List<ValidationError> errors = render(new ValidationProperties(), new Credentials("abc", "AAAA"));
+
+    assertEquals(1, errors.size());
+    assertNull(errors.get(0).getViolationCode());
+    assertEquals("StrongPassword", errors.get(0).getCode());
+    assertEquals("Length must be between 8 and 64 characters, Must contain at least one uppercase letter, "
+        + "Must contain at least one digit, Must contain at least one special character from: !#, "
+        + "Must have an estimated entropy of at least 80 bits",
+        errors.get(0).getMessage());
+  }
+
+  private static ValidationProperties compact(int maxErrors) {
+    ValidationProperties properties = new ValidationProperties();
+    properties.setFormat(ValidationProperties.Format.COMPACT);
+    properties.setMaxErrors(maxErrors);
+    return properties;
+  }
+
+  private static List<ValidationError> render(ValidationProperties properties, Credentials credentials) {
+    ValidationErrorRenderer renderer = new ValidationErrorRenderer(properties);
+    ValidationErrorResponse response = new ValidationErrorResponse(400, "Validation failed");
+    List<ConstraintViolation<Credentials>> violations = validator.validate(credentials).stream()
+        .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+        .toList();
+    for (ConstraintViolation<Credentials> violation : violations) {
+      if (renderer.isFull(response)) {
+        break;
+      }
+      renderer.addError(response, violation);
+    }
+    return response.getErrors();
+  }
+
+  static class Credentials {
+
+    @StrongPassword(max = 64, allowedSpecialChars = "!#", minEntropy = 80)
+    private final String password;
+
+    @Base64(maxDecodedBytes = 4)
+    private final String token;
+
+    Credentials(String password, String token) {
+      this.password = password;
+      this.token = token;
+    }
+  }
+}
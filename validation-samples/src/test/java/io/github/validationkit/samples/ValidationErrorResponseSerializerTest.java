@@ -0,0 +1,73 @@
+package io.github.validationkit.samples;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.github.validationkit.constraints.Base64;
+import io.github.validationkit.starter.exception.ValidationErrorResponse;
+import io.github.validationkit.starter.exception.ValidationErrorResponseSerializer;
+import io.github.validationkit.starter.exception.ViolationCode;
+import io.github.validationkit.starter.jackson.ValidationErrorModule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class ValidationErrorResponseSerializerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ValidationErrorModule());
+
+  @Test
+  void shouldWriteMessagesAndCompactErrors() throws Exception {
+    assertInstanceOf(ValidationErrorResponseSerializer.class,
+        objectMapper.getSerializerProviderInstance().findValueSerializer(ValidationErrorResponse.class));
+    assertEquals("{\"status\":400,\"message\":\"Validation failed\",\"errors\":["
+        + "{\"field\":\"username\",\"code\":\"NotBlank\",\"message\":\"Username is required\"},"
+        + "{\"field\":\"password\",\"id\":5,\"params\":{\"min\":8}},"
+        + "{\"field\":\"password\",\"id\":6,\"params\":{\"required\":[\"uppercase\",\"digit\"]}},"
+        + "{\"field\":\"password\",\"id\":8},"
+        + "{\"field\":\"avatar\",\"id\":2,\"params\":{\"variant\":\"URL_SAFE\"}}]}",
+        objectMapper.writeValueAsString(response()));
+  }
+
+  @Test
+  void shouldWriteWhatBeanSerializationWrites() throws Exception {
+    ValidationErrorResponse response = response();
+    response.addError("pin", "StrongPassword", null);
+
+    assertEquals(new ObjectMapper().writeValueAsString(response), objectMapper.writeValueAsString(response));
+
+    ObjectMapper nonNull = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    assertEquals(nonNull.writeValueAsString(response),
+        nonNull.copy().registerModule(new ValidationErrorModule()).writeValueAsString(response));
+  }
+
+  @Test
+  void shouldLeaveOtherNamingAndInclusionToBeanSerialization() throws Exception {
+    ValidationErrorResponse response = new ValidationErrorResponse(400, "Validation failed");
+
+    ObjectMapper upperCamelCase = new ObjectMapper()
+        .setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE)
+        .registerModule(new ValidationErrorModule());
+    assertEquals("{\"Status\":400,\"Message\":\"Validation failed\",\"Errors\":[]}",
+        upperCamelCase.writeValueAsString(response));
+
+    ObjectMapper nonEmpty = new ObjectMapper()
+        .setSerializationInclusion(JsonInclude.Include.NON_EMPTY)
+        .registerModule(new ValidationErrorModule());
+    assertEquals("{\"status\":400,\"message\":\"Validation failed\"}", nonEmpty.writeValueAsString(response));
+  }
+
+  private static ValidationErrorResponse response() {
+    ValidationErrorResponse response = new ValidationErrorResponse(400, "Validation failed");
+    response.addError("username", "NotBlank", "Username is required");
+    response.addError("password", ViolationCode.STRONG_PASSWORD_LENGTH, new Object[] { 8, null });
+    response.addError("password", ViolationCode.STRONG_PASSWORD_CHARACTERS,
+        new Object[] { List.of("uppercase", "digit"), null });
+    response.addError("password", ViolationCode.STRONG_PASSWORD_BREACHED, new Object[0]);
+    response.addError("avatar", ViolationCode.BASE64_MALFORMED, new Object[] { Base64.Variant.URL_SAFE });
+    return response;
+  }
+}
@@ -5,9 +5,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -94,4 +98,136 @@ class ValidationIntegrationTest {
         .andExpect(jsonPath("$.errors[?(@.field == 'avatarBase64')].message")
             .value(hasItem("Avatar must be a valid Base64 string")));
   }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldStreamValidBulkRequest() throws Exception {
+    String validJson = """
+        [
+          {"username": "alice", "role": "admin", "profileImageName": "a.png", "permissions": ["developer"], "tags": ["java"]},
+          {"username": "bob", "role": "user", "profileImageName": "b.jpg", "permissions": ["tester"], "tags": ["spring"]}
+        ]
+        """;
+
+    mockMvc.perform(post("/api/users/bulk")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(validJson))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.message").value("Users imported: 2"));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldReportBulkErrorsWithElementIndex() throws Exception {
+    String invalidJson = """
+        [
+          {"username": "alice", "role": "admin", "profileImageName": "a.png", "permissions": ["developer"], "tags": ["java"]},
+          {"username": "bob", "role": "super-admin", "profileImageName": "b.exe", "permissions": ["tester"], "tags": ["spring"]}
+        ]
+        """;
+
+    mockMvc.perform(post("/api/users/bulk")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(invalidJson))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Validation failed"))
+        .andExpect(jsonPath("$.errors", hasSize(2)))
+        .andExpect(jsonPath("$.errors[?(@.field == '[1].role')].code").value(hasItem("AllowedValues")))
+        .andExpect(jsonPath("$.errors[?(@.field == '[1].profileImageName')].message")
+            .value(hasItem("Profile image must be strict jpg/png")));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldRejectBulkRequestThatIsNotAnArray() throws Exception {
+    mockMvc.perform(post("/api/users/bulk")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"username\": \"alice\"}"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldRejectBulkRequestWithContentAfterTheArray() throws Exception {
+    String json = """
+        [{"username": "alice", "role": "admin", "profileImageName": "a.png", "permissions": ["developer"], "tags": ["java"]}]
+        {"username": "bob"}
+        """;
+
+    mockMvc.perform(post("/api/users/bulk")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(json))
+        .andExpect(status().isBadRequest());
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldReturn400ForTakenUsername() throws Exception {
+    String json = """
+        {
+          "username": "admin",
+          "role": "admin",
+          "profileImageName": "pic.png",
+          "permissions": ["developer"],
+          "tags": ["java"]
+        }
+        """;
+
+    mockMvc.perform(post("/api/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(json))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors", hasSize(1)))
+        .andExpect(jsonPath("$.errors[0].field").value("username"))
+        .andExpect(jsonPath("$.errors[0].code").value("AvailableUsername"))
+        .andExpect(jsonPath("$.errors[0].message").value("Username is already taken"));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldCheckCountryAgainstSource() throws Exception {
+    String json = """
+        {
+          "username": "coder123",
+          "role": "admin",
+          "country": "%s"
+        }
+        """;
+
+    mockMvc.perform(post("/api/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(json.formatted("de")))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(post("/api/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(json.formatted("XX")))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors", hasSize(1)))
+        .andExpect(jsonPath("$.errors[0].field").value("country"))
+        .andExpect(jsonPath("$.errors[0].code").value("AllowedValues"));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldAcceptAvatarByContent() throws Exception {
+    byte[] png = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D, 'I', 'H', 'D', 'R' };
+
+    mockMvc.perform(multipart("/api/users/avatar")
+        .file(new MockMultipartFile("file", "avatar.bin", "application/octet-stream", png)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.message").value("Avatar uploaded: avatar.bin"));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldRejectAvatarWithForeignContent() throws Exception {
+    byte[] script = "#!/bin/sh\nrm -rf /\n".getBytes(StandardCharsets.US_ASCII);
+
+    mockMvc.perform(multipart("/api/users/avatar")
+        .file(new MockMultipartFile("file", "avatar.png", "image/png", script)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[0].code").value("FileContent"))
+        .andExpect(jsonPath("$.errors[0].message").value("File content must be one of [PNG, JPEG]"));
+  }
 }
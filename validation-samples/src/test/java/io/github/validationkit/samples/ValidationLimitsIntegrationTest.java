@@ -0,0 +1,63 @@
+package io.github.validationkit.samples;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "validation.errors.fail-fast=true",
+    "validation.errors.max-errors=2"
+})
+@AutoConfigureMockMvc
+class ValidationLimitsIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldStopAtFirstViolationInFailFastMode() throws Exception {
+    String invalidJson = """
+        {
+          "username": "",
+          "role": "super-admin",
+          "profileImageName": "pic.exe",
+          "permissions": ["hacker"],
+          "tags": ["cobol"]
+        }
+        """;
+
+    mockMvc.perform(post("/api/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(invalidJson))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors", hasSize(1)));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldCapErrorsPerResponse() throws Exception {
+    String invalidJson = """
+        [
+          {"username": "a", "role": "root", "profileImageName": "a.png", "permissions": ["developer"], "tags": ["java"]},
+          {"username": "b", "role": "root", "profileImageName": "b.png", "permissions": ["developer"], "tags": ["java"]},
+          {"username": "c", "role": "root", "profileImageName": "c.png", "permissions": ["developer"], "tags": ["java"]}
+        ]
+        """;
+
+    mockMvc.perform(post("/api/users/bulk")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(invalidJson))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors", hasSize(2)))
+        .andExpect(jsonPath("$.errors[*].field", contains("[0].role", "[1].role")));
+  }
+}
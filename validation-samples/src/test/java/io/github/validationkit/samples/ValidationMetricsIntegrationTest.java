@@ -0,0 +1,59 @@
+package io.github.validationkit.samples;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "validation.metrics.enabled=true")
+@AutoConfigureMockMvc
+class ValidationMetricsIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldRecordConstraintTimingsAndErrors() throws Exception {
+    String invalidJson = """
+        {
+          "username": "coder123",
+          "role": "super-admin",
+          "profileImageName": "pic.png",
+          "permissions": ["developer"],
+          "tags": ["java"]
+        }
+        """;
+
+    mockMvc.perform(post("/api/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(invalidJson))
+        .andExpect(status().isBadRequest());
+
+    Timer invalid = meterRegistry.find("validationkit.constraint")
+        .tags("constraint", "AllowedValues", "outcome", "invalid").timer();
+    assertNotNull(invalid);
+    assertTrue(invalid.count() >= 1);
+
+    Timer valid = meterRegistry.find("validationkit.constraint")
+        .tags("constraint", "FileExtension", "outcome", "valid").timer();
+    assertNotNull(valid);
+    assertTrue(valid.count() >= 1);
+
+    assertEquals(1.0, meterRegistry.get("validationkit.errors")
+        .tags("constraint", "AllowedValues", "dto", "UserRequest").counter().count());
+  }
+}
@@ -0,0 +1,157 @@
+package io.github.validationkit.samples;
+
+import io.github.validationkit.plan.CompiledValidator;
+import io.github.validationkit.samples.dto.PasswordRequest;
+import io.github.validationkit.samples.dto.UserRequest;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "validation.plans.enabled=true")
+@AutoConfigureMockMvc
+class ValidationPlansIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private CompiledValidator compiledValidator;
+
+  // The default validator must stay the one injected by type
+  @Autowired
+  private Validator validator;
+
+  @BeforeEach
+  void resetDelegate() {
+    clearInvocations(SpyDelegateConfiguration.delegate);
+  }
+
+  @Test
+  void shouldKeepTheDefaultValidatorPrimary() {
+    assertFalse(validator instanceof CompiledValidator);
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldAcceptValidRequestsWithoutTheDelegate() throws Exception {
+    assertTrue(compiledValidator.isCompiled(PasswordRequest.class));
+
+    mockMvc.perform(post("/api/users/validate-password")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"password\": \"Str0ng!Passw0rd#2024\", \"pin\": \"abcdefGH1234\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.message").value("Password is valid!"));
+
+    verify(SpyDelegateConfiguration.delegate, never()).validate(any(), any(Class[].class));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldAcceptValidUserRequest() throws Exception {
+    // @AvailableUsername is async, which plans leave to the delegate
+    assertFalse(compiledValidator.isCompiled(UserRequest.class));
+
+    mockMvc.perform(post("/api/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("""
+            {
+              "username": "coder123",
+              "role": "admin",
+              "profileImageName": "pic.png",
+              "permissions": ["developer"],
+              "tags": ["java", "spring"]
+            }
+            """))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.message").value("User created: coder123"));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldReportTheSameErrorsAsWithoutPlans() throws Exception {
+    // The body returned with validation.plans.enabled=false; errors in any order
+    mockMvc.perform(post("/api/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("""
+            {
+              "username": "admin",
+              "role": "super-admin",
+              "profileImageName": "pic.exe",
+              "permissions": ["hacker"],
+              "tags": ["cobol"],
+              "country": "XX"
+            }
+            """))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors", hasSize(6)))
+        .andExpect(content().json("""
+            {"status": 400, "message": "Validation failed", "errors": [
+              {"field": "username", "code": "AvailableUsername", "message": "Username is already taken"},
+              {"field": "role", "code": "AllowedValues", "message": "Role must be one of [admin, user, guest]"},
+              {"field": "profileImageName", "code": "FileExtension", "message": "Profile image must be strict jpg/png"},
+              {"field": "permissions", "code": "AllowedValues", "message": "Permissions must be valid"},
+              {"field": "tags", "code": "AllowedValues", "message": "Tags must be valid technology stacks"},
+              {"field": "country", "code": "AllowedValues", "message": "Country must be an ISO 3166 code"}
+            ]}
+            """));
+
+    mockMvc.perform(post("/api/users/validate-password")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"password\": \"weak\"}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors", hasSize(1)))
+        .andExpect(jsonPath("$.errors[0].field").value("password"))
+        .andExpect(jsonPath("$.errors[0].message")
+            .value(startsWith("Length must be between 8 and 128 characters")));
+    verify(SpyDelegateConfiguration.delegate, atLeastOnce()).validate(any(), any(Class[].class));
+  }
+
+  // Swaps the starter's compiled validator for one whose delegate can be
+  // checked. A Validator bean of its own would make Boot's default validator
+  // back off.
+  @TestConfiguration(proxyBeanMethods = false)
+  static class SpyDelegateConfiguration {
+
+    static Validator delegate;
+
+    @Bean
+    static BeanPostProcessor spyDelegatePostProcessor(ObjectProvider<ValidatorFactory> validatorFactory) {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (!(bean instanceof CompiledValidator)) {
+            return bean;
+          }
+          ValidatorFactory factory = validatorFactory.getObject();
+          delegate = spy(factory.getValidator());
+          return new CompiledValidator(delegate, factory.getConstraintValidatorFactory());
+        }
+      };
+    }
+  }
+}
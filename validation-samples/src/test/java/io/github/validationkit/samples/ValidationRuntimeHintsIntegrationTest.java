@@ -0,0 +1,43 @@
+package io.github.validationkit.samples;
+
+import io.github.validationkit.samples.dto.PasswordRequest;
+import io.github.validationkit.samples.dto.UserRequest;
+import io.github.validationkit.starter.aot.ConstraintIndex;
+import io.github.validationkit.starter.aot.ValidationRuntimeHints;
+import io.github.validationkit.util.ConstraintIndexFile;
+import io.github.validationkit.validators.AllowedValuesValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ValidationRuntimeHintsIntegrationTest {
+
+  @Autowired
+  private ConstraintIndex constraintIndex;
+
+  @Test
+  void shouldIndexConstrainedTypesAtCompileTime() {
+    assertTrue(constraintIndex.getTypeNames().contains(UserRequest.class.getName()));
+    assertTrue(constraintIndex.getTypeNames().contains(PasswordRequest.class.getName()));
+    assertFalse(constraintIndex.getTypeNames().contains(ValidationSamplesApplication.class.getName()));
+  }
+
+  @Test
+  void shouldRegisterReflectionHints() {
+    RuntimeHints hints = new RuntimeHints();
+    new ValidationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+    assertTrue(RuntimeHintsPredicates.reflection().onType(UserRequest.class)
+        .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+    assertTrue(RuntimeHintsPredicates.reflection().onType(AllowedValuesValidator.class)
+        .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+    assertTrue(RuntimeHintsPredicates.resource().forResource(ConstraintIndexFile.LOCATION).test(hints));
+  }
+}
@@ -0,0 +1,114 @@
+package io.github.validationkit.samples;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "validation.size-limits.enabled=true")
+@AutoConfigureMockMvc
+class ValidationSizeLimitsIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldRejectOversizedPasswordWhileParsing() throws Exception {
+    String json = "{\"password\": \"" + "Aa1!".repeat(50_000) + "\", \"pin\": \"Abcdefghijk1\"}";
+
+    mockMvc.perform(post("/api/users/validate-password")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(json))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Validation failed"))
+        .andExpect(jsonPath("$.errors", hasSize(1)))
+        .andExpect(jsonPath("$.errors[0].field").value("password"))
+        .andExpect(jsonPath("$.errors[0].code").value("StrongPassword"))
+        .andExpect(jsonPath("$.errors[0].message").value("Length must be between 8 and 128 characters"));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldReportAllowedValuesLimitsWithTheConstraintMessage() throws Exception {
+    String json = """
+        {
+          "username": "coder123",
+          "role": "%s",
+          "permissions": ["developer", "%s"]
+        }
+        """;
+
+    mockMvc.perform(post("/api/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(json.formatted("x".repeat(1_000), "developer")))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors", hasSize(1)))
+        .andExpect(jsonPath("$.errors[0].field").value("role"))
+        .andExpect(jsonPath("$.errors[0].code").value("AllowedValues"))
+        .andExpect(jsonPath("$.errors[0].message").value("Role must be one of [admin, user, guest]"));
+
+    mockMvc.perform(post("/api/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(json.formatted("admin", "y".repeat(1_000))))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[0].field").value("permissions"))
+        .andExpect(jsonPath("$.errors[0].message").value("Permissions must be valid"));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldLetValidAndBlankValuesThrough() throws Exception {
+    String json = """
+        {
+          "username": "coder123",
+          "role": "admin",
+          "avatarBase64": "%s",
+          "tags": ["java", "%s"]
+        }
+        """.formatted("QUJD".repeat(1_000), " ".repeat(100));
+
+    mockMvc.perform(post("/api/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(json))
+        .andExpect(status().isOk());
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldStopStreamedArraysAtTheOversizedElement() throws Exception {
+    String json = """
+        [
+          {"username": "a", "role": "root"},
+          {"username": "b", "role": "%s"},
+          {"username": "c", "role": "admin"}
+        ]
+        """.formatted("z".repeat(1_000));
+
+    mockMvc.perform(post("/api/users/bulk")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(json))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors", hasSize(2)))
+        .andExpect(jsonPath("$.errors[0].field").value("[0].role"))
+        .andExpect(jsonPath("$.errors[1].field").value("[1].role"))
+        .andExpect(jsonPath("$.errors[1].code").value("AllowedValues"));
+  }
+
+  @SuppressWarnings("null")
+  @Test
+  void shouldLeaveOtherParseErrorsToSpring() throws Exception {
+    mockMvc.perform(post("/api/users")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"role\": "))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors").doesNotExist());
+  }
+}
@@ -0,0 +1,60 @@
+package io.github.validationkit.samples;
+
+import io.github.validationkit.samples.controller.UserController;
+import io.github.validationkit.samples.dto.PasswordRequest;
+import io.github.validationkit.samples.dto.UserRequest;
+import io.github.validationkit.starter.metrics.ValidationMetrics;
+import io.github.validationkit.starter.warmup.ValidationWarmup;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Metrics are enabled to check that warm-up samples are not recorded
+@SpringBootTest(properties = { "validation.warmup.enabled=true", "validation.warmup.iterations=10",
+    "validation.metrics.enabled=true" })
+class ValidationWarmupIntegrationTest {
+
+  @Autowired
+  private ValidationWarmup validationWarmup;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private Validator validator;
+
+  @Test
+  void shouldWarmUpRequestBodiesAndControllers() {
+    Set<Class<?>> types = validationWarmup.warmUp();
+
+    assertTrue(types.contains(UserRequest.class));
+    assertTrue(types.contains(PasswordRequest.class));
+    assertTrue(types.contains(UserController.class));
+    assertFalse(ValidationWarmup.isWarmingUp());
+  }
+
+  @Test
+  void shouldNotRecordWarmupSamplesInConstraintMetrics() {
+    long before = recordedCalls();
+    validationWarmup.warmUp();
+    assertEquals(before, recordedCalls());
+
+    PasswordRequest request = new PasswordRequest();
+    request.setPassword("weak");
+    validator.validate(request);
+    assertTrue(recordedCalls() > before);
+  }
+
+  private long recordedCalls() {
+    return meterRegistry.find(ValidationMetrics.CONSTRAINT_TIMER).timers().stream().mapToLong(Timer::count).sum();
+  }
+}
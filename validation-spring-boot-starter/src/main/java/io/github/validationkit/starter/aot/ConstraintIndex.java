@@ -0,0 +1,83 @@
+package io.github.validationkit.starter.aot;
+
+import io.github.validationkit.util.ConstraintIndexFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The constrained types listed by the {@code validation-processor} annotation
+ * processor in {@value ConstraintIndexFile#LOCATION}, merged across all jars
+ * on the class path. Empty if no module was compiled with the processor.
+ */
+public final class ConstraintIndex {
+
+    private final Set<String> typeNames;
+
+    private ConstraintIndex(Set<String> typeNames) {
+        this.typeNames = Collections.unmodifiableSet(typeNames);
+    }
+
+    public static ConstraintIndex load(ClassLoader classLoader) {
+        Set<String> typeNames = new TreeSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(ConstraintIndexFile.LOCATION);
+            while (resources.hasMoreElements()) {
+                read(resources.nextElement(), typeNames);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + ConstraintIndexFile.LOCATION, e);
+        }
+        return new ConstraintIndex(typeNames);
+    }
+
+    private static void read(URL resource, Set<String> typeNames) throws IOException {
+        try (InputStream in = resource.openStream();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    typeNames.add(line);
+                }
+            }
+        }
+    }
+
+    /**
+     * Binary names of the indexed types.
+     */
+    public Set<String> getTypeNames() {
+        return typeNames;
+    }
+
+    /**
+     * The indexed types that can be loaded; stale entries are skipped.
+     */
+    public List<Class<?>> getTypes(ClassLoader classLoader) {
+        List<Class<?>> types = new ArrayList<>(typeNames.size());
+        for (String typeName : typeNames) {
+            try {
+                types.add(Class.forName(typeName, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                // Removed since the index was written
+            }
+        }
+        return types;
+    }
+
+    public boolean isEmpty() {
+        return typeNames.isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.validationkit.starter.aot;
+
+import io.github.validationkit.util.ConstraintIndexFile;
+import io.github.validationkit.validators.AllowedValuesBufferValidator;
+import io.github.validationkit.validators.AllowedValuesValidator;
+import io.github.validationkit.validators.Base64BufferValidator;
+import io.github.validationkit.validators.Base64BytesValidator;
+import io.github.validationkit.validators.Base64Validator;
+import io.github.validationkit.validators.FileContentBytesValidator;
+import io.github.validationkit.validators.FileContentPathValidator;
+import io.github.validationkit.validators.FileContentStreamValidator;
+import io.github.validationkit.validators.FileExtensionBufferValidator;
+import io.github.validationkit.validators.FileExtensionBytesValidator;
+import io.github.validationkit.validators.FileExtensionValidator;
+import io.github.validationkit.validators.StrongPasswordValidator;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Native-image hints for validation-kit: the validators, which Hibernate
+ * Validator instantiates reflectively, and every type listed in the
+ * {@link ConstraintIndex}, whose fields and getters it reads reflectively.
+ */
+public class ValidationRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> validator : new Class<?>[] { AllowedValuesValidator.class, AllowedValuesBufferValidator.class,
+                Base64Validator.class, Base64BytesValidator.class, Base64BufferValidator.class,
+                FileContentBytesValidator.class, FileContentPathValidator.class, FileContentStreamValidator.class,
+                FileExtensionValidator.class, FileExtensionBytesValidator.class, FileExtensionBufferValidator.class,
+                StrongPasswordValidator.class }) {
+            hints.reflection().registerType(validator, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+        // Only loadable with spring-web, hence by name
+        hints.reflection().registerType(
+                TypeReference.of("io.github.validationkit.starter.validators.MultipartFileContentValidator"),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+        ClassLoader loader = classLoader != null ? classLoader : ValidationRuntimeHints.class.getClassLoader();
+        for (String typeName : ConstraintIndex.load(loader).getTypeNames()) {
+            hints.reflection().registerType(TypeReference.of(typeName),
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+        hints.resources().registerPattern(ConstraintIndexFile.LOCATION);
+    }
+}
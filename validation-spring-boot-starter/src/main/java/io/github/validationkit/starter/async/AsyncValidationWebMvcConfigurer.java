@@ -0,0 +1,44 @@
+package io.github.validationkit.starter.async;
+
+import io.github.validationkit.async.AsyncValidator;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Has Spring MVC validate {@code @Valid} arguments through the
+ * {@link AsyncValidator}, so the async checks of a bean run concurrently and
+ * the request thread waits for them once.
+ * <p>
+ * Spring MVC accepts a single configurer supplying a validator. If the
+ * application has another one, this configurer supplies none and the
+ * application's validator is used as before.
+ */
+public class AsyncValidationWebMvcConfigurer implements WebMvcConfigurer {
+
+    private static final Log logger = LogFactory.getLog(AsyncValidationWebMvcConfigurer.class);
+
+    private final AsyncValidator asyncValidator;
+    private final ObjectProvider<WebMvcConfigurer> configurers;
+
+    public AsyncValidationWebMvcConfigurer(AsyncValidator asyncValidator,
+            ObjectProvider<WebMvcConfigurer> configurers) {
+        this.asyncValidator = asyncValidator;
+        this.configurers = configurers;
+    }
+
+    @Override
+    public Validator getValidator() {
+        for (WebMvcConfigurer configurer : configurers) {
+            if (configurer != this && configurer.getValidator() != null) {
+                logger.info("Not validating @Valid arguments through the AsyncValidator, "
+                        + configurer.getClass().getName() + " already supplies a validator");
+                return null;
+            }
+        }
+        return new SpringValidatorAdapter(asyncValidator.asValidator());
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.validationkit.starter.async;
+
+import io.github.validationkit.async.ContextDecorator;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Carries the caller's {@link LocaleContextHolder} and
+ * {@link RequestContextHolder} state to the thread that finishes an
+ * {@code AsyncValidator} run, so messages are interpolated in the request's
+ * locale and request-scoped beans resolve in validators.
+ * <p>
+ * Anything else, such as the security context, is propagated by the
+ * application's {@link TaskDecorator} bean if there is one (e.g. Spring's
+ * {@code ContextPropagatingTaskDecorator}), which is applied around it.
+ */
+public class RequestContextDecorator implements ContextDecorator {
+
+    private final TaskDecorator taskDecorator;
+
+    public RequestContextDecorator() {
+        this(null);
+    }
+
+    /**
+     * @param taskDecorator also applied to the task, may be {@code null}
+     */
+    public RequestContextDecorator(TaskDecorator taskDecorator) {
+        this.taskDecorator = taskDecorator;
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        Runnable restoring = () -> {
+            LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+            RequestAttributes previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+            LocaleContextHolder.setLocaleContext(localeContext);
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                task.run();
+            } finally {
+                LocaleContextHolder.setLocaleContext(previousLocaleContext);
+                RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+            }
+        };
+        return taskDecorator != null ? taskDecorator.decorate(restoring) : restoring;
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.validationkit.starter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "validation.allowed-values")
+public class ValidationAllowedValuesProperties {
+
+    /**
+     * How often the sources of {@code @AllowedValues(source = ...)} are
+     * reloaded in the background. Files are only read again once they
+     * changed. Zero disables periodic reloads.
+     */
+    private Duration reloadInterval = Duration.ofMinutes(1);
+
+    public Duration getReloadInterval() {
+        return reloadInterval;
+    }
+
+    public void setReloadInterval(Duration reloadInterval) {
+        this.reloadInterval = reloadInterval;
+    }
+}
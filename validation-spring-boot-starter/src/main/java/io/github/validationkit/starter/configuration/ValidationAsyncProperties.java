@@ -0,0 +1,23 @@
+package io.github.validationkit.starter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "validation.async")
+public class ValidationAsyncProperties {
+
+    /**
+     * Whether Spring MVC validates {@code @Valid} arguments through the
+     * {@code AsyncValidator}, so the async constraints of a bean run
+     * concurrently. Beans without async constraints are validated as before.
+     * Ignored if another {@code WebMvcConfigurer} supplies a validator.
+     */
+    private boolean enabled = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -1,20 +1,356 @@
 package io.github.validationkit.starter.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.validationkit.async.AsyncValidator;
+import io.github.validationkit.constraints.FileContent;
+import io.github.validationkit.plan.CompiledValidator;
+import io.github.validationkit.starter.async.AsyncValidationWebMvcConfigurer;
+import io.github.validationkit.starter.async.RequestContextDecorator;
+import io.github.validationkit.starter.aot.ConstraintIndex;
+import io.github.validationkit.starter.aot.ValidationRuntimeHints;
 import io.github.validationkit.starter.exception.GlobalValidationExceptionHandler;
+import io.github.validationkit.starter.exception.ReactiveSizeLimitExceptionHandler;
+import io.github.validationkit.starter.exception.ReactiveValidationExceptionHandler;
+import io.github.validationkit.starter.exception.SizeLimitExceptionHandler;
+import io.github.validationkit.starter.exception.ValidationErrorListener;
+import io.github.validationkit.starter.exception.ValidationErrorRenderer;
+import io.github.validationkit.starter.jackson.ConstraintSizeLimitModule;
+import io.github.validationkit.starter.jackson.ValidationErrorModule;
+import io.github.validationkit.starter.metrics.InstrumentedConstraintValidatorFactory;
+import io.github.validationkit.starter.metrics.ValidationMetrics;
+import io.github.validationkit.starter.passwords.BreachedPasswordFilterRegistrar;
+import io.github.validationkit.starter.sources.AllowedValueSourceRegistrar;
+import io.github.validationkit.starter.streaming.JsonArrayValidator;
+import io.github.validationkit.starter.streaming.ReactiveBodyValidator;
+import io.github.validationkit.starter.validators.MultipartFileContentValidator;
+import io.github.validationkit.starter.warmup.ValidationWarmup;
+import io.github.validationkit.util.BloomFilter;
+import io.github.validationkit.util.CachingMessageInterpolator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.spi.ConfigurationState;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationConfigurationCustomizer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.validation.beanvalidation.LocaleContextMessageInterpolator;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import reactor.core.publisher.Flux;
 
-@AutoConfiguration
+import java.io.IOException;
+
+@AutoConfiguration(after = { JacksonAutoConfiguration.class,
+        org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration.class })
 @ConditionalOnWebApplication
-@EnableConfigurationProperties(ValidationProperties.class)
+@EnableConfigurationProperties({ ValidationProperties.class, ValidationAllowedValuesProperties.class,
+        ValidationAsyncProperties.class, ValidationMessagesProperties.class, ValidationMetricsProperties.class,
+        ValidationPasswordProperties.class, ValidationPlanProperties.class, ValidationSizeLimitProperties.class,
+        ValidationWarmupProperties.class })
+@ImportRuntimeHints(ValidationRuntimeHints.class)
 public class ValidationAutoConfiguration {
 
     @Bean
+    @ConditionalOnMissingBean
+    public ValidationErrorRenderer validationErrorRenderer(ValidationProperties properties,
+            ObjectProvider<ValidationErrorListener> listeners) {
+        return new ValidationErrorRenderer(properties, listeners.orderedStream().toList());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ConstraintIndex constraintIndex(ResourceLoader resourceLoader) {
+        return ConstraintIndex.load(resourceLoader.getClassLoader());
+    }
+
+    // Also what Spring MVC validates @Valid arguments with, so compiled plans
+    // are applied here. The second pass of validateAsync may run on another
+    // thread, so the request's locale and attributes are carried over.
+    @Bean
+    @ConditionalOnMissingBean
+    public AsyncValidator asyncValidator(Validator validator, ObjectProvider<CompiledValidator> compiledValidator,
+            ObjectProvider<TaskDecorator> taskDecorator) {
+        Validator compiled = compiledValidator.getIfAvailable();
+        return new AsyncValidator(compiled != null ? compiled : validator,
+                new RequestContextDecorator(taskDecorator.getIfUnique()));
+    }
+
+    // A bean of its own so the context closes it, releasing the validators
+    // of its plans. Boot's default validator stays the primary Validator.
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(ValidatorFactory.class)
+    @ConditionalOnProperty(prefix = "validation.plans", name = "enabled", havingValue = "true")
+    public CompiledValidator compiledValidator(ValidatorFactory validatorFactory) {
+        return new CompiledValidator(validatorFactory);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AllowedValueSourceRegistrar allowedValueSourceRegistrar(ListableBeanFactory beanFactory,
+            ValidationAllowedValuesProperties properties) {
+        return new AllowedValueSourceRegistrar(beanFactory, properties.getReloadInterval());
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = Type.SERVLET)
     @ConditionalOnProperty(prefix = "validation.errors", name = "enabled", havingValue = "true", matchIfMissing = true)
-    public GlobalValidationExceptionHandler globalValidationExceptionHandler(ValidationProperties properties) {
-        return new GlobalValidationExceptionHandler(properties);
+    public GlobalValidationExceptionHandler globalValidationExceptionHandler(
+            ValidationErrorRenderer validationErrorRenderer) {
+        return new GlobalValidationExceptionHandler(validationErrorRenderer);
+    }
+
+    // Picked up by Boot's default Validator, which also backs @Valid and
+    // method validation
+    @Bean
+    @ConditionalOnProperty(prefix = "validation.errors", name = "fail-fast", havingValue = "true")
+    public ValidationConfigurationCustomizer failFastValidationConfigurationCustomizer() {
+        return configuration -> configuration.addProperty("hibernate.validator.fail_fast", "true");
+    }
+
+    // Caches inside Spring's locale handling, so the locale of the current
+    // request is part of the cache key
+    @Bean
+    @ConditionalOnProperty(prefix = "validation.messages", name = "cache-enabled", havingValue = "true",
+            matchIfMissing = true)
+    public ValidationConfigurationCustomizer cachingMessageInterpolatorCustomizer(
+            ValidationMessagesProperties properties) {
+        return configuration -> {
+            MessageInterpolator current = null;
+            if (configuration instanceof ConfigurationState) {
+                current = ((ConfigurationState) configuration).getMessageInterpolator();
+            }
+            if (current == null) {
+                current = configuration.getDefaultMessageInterpolator();
+            }
+            configuration.messageInterpolator(
+                    new LocaleContextMessageInterpolator(
+                            new CachingMessageInterpolator(current, properties.getCacheSize())));
+        };
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "validation.passwords", name = "breached-filter")
+    static class BreachedPasswordConfiguration {
+
+        // Closed with the context; the mapping stays readable until collected
+        @Bean
+        @ConditionalOnMissingBean
+        public BloomFilter breachedPasswordFilter(ValidationPasswordProperties properties) throws IOException {
+            return BloomFilter.open(properties.getBreachedFilter());
+        }
+
+        // Depends on the filter, so it is uninstalled before it is closed
+        @Bean
+        @ConditionalOnMissingBean
+        public BreachedPasswordFilterRegistrar breachedPasswordFilterRegistrar(BloomFilter breachedPasswordFilter) {
+            return new BreachedPasswordFilterRegistrar(breachedPasswordFilter);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(ObjectMapper.class)
+    static class JsonArrayValidatorConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public JsonArrayValidator jsonArrayValidator(ObjectProvider<ObjectMapper> objectMapper, Validator validator,
+                ValidationErrorRenderer validationErrorRenderer) {
+            return new JsonArrayValidator(objectMapper.getIfAvailable(ObjectMapper::new), validator,
+                    validationErrorRenderer);
+        }
+    }
+
+    // A Module bean, so Boot registers it with the ObjectMapper that writes
+    // MVC and WebFlux responses
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(ObjectMapper.class)
+    @ConditionalOnProperty(prefix = "validation.errors", name = "dedicated-serializer", havingValue = "true",
+            matchIfMissing = true)
+    static class ValidationErrorModuleConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ValidationErrorModule validationErrorModule() {
+            return new ValidationErrorModule();
+        }
+    }
+
+    // A Module bean, so Boot registers it with the ObjectMapper used for MVC
+    // and WebFlux bodies and by JsonArrayValidator
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(ObjectMapper.class)
+    @ConditionalOnProperty(prefix = "validation.size-limits", name = "enabled", havingValue = "true")
+    static class SizeLimitConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ConstraintSizeLimitModule constraintSizeLimitModule(ObjectProvider<Validator> validator) {
+            return new ConstraintSizeLimitModule(validator::getIfAvailable);
+        }
+
+        @Bean
+        @ConditionalOnWebApplication(type = Type.SERVLET)
+        @ConditionalOnProperty(prefix = "validation.errors", name = "enabled", havingValue = "true",
+                matchIfMissing = true)
+        public SizeLimitExceptionHandler sizeLimitExceptionHandler(ValidationErrorRenderer validationErrorRenderer) {
+            return new SizeLimitExceptionHandler(validationErrorRenderer);
+        }
+
+        @Bean
+        @ConditionalOnWebApplication(type = Type.REACTIVE)
+        @ConditionalOnProperty(prefix = "validation.errors", name = "enabled", havingValue = "true",
+                matchIfMissing = true)
+        public ReactiveSizeLimitExceptionHandler reactiveSizeLimitExceptionHandler(
+                ValidationErrorRenderer validationErrorRenderer) {
+            return new ReactiveSizeLimitExceptionHandler(validationErrorRenderer);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "validation.metrics", name = "enabled", havingValue = "true")
+    static class ValidationMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ValidationMetrics validationMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+            return new ValidationMetrics(meterRegistry);
+        }
+
+        // Wraps whatever factory Spring configured (normally the
+        // SpringConstraintValidatorFactory), so validators keep their
+        // dependency injection
+        @Bean
+        public ValidationConfigurationCustomizer metricsValidationConfigurationCustomizer(
+                ValidationMetrics validationMetrics) {
+            return configuration -> {
+                ConstraintValidatorFactory delegate = null;
+                if (configuration instanceof ConfigurationState) {
+                    delegate = ((ConfigurationState) configuration).getConstraintValidatorFactory();
+                }
+                if (delegate == null) {
+                    delegate = configuration.getDefaultConstraintValidatorFactory();
+                }
+                configuration.constraintValidatorFactory(
+                        new InstrumentedConstraintValidatorFactory(delegate, validationMetrics));
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = Type.SERVLET)
+    @ConditionalOnClass(RequestMappingHandlerMapping.class)
+    @ConditionalOnProperty(prefix = "validation.warmup", name = "enabled", havingValue = "true")
+    static class ValidationWarmupConfiguration {
+
+        // Runs as an ApplicationRunner, so before readiness is reported
+        @Bean
+        @ConditionalOnMissingBean
+        public ValidationWarmup validationWarmup(Validator validator, ConstraintIndex constraintIndex,
+                ObjectProvider<RequestMappingHandlerMapping> handlerMappings, ValidationWarmupProperties properties,
+                ListableBeanFactory beanFactory, ResourceLoader resourceLoader) {
+            return new ValidationWarmup(validator, constraintIndex,
+                    () -> handlerMappings.orderedStream()
+                            .flatMap(handlerMapping -> handlerMapping.getHandlerMethods().values().stream())
+                            .toList(),
+                    beanFactory, resourceLoader.getClassLoader(), properties.getIterations());
+        }
+    }
+
+    // validation-core cannot declare a validator for a Spring type, so it is
+    // added to the @FileContent definition here
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({ MultipartFile.class, HibernateValidatorConfiguration.class })
+    static class MultipartFileContentConfiguration {
+
+        @Bean
+        public ValidationConfigurationCustomizer multipartFileContentValidationConfigurationCustomizer() {
+            return configuration -> {
+                if (configuration instanceof HibernateValidatorConfiguration) {
+                    HibernateValidatorConfiguration hibernate = (HibernateValidatorConfiguration) configuration;
+                    ConstraintMapping mapping = hibernate.createConstraintMapping();
+                    mapping.constraintDefinition(FileContent.class)
+                            .includeExistingValidators(true)
+                            .validatedBy(MultipartFileContentValidator.class);
+                    hibernate.addMapping(mapping);
+                }
+            };
+        }
+    }
+
+    // Spring MVC validates synchronously, so the request thread waits once
+    // for all async checks of the bean rather than for each in turn. Compiled
+    // plans are applied through the same validator.
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = Type.SERVLET)
+    @ConditionalOnClass(WebMvcConfigurer.class)
+    @Conditional(AsyncMvcValidationConfiguration.AsyncOrPlansEnabled.class)
+    static class AsyncMvcValidationConfiguration {
+
+        @Bean
+        public AsyncValidationWebMvcConfigurer asyncValidationWebMvcConfigurer(AsyncValidator asyncValidator,
+                ObjectProvider<WebMvcConfigurer> configurers) {
+            return new AsyncValidationWebMvcConfigurer(asyncValidator, configurers);
+        }
+
+        static class AsyncOrPlansEnabled extends AnyNestedCondition {
+
+            AsyncOrPlansEnabled() {
+                super(ConfigurationPhase.REGISTER_BEAN);
+            }
+
+            @ConditionalOnProperty(prefix = "validation.async", name = "enabled", havingValue = "true")
+            static class AsyncEnabled {
+            }
+
+            @ConditionalOnProperty(prefix = "validation.plans", name = "enabled", havingValue = "true")
+            static class PlansEnabled {
+            }
+        }
+    }
+
+    // WebFlux validates @Valid arguments itself; ReactiveBodyValidator is for
+    // bodies with async constraints or streamed element by element
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = Type.REACTIVE)
+    @ConditionalOnClass(Flux.class)
+    static class ReactiveValidationConfiguration {
+
+        @Bean
+        @ConditionalOnProperty(prefix = "validation.errors", name = "enabled", havingValue = "true",
+                matchIfMissing = true)
+        public ReactiveValidationExceptionHandler reactiveValidationExceptionHandler(
+                ValidationErrorRenderer validationErrorRenderer) {
+            return new ReactiveValidationExceptionHandler(validationErrorRenderer);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveBodyValidator reactiveBodyValidator(AsyncValidator asyncValidator,
+                ValidationErrorRenderer validationErrorRenderer) {
+            return new ReactiveBodyValidator(asyncValidator, validationErrorRenderer);
+        }
     }
 }
@@ -0,0 +1,37 @@
+package io.github.validationkit.starter.configuration;
+
+import io.github.validationkit.util.CachingMessageInterpolator;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "validation.messages")
+public class ValidationMessagesProperties {
+
+    /**
+     * Whether the messages of validation-kit constraints are interpolated once
+     * per declaration and locale and then reused. Messages with expressions
+     * and messages built by a validator are always interpolated.
+     */
+    private boolean cacheEnabled = true;
+
+    /**
+     * Maximum number of cached messages; once reached, further messages are
+     * interpolated without being cached.
+     */
+    private int cacheSize = CachingMessageInterpolator.DEFAULT_MAX_SIZE;
+
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+}
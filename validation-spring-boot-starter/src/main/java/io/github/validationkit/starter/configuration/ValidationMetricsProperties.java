@@ -0,0 +1,21 @@
+package io.github.validationkit.starter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "validation.metrics")
+public class ValidationMetricsProperties {
+
+    /**
+     * Whether to record Micrometer timers for validation-kit constraints and
+     * counters for reported validation errors. Requires micrometer-core.
+     */
+    private boolean enabled = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
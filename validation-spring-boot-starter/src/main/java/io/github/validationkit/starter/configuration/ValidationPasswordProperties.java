@@ -0,0 +1,24 @@
+package io.github.validationkit.starter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties(prefix = "validation.passwords")
+public class ValidationPasswordProperties {
+
+    /**
+     * Bloom filter file checked by {@code @StrongPassword(checkBreached = true)},
+     * as written by {@code BloomFilter.create}. It is memory-mapped, not read
+     * into the heap.
+     */
+    private Path breachedFilter;
+
+    public Path getBreachedFilter() {
+        return breachedFilter;
+    }
+
+    public void setBreachedFilter(Path breachedFilter) {
+        this.breachedFilter = breachedFilter;
+    }
+}
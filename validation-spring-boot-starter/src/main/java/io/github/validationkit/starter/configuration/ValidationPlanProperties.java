@@ -0,0 +1,23 @@
+package io.github.validationkit.starter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "validation.plans")
+public class ValidationPlanProperties {
+
+    /**
+     * Whether {@code @Valid} arguments are checked against a plan compiled once
+     * per class, falling back to a full validation only to report violations.
+     * Applies to classes whose field constraints are all validation-kit
+     * constraints or {@code @NotNull}, {@code @NotBlank} and {@code @NotEmpty}.
+     */
+    private boolean enabled = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
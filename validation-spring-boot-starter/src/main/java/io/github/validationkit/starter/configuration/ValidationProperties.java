@@ -16,6 +16,34 @@ public class ValidationProperties {
      */
     private boolean includeAllowedValues = false;
 
+    /**
+     * Whether to stop validating a bean at the first constraint violation
+     * (Hibernate Validator's fail-fast mode). Responses then report one error
+     * per failed bean.
+     */
+    private boolean failFast = false;
+
+    /**
+     * Maximum number of errors reported in a single error response. Further
+     * violations are dropped. A value of 0 or less disables the limit.
+     */
+    private int maxErrors = 0;
+
+    /**
+     * How violations of validation-kit constraints are reported: with their
+     * constraint name and message, or as a numeric catalog code and the
+     * constraint's parameters for clients that localize errors themselves.
+     */
+    private Format format = Format.FULL;
+
+    /**
+     * Whether error responses are written by a dedicated Jackson serializer
+     * rather than bean serialization. Either way the JSON is the same; the
+     * serializer steps aside by itself where a naming strategy, inclusion or
+     * mix-in would change it.
+     */
+    private boolean dedicatedSerializer = true;
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -31,4 +59,50 @@ public class ValidationProperties {
     public void setIncludeAllowedValues(boolean includeAllowedValues) {
         this.includeAllowedValues = includeAllowedValues;
     }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    public void setMaxErrors(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public void setFormat(Format format) {
+        this.format = format;
+    }
+
+    public boolean isDedicatedSerializer() {
+        return dedicatedSerializer;
+    }
+
+    public void setDedicatedSerializer(boolean dedicatedSerializer) {
+        this.dedicatedSerializer = dedicatedSerializer;
+    }
+
+    public enum Format {
+
+        /**
+         * Constraint name and interpolated message.
+         */
+        FULL,
+
+        /**
+         * {@code ViolationCode} id and parameters; other constraints are
+         * still reported with their name and message.
+         */
+        COMPACT
+    }
 }
@@ -0,0 +1,23 @@
+package io.github.validationkit.starter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "validation.size-limits")
+public class ValidationSizeLimitProperties {
+
+    /**
+     * Whether request bodies are rejected while they are parsed, as soon as a
+     * string property is longer than its {@code @StrongPassword(max)},
+     * {@code @Base64(maxDecodedBytes)} or {@code @AllowedValues} constraint
+     * accepts.
+     */
+    private boolean enabled = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.validationkit.starter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "validation.warmup")
+public class ValidationWarmupProperties {
+
+    /**
+     * Whether to build validation metadata and exercise the validation-kit
+     * validators of request bodies, controllers and indexed types at startup,
+     * before the application reports readiness.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How many times the synthetic samples are validated. Higher values give
+     * the JIT more to work with at the cost of a longer startup.
+     */
+    private int iterations = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+}
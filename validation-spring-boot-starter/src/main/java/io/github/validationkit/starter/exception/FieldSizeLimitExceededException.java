@@ -0,0 +1,97 @@
+package io.github.validationkit.starter.exception;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+/**
+ * Thrown while a request body is parsed, as soon as a string field is longer
+ * than any value its validation-kit constraints accept, so the rest of the
+ * body is neither read nor bound. The global exception handler renders it like
+ * a violation of that constraint.
+ *
+ * @see io.github.validationkit.starter.jackson.ConstraintSizeLimitModule
+ */
+public class FieldSizeLimitExceededException extends JsonMappingException {
+
+    private final Annotation constraint;
+    private final String violationMessage;
+    private final int maxLength;
+    private final Class<?> beanType;
+
+    public FieldSizeLimitExceededException(JsonParser parser, Annotation constraint, String violationMessage,
+            int maxLength, Class<?> beanType) {
+        super(parser, "Value longer than the " + maxLength + " characters @"
+                + constraint.annotationType().getSimpleName() + " accepts");
+        this.constraint = constraint;
+        this.violationMessage = violationMessage;
+        this.maxLength = maxLength;
+        this.beanType = beanType;
+    }
+
+    /**
+     * The exception itself or the first of its causes that is a
+     * {@code FieldSizeLimitExceededException}, e.g. inside the exception a
+     * message converter or decoder wrapped it in.
+     *
+     * @return the exception, or {@code null} if there is none
+     */
+    public static FieldSizeLimitExceededException find(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof FieldSizeLimitExceededException) {
+                return (FieldSizeLimitExceededException) cause;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The rejected property, e.g. {@code password}; for an element of a
+     * collection, the collection property.
+     */
+    public String getField() {
+        List<Reference> path = getPath();
+        for (int i = path.size() - 1; i >= 0; i--) {
+            String field = path.get(i).getFieldName();
+            if (field != null) {
+                return field;
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Simple name of the constraint that set the limit, e.g.
+     * {@code StrongPassword}.
+     */
+    public String getCode() {
+        return constraint.annotationType().getSimpleName();
+    }
+
+    /**
+     * The constraint that set the limit.
+     */
+    public Annotation getConstraint() {
+        return constraint;
+    }
+
+    /**
+     * The message a violation of the constraint would have had.
+     */
+    public String getViolationMessage() {
+        return violationMessage;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * The class declaring the rejected property.
+     */
+    public Class<?> getBeanType() {
+        return beanType;
+    }
+}
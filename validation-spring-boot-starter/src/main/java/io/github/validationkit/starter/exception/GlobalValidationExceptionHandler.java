@@ -3,7 +3,6 @@ package io.github.validationkit.starter.exception;
 import io.github.validationkit.starter.configuration.ValidationProperties;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
-import jakarta.validation.Path;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
@@ -20,28 +19,31 @@ import java.util.Set;
 @Order(Ordered.LOWEST_PRECEDENCE)
 public class GlobalValidationExceptionHandler {
 
-    private final ValidationProperties properties;
+    private final ValidationErrorRenderer renderer;
 
     public GlobalValidationExceptionHandler(ValidationProperties properties) {
-        this.properties = properties;
+        this(new ValidationErrorRenderer(properties));
+    }
+
+    public GlobalValidationExceptionHandler(ValidationErrorRenderer renderer) {
+        this.renderer = renderer;
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
-        BindingResult result = ex.getBindingResult();
+        return handleBindingResult(ex.getBindingResult());
+    }
 
+    protected ResponseEntity<ValidationErrorResponse> handleBindingResult(BindingResult result) {
         ValidationErrorResponse response = new ValidationErrorResponse(
                 HttpStatus.BAD_REQUEST.value(),
                 "Validation failed");
 
         for (FieldError error : result.getFieldErrors()) {
-            String message = error.getDefaultMessage();
-            message = applySecurityFiltering(error.getCode(), message);
-
-            response.addError(
-                    error.getField(),
-                    error.getCode(),
-                    message);
+            if (renderer.isFull(response)) {
+                break;
+            }
+            renderer.addError(response, error);
         }
 
         return ResponseEntity.badRequest().body(response);
@@ -55,39 +57,17 @@ public class GlobalValidationExceptionHandler {
 
         Set<ConstraintViolation<?>> violations = ex.getConstraintViolations();
         for (ConstraintViolation<?> violation : violations) {
-            String fieldName = extractFieldName(violation.getPropertyPath());
-            String code = violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName();
-            String message = violation.getMessage();
-
-            message = applySecurityFiltering(code, message);
-
-            response.addError(
-                    fieldName,
-                    code,
-                    message);
+            if (renderer.isFull(response)) {
+                break;
+            }
+            renderer.addError(response, violation);
         }
 
         return ResponseEntity.badRequest().body(response);
     }
 
-    private String applySecurityFiltering(String code, String message) {
-        if (!properties.isIncludeAllowedValues()) {
-            if ("AllowedValues".equals(code)) {
-                return "Invalid value provided";
-            } else if ("FileExtension".equals(code)) {
-                return "Invalid file extension";
-            }
-        }
-        return message;
-    }
-
-    // Extracts the last part of a property path (e.g. "searchUsers.status" ->
-    // "status")
-    private String extractFieldName(Path path) {
-        String fieldName = "";
-        for (Path.Node node : path) {
-            fieldName = node.getName();
-        }
-        return fieldName;
+    @ExceptionHandler(JsonArrayValidationException.class)
+    public ResponseEntity<ValidationErrorResponse> handleJsonArrayValidation(JsonArrayValidationException ex) {
+        return ResponseEntity.badRequest().body(ex.getResponse());
     }
 }
@@ -0,0 +1,40 @@
+package io.github.validationkit.starter.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown by {@code JsonArrayValidator} and {@code ReactiveBodyValidator} when
+ * elements of a streamed JSON array failed validation. Carries the errors
+ * already rendered, so the failed elements themselves are not retained.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class JsonArrayValidationException extends RuntimeException {
+
+    private final transient ValidationErrorResponse response;
+    private final int invalidElements;
+    private final boolean aborted;
+
+    public JsonArrayValidationException(ValidationErrorResponse response, int invalidElements, boolean aborted) {
+        super(response.getMessage());
+        this.response = response;
+        this.invalidElements = invalidElements;
+        this.aborted = aborted;
+    }
+
+    public ValidationErrorResponse getResponse() {
+        return response;
+    }
+
+    public int getInvalidElements() {
+        return invalidElements;
+    }
+
+    /**
+     * True if reading stopped at the failure limit, before the end of the
+     * array.
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.validationkit.starter.exception;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * The {@link SizeLimitExceptionHandler} for Spring WebFlux, which reports a
+ * body rejected while it was decoded as a {@link ServerWebInputException}.
+ */
+@RestControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ReactiveSizeLimitExceptionHandler extends SizeLimitExceptionHandler {
+
+    public ReactiveSizeLimitExceptionHandler(ValidationErrorRenderer renderer) {
+        super(renderer);
+    }
+
+    /**
+     * Any other unreadable body is rethrown to WebFlux's default handling.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ValidationErrorResponse> handleServerWebInput(ServerWebInputException ex) {
+        FieldSizeLimitExceededException sizeLimit = FieldSizeLimitExceededException.find(ex);
+        if (sizeLimit == null) {
+            throw ex;
+        }
+        return handleSizeLimitExceeded(sizeLimit);
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.validationkit.starter.exception;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+/**
+ * The {@link GlobalValidationExceptionHandler} for Spring WebFlux, which
+ * reports an invalid {@code @Valid} argument as a
+ * {@link WebExchangeBindException}.
+ * <p>
+ * The response is written by WebFlux's non-blocking JSON encoder, so the
+ * event loop never waits on the client.
+ */
+@RestControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ReactiveValidationExceptionHandler extends GlobalValidationExceptionHandler {
+
+    public ReactiveValidationExceptionHandler(ValidationErrorRenderer renderer) {
+        super(renderer);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ValidationErrorResponse> handleWebExchangeBind(WebExchangeBindException ex) {
+        return handleBindingResult(ex.getBindingResult());
+    }
+}
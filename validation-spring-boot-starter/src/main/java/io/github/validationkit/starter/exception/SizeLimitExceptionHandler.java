@@ -0,0 +1,47 @@
+package io.github.validationkit.starter.exception;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Renders a property rejected for its size while the body was parsed, in the
+ * same format as the violation it stands for. Only registered with
+ * {@code validation.size-limits.enabled}, so unreadable bodies are otherwise
+ * left to the application's own handlers.
+ */
+@RestControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class SizeLimitExceptionHandler {
+
+    private final ValidationErrorRenderer renderer;
+
+    public SizeLimitExceptionHandler(ValidationErrorRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Any other unreadable body is rethrown, which leaves it to Spring's
+     * default handling.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ValidationErrorResponse> handleMessageNotReadable(HttpMessageNotReadableException ex) {
+        FieldSizeLimitExceededException sizeLimit = FieldSizeLimitExceededException.find(ex);
+        if (sizeLimit == null) {
+            throw ex;
+        }
+        return handleSizeLimitExceeded(sizeLimit);
+    }
+
+    protected ResponseEntity<ValidationErrorResponse> handleSizeLimitExceeded(FieldSizeLimitExceededException ex) {
+        ValidationErrorResponse response = new ValidationErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Validation failed");
+        renderer.addError(response, ex);
+        return ResponseEntity.badRequest().body(response);
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.validationkit.starter.exception;
+
+/**
+ * Notified by {@link ValidationErrorRenderer} for every error it adds to a
+ * response, e.g. to count failures per constraint and DTO.
+ */
+@FunctionalInterface
+public interface ValidationErrorListener {
+
+    /**
+     * @param code     the error code, i.e. the constraint's simple name
+     * @param beanType the validated bean (DTO) class, or {@code null} if the
+     *                 error did not come from bean validation
+     */
+    void onError(String code, Class<?> beanType);
+}
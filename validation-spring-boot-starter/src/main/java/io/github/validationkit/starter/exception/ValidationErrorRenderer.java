@@ -0,0 +1,259 @@
+package io.github.validationkit.starter.exception;
+
+import io.github.validationkit.starter.configuration.ValidationProperties;
+import io.github.validationkit.util.FailureReasons;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import org.springframework.validation.FieldError;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns binding errors and constraint violations into
+ * {@link ValidationErrorResponse} entries, applying the configured message
+ * filtering. Shared by the global exception handler and the streaming
+ * {@code JsonArrayValidator} so both report errors the same way.
+ * <p>
+ * Everything that only depends on the constraint declaration is worked out
+ * once: the error code is cached per {@link ConstraintDescriptor} (which the
+ * validator reuses for every violation of the same declaration) and the
+ * filtered messages are fixed when the renderer is created. With
+ * {@code validation.errors.format=compact}, violations of validation-kit
+ * constraints are reported as their {@link ViolationCode} and parameters,
+ * which are likewise worked out once per declaration, instead of messages;
+ * the code is picked by the failure reason the validator reported.
+ */
+public class ValidationErrorRenderer {
+
+    // Descriptors are per declaration, so this only grows with the number of
+    // constrained fields; the bound just guards against generated classes.
+    private static final int MAX_CACHED_DESCRIPTORS = 4096;
+
+    private final int maxErrors;
+    private final boolean compact;
+    private final boolean includeAllowedValues;
+    private final Map<String, String> filteredMessages;
+    private final Map<ConstraintDescriptor<?>, ErrorCode> codes = new ConcurrentHashMap<>();
+    private final ValidationErrorListener[] listeners;
+
+    public ValidationErrorRenderer(ValidationProperties properties) {
+        this(properties, Collections.emptyList());
+    }
+
+    public ValidationErrorRenderer(ValidationProperties properties, List<ValidationErrorListener> listeners) {
+        this.listeners = listeners.toArray(new ValidationErrorListener[0]);
+        this.maxErrors = properties.getMaxErrors() > 0 ? properties.getMaxErrors() : Integer.MAX_VALUE;
+        this.compact = properties.getFormat() == ValidationProperties.Format.COMPACT;
+        this.includeAllowedValues = properties.isIncludeAllowedValues();
+        Map<String, String> filtered = new HashMap<>();
+        if (!properties.isIncludeAllowedValues()) {
+            filtered.put("AllowedValues", "Invalid value provided");
+            filtered.put("FileExtension", "Invalid file extension");
+        }
+        this.filteredMessages = Collections.unmodifiableMap(filtered);
+    }
+
+    /**
+     * The most errors a response holds, {@code validation.errors.max-errors},
+     * or {@link Integer#MAX_VALUE} if there is no limit.
+     */
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /**
+     * True once the response holds {@code validation.errors.max-errors}
+     * errors; callers should stop rendering further violations.
+     */
+    public boolean isFull(ValidationErrorResponse response) {
+        return response.getErrors().size() >= maxErrors;
+    }
+
+    public void addError(ValidationErrorResponse response, FieldError error) {
+        if (compact && error.contains(ConstraintViolation.class)) {
+            addError(response, error.getField(), error.unwrap(ConstraintViolation.class));
+            return;
+        }
+        response.addError(
+                error.getField(),
+                error.getCode(),
+                applySecurityFiltering(error.getCode(), error.getDefaultMessage()));
+        if (listeners.length > 0) {
+            Class<?> beanType = error.contains(ConstraintViolation.class)
+                    ? error.unwrap(ConstraintViolation.class).getRootBeanClass()
+                    : null;
+            notifyListeners(error.getCode(), beanType);
+        }
+    }
+
+    /**
+     * Adds a violation under the last node of its property path, e.g.
+     * {@code searchUsers.status} is reported as {@code status}.
+     */
+    public void addError(ValidationErrorResponse response, ConstraintViolation<?> violation) {
+        addError(response, extractFieldName(violation.getPropertyPath()), violation);
+    }
+
+    /**
+     * Adds a violation of an element of a JSON array under its index and full
+     * property path, e.g. {@code [3].role}.
+     */
+    public void addElementError(ValidationErrorResponse response, int index, ConstraintViolation<?> violation) {
+        String path = violation.getPropertyPath().toString();
+        String field = path.isEmpty() ? "[" + index + "]" : "[" + index + "]." + path;
+        addError(response, field, violation);
+    }
+
+    /**
+     * Adds a property rejected for its size while the body was parsed.
+     */
+    public void addError(ValidationErrorResponse response, FieldSizeLimitExceededException exception) {
+        addError(response, exception.getField(), exception);
+    }
+
+    /**
+     * Adds a property of an element of a JSON array rejected for its size,
+     * e.g. {@code [3].role}.
+     */
+    public void addElementError(ValidationErrorResponse response, int index,
+            FieldSizeLimitExceededException exception) {
+        addError(response, "[" + index + "]." + exception.getField(), exception);
+    }
+
+    private void addError(ValidationErrorResponse response, String field, ConstraintViolation<?> violation) {
+        ErrorCode code = code(violation.getConstraintDescriptor());
+        if (code.violationCodes.length == 0) {
+            addError(response, field, code.name, violation.getMessage(), violation.getRootBeanClass());
+            return;
+        }
+        Object reason = FailureReasons.of(violation);
+        if (!(reason instanceof Collection) || ((Collection<?>) reason).isEmpty()) {
+            addCompactError(response, field, code, code.indexOf(reason), violation.getRootBeanClass());
+            return;
+        }
+        // One error per reason; the first always, the others while there is room
+        boolean first = true;
+        for (Object each : (Collection<?>) reason) {
+            if (!first && isFull(response)) {
+                break;
+            }
+            addCompactError(response, field, code, code.indexOf(each), violation.getRootBeanClass());
+            first = false;
+        }
+    }
+
+    private void addCompactError(ValidationErrorResponse response, String field, ErrorCode code, int index,
+            Class<?> beanType) {
+        addError(response, field, code.name, code.violationCodes[index], code.parameters[index], beanType);
+    }
+
+    private void addError(ValidationErrorResponse response, String field, FieldSizeLimitExceededException exception) {
+        ViolationCode violationCode = compact
+                ? ViolationCode.ofSizeLimit(exception.getConstraint().annotationType())
+                : null;
+        if (violationCode != null) {
+            addError(response, field, exception.getCode(), violationCode,
+                    violationCode.parameters(exception.getConstraint(), includeAllowedValues),
+                    exception.getBeanType());
+        } else {
+            addError(response, field, exception.getCode(), exception.getViolationMessage(),
+                    exception.getBeanType());
+        }
+    }
+
+    private void addError(ValidationErrorResponse response, String field, String code,
+            ViolationCode violationCode, Object[] parameters, Class<?> beanType) {
+        response.addError(field, violationCode, parameters);
+        if (listeners.length > 0) {
+            notifyListeners(code, beanType);
+        }
+    }
+
+    private void addError(ValidationErrorResponse response, String field, String code, String message,
+            Class<?> beanType) {
+        response.addError(
+                field,
+                code,
+                applySecurityFiltering(code, message));
+        if (listeners.length > 0) {
+            notifyListeners(code, beanType);
+        }
+    }
+
+    private void notifyListeners(String code, Class<?> beanType) {
+        for (ValidationErrorListener listener : listeners) {
+            listener.onError(code, beanType);
+        }
+    }
+
+    private ErrorCode code(ConstraintDescriptor<?> descriptor) {
+        ErrorCode code = codes.get(descriptor);
+        if (code == null) {
+            code = new ErrorCode(descriptor.getAnnotation());
+            if (codes.size() < MAX_CACHED_DESCRIPTORS) {
+                codes.put(descriptor, code);
+            }
+        }
+        return code;
+    }
+
+    private String applySecurityFiltering(String code, String message) {
+        if (code == null) {
+            return message;
+        }
+        String filtered = filteredMessages.get(code);
+        return filtered != null ? filtered : message;
+    }
+
+    // Extracts the last part of a property path (e.g. "searchUsers.status" ->
+    // "status")
+    private String extractFieldName(Path path) {
+        String fieldName = "";
+        for (Path.Node node : path) {
+            fieldName = node.getName();
+        }
+        return fieldName;
+    }
+
+    /**
+     * What is reported for every violation of one constraint declaration.
+     */
+    private final class ErrorCode {
+
+        final String name;
+        // Empty unless the format is compact and the constraint is in the catalog
+        final ViolationCode[] violationCodes;
+        final Object[][] parameters;
+
+        ErrorCode(Annotation constraint) {
+            this.name = constraint.annotationType().getSimpleName();
+            this.violationCodes = compact
+                    ? ViolationCode.allOf(constraint.annotationType()).toArray(new ViolationCode[0])
+                    : new ViolationCode[0];
+            this.parameters = new Object[violationCodes.length][];
+            for (int i = 0; i < violationCodes.length; i++) {
+                parameters[i] = violationCodes[i].parameters(constraint, includeAllowedValues);
+            }
+        }
+
+        /**
+         * The code of the reason, or the first one if no known reason was
+         * reported.
+         */
+        int indexOf(Object reason) {
+            for (int i = 0; i < violationCodes.length; i++) {
+                if (violationCodes[i].getReason() == reason) {
+                    return i;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -1,8 +1,22 @@
 package io.github.validationkit.starter.exception;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * The body of a validation error response. The starter writes it with
+ * {@link ValidationErrorResponseSerializer}, which produces the same JSON as
+ * the bean properties below.
+ */
+@JsonPropertyOrder({ "status", "message", "errors" })
 public class ValidationErrorResponse {
     private int status;
     private String message;
@@ -17,6 +31,17 @@ public class ValidationErrorResponse {
         this.errors.add(new ValidationError(field, code, message));
     }
 
+    /**
+     * Adds an error of the {@code compact} format, identified by its
+     * {@link ViolationCode} and parameters instead of a message.
+     *
+     * @param parameters values in the order of the code's parameter names,
+     *        {@code null} for the ones left out; not copied
+     */
+    public void addError(String field, ViolationCode violationCode, Object[] parameters) {
+        this.errors.add(new ValidationError(field, violationCode, parameters));
+    }
+
     public int getStatus() {
         return status;
     }
@@ -29,10 +54,13 @@ public class ValidationErrorResponse {
         return errors;
     }
 
+    @JsonPropertyOrder({ "field", "code", "message", "id", "params" })
     public static class ValidationError {
         private String field;
         private String code;
         private String message;
+        private ViolationCode violationCode;
+        private Object[] parameters;
 
         public ValidationError(String field, String code, String message) {
             this.field = field;
@@ -40,16 +68,73 @@ public class ValidationErrorResponse {
             this.message = message;
         }
 
+        public ValidationError(String field, ViolationCode violationCode, Object[] parameters) {
+            this.field = field;
+            this.violationCode = violationCode;
+            this.parameters = parameters;
+        }
+
         public String getField() {
             return field;
         }
 
+        /**
+         * The constraint name, or {@code null} for an error of the
+         * {@code compact} format.
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         public String getCode() {
             return code;
         }
 
+        /**
+         * The message, or {@code null} for an error of the {@code compact}
+         * format.
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         public String getMessage() {
             return message;
         }
+
+        /**
+         * The catalog code of an error of the {@code compact} format, or
+         * {@code null}.
+         */
+        @JsonIgnore
+        public ViolationCode getViolationCode() {
+            return violationCode;
+        }
+
+        /**
+         * The id of the {@link #getViolationCode()}, or {@code null}.
+         */
+        @JsonProperty("id")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public Integer getId() {
+            return violationCode != null ? violationCode.getId() : null;
+        }
+
+        /**
+         * The parameters reported with the {@link #getViolationCode()} by
+         * name.
+         */
+        @JsonProperty("params")
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public Map<String, Object> getParameters() {
+            if (violationCode == null) {
+                return Collections.emptyMap();
+            }
+            Map<String, Object> named = new LinkedHashMap<>();
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i] != null) {
+                    named.put(violationCode.parameterName(i).getValue(), parameters[i]);
+                }
+            }
+            return named;
+        }
+
+        Object[] parameterValues() {
+            return parameters;
+        }
     }
 }
@@ -0,0 +1,93 @@
+package io.github.validationkit.starter.exception;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes a {@link ValidationErrorResponse} straight to the generator, with
+ * pre-encoded field names, instead of going through Jackson's bean
+ * introspection for the response and every error. Produces the same JSON as
+ * the bean properties would with Jackson's default naming and inclusion;
+ * {@code ValidationErrorModule} only uses it then.
+ * <p>
+ * Errors of the {@code compact} format are written as their
+ * {@link ViolationCode} id and parameters, e.g.
+ * {@code {"field":"role","id":1,"params":{"value":["admin","user"]}}}.
+ */
+public class ValidationErrorResponseSerializer extends StdSerializer<ValidationErrorResponse> {
+
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString ERRORS = new SerializedString("errors");
+    private static final SerializedString FIELD = new SerializedString("field");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString PARAMS = new SerializedString("params");
+
+    public ValidationErrorResponseSerializer() {
+        super(ValidationErrorResponse.class);
+    }
+
+    @Override
+    public void serialize(ValidationErrorResponse response, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(response);
+        gen.writeFieldName(STATUS);
+        gen.writeNumber(response.getStatus());
+        gen.writeFieldName(MESSAGE);
+        gen.writeString(response.getMessage());
+
+        List<ValidationErrorResponse.ValidationError> errors = response.getErrors();
+        gen.writeFieldName(ERRORS);
+        gen.writeStartArray(errors, errors.size());
+        for (int i = 0; i < errors.size(); i++) {
+            ValidationErrorResponse.ValidationError error = errors.get(i);
+            gen.writeStartObject(error);
+            gen.writeFieldName(FIELD);
+            gen.writeString(error.getField());
+            if (error.getViolationCode() != null) {
+                writeCompact(error.getViolationCode(), error.parameterValues(), gen, provider);
+            } else {
+                writeIfPresent(CODE, error.getCode(), gen);
+                writeIfPresent(MESSAGE, error.getMessage(), gen);
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    private static void writeIfPresent(SerializedString name, String value, JsonGenerator gen) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeCompact(ViolationCode code, Object[] parameters, JsonGenerator gen,
+            SerializerProvider provider) throws IOException {
+        gen.writeFieldName(ID);
+        gen.writeNumber(code.getId());
+        boolean started = false;
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i] == null) {
+                continue;
+            }
+            if (!started) {
+                gen.writeFieldName(PARAMS);
+                gen.writeStartObject();
+                started = true;
+            }
+            gen.writeFieldName(code.parameterName(i));
+            provider.defaultSerializeValue(parameters[i], gen);
+        }
+        if (started) {
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package io.github.validationkit.starter.exception;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.constraints.Base64;
+import io.github.validationkit.constraints.FileContent;
+import io.github.validationkit.constraints.FileExtension;
+import io.github.validationkit.constraints.StrongPassword;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stable identifiers of the ways validation-kit constraints fail, reported
+ * instead of messages by the {@code compact} error format so clients can
+ * localize errors themselves.
+ * <p>
+ * Constraints that fail for different reasons have a code per reason, taken
+ * from the reason their validator reports with the violation (see
+ * {@link io.github.validationkit.util.FailureReasons}). A password that is
+ * both too short and missing a character class is reported once per code.
+ * Without a reported reason, e.g. under another provider, the constraint's
+ * first code is used.
+ * <p>
+ * Ids are never reused or renumbered; new reasons get new ids. Each code
+ * also fixes the names of the parameters reported with it, taken from the
+ * constraint's attributes. A parameter is left out when the constraint sets
+ * no limit, and {@code value} of {@code @AllowedValues} and
+ * {@code @FileExtension} is only reported with
+ * {@code validation.errors.include-allowed-values}.
+ *
+ * <pre>{@code
+ * { "field": "password", "id": 5, "params": { "min": 8, "max": 128 } }
+ * }</pre>
+ */
+public enum ViolationCode {
+
+    /**
+     * {@code @AllowedValues}; parameter {@code value}.
+     */
+    ALLOWED_VALUES(1, AllowedValues.class, null, "value") {
+        @Override
+        Object[] parameters(Annotation constraint, boolean includeAllowedValues) {
+            // Values loaded from a source are not part of the declaration
+            String[] values = ((AllowedValues) constraint).value();
+            return new Object[] { includeAllowedValues && values.length > 0 ? values : null };
+        }
+    },
+
+    /**
+     * {@code @Base64}, not a valid encoding; parameter {@code variant}.
+     */
+    BASE64_MALFORMED(2, Base64.class, Base64.Failure.MALFORMED, "variant") {
+        @Override
+        Object[] parameters(Annotation constraint, boolean includeAllowedValues) {
+            return new Object[] { ((Base64) constraint).variant() };
+        }
+    },
+
+    /**
+     * {@code @FileContent}; parameter {@code value}.
+     */
+    FILE_CONTENT(3, FileContent.class, null, "value") {
+        @Override
+        Object[] parameters(Annotation constraint, boolean includeAllowedValues) {
+            return new Object[] { ((FileContent) constraint).value() };
+        }
+    },
+
+    /**
+     * {@code @FileExtension}; parameter {@code value}.
+     */
+    FILE_EXTENSION(4, FileExtension.class, null, "value") {
+        @Override
+        Object[] parameters(Annotation constraint, boolean includeAllowedValues) {
+            return new Object[] { includeAllowedValues ? ((FileExtension) constraint).value() : null };
+        }
+    },
+
+    /**
+     * {@code @StrongPassword}, too short or too long; parameters {@code min}
+     * and {@code max}.
+     */
+    STRONG_PASSWORD_LENGTH(5, StrongPassword.class, StrongPassword.Failure.LENGTH, "min", "max") {
+        @Override
+        Object[] parameters(Annotation constraint, boolean includeAllowedValues) {
+            StrongPassword password = (StrongPassword) constraint;
+            return new Object[] { password.min(), limit(password.max()) };
+        }
+    },
+
+    /**
+     * {@code @StrongPassword}, missing a required character class; parameters
+     * {@code required}, the required classes out of {@code uppercase},
+     * {@code lowercase}, {@code digit} and {@code special}, and
+     * {@code allowedSpecialChars} if special characters are required.
+     */
+    STRONG_PASSWORD_CHARACTERS(6, StrongPassword.class, StrongPassword.Failure.CHARACTERS, "required",
+            "allowedSpecialChars") {
+        @Override
+        Object[] parameters(Annotation constraint, boolean includeAllowedValues) {
+            StrongPassword password = (StrongPassword) constraint;
+            List<String> required = new ArrayList<>(4);
+            if (password.hasUppercase()) {
+                required.add("uppercase");
+            }
+            if (password.hasLowercase()) {
+                required.add("lowercase");
+            }
+            if (password.hasDigit()) {
+                required.add("digit");
+            }
+            if (password.hasSpecialChar()) {
+                required.add("special");
+            }
+            return new Object[] { required, password.hasSpecialChar() ? password.allowedSpecialChars() : null };
+        }
+    },
+
+    /**
+     * {@code @StrongPassword}, estimated entropy too low; parameter
+     * {@code minEntropy} in bits.
+     */
+    STRONG_PASSWORD_ENTROPY(7, StrongPassword.class, StrongPassword.Failure.ENTROPY, "minEntropy") {
+        @Override
+        Object[] parameters(Annotation constraint, boolean includeAllowedValues) {
+            return new Object[] { ((StrongPassword) constraint).minEntropy() };
+        }
+    },
+
+    /**
+     * {@code @StrongPassword}, found in the breached-password filter; no
+     * parameters.
+     */
+    STRONG_PASSWORD_BREACHED(8, StrongPassword.class, StrongPassword.Failure.BREACHED) {
+        @Override
+        Object[] parameters(Annotation constraint, boolean includeAllowedValues) {
+            return NO_PARAMETERS;
+        }
+    },
+
+    /**
+     * {@code @Base64}, decodes to too many bytes; parameter
+     * {@code maxDecodedBytes}.
+     */
+    BASE64_TOO_LARGE(9, Base64.class, Base64.Failure.TOO_LARGE, "maxDecodedBytes") {
+        @Override
+        Object[] parameters(Annotation constraint, boolean includeAllowedValues) {
+            return new Object[] { ((Base64) constraint).maxDecodedBytes() };
+        }
+    };
+
+    private static final ViolationCode[] VALUES = values();
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private final int id;
+    private final Class<? extends Annotation> constraintType;
+    private final Enum<?> reason;
+    private final SerializedString[] parameterNames;
+
+    ViolationCode(int id, Class<? extends Annotation> constraintType, Enum<?> reason, String... parameterNames) {
+        this.id = id;
+        this.constraintType = constraintType;
+        this.reason = reason;
+        this.parameterNames = new SerializedString[parameterNames.length];
+        for (int i = 0; i < parameterNames.length; i++) {
+            this.parameterNames[i] = new SerializedString(parameterNames[i]);
+        }
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Class<? extends Annotation> getConstraintType() {
+        return constraintType;
+    }
+
+    /**
+     * The failure reason this code stands for, or {@code null} for
+     * constraints with a single code.
+     */
+    public Enum<?> getReason() {
+        return reason;
+    }
+
+    /**
+     * The first code of a constraint type.
+     *
+     * @return the code, or {@code null} for constraints that are not part of
+     *         validation-kit
+     */
+    public static ViolationCode of(Class<? extends Annotation> constraintType) {
+        for (ViolationCode code : VALUES) {
+            if (code.constraintType == constraintType) {
+                return code;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The codes of a constraint type, first code first.
+     *
+     * @return the codes, empty for constraints that are not part of
+     *         validation-kit
+     */
+    public static List<ViolationCode> allOf(Class<? extends Annotation> constraintType) {
+        List<ViolationCode> codes = new ArrayList<>(4);
+        for (ViolationCode code : VALUES) {
+            if (code.constraintType == constraintType) {
+                codes.add(code);
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * The code of a value rejected for its length while the body was parsed.
+     *
+     * @return the code, or {@code null} for constraints that are not part of
+     *         validation-kit
+     */
+    public static ViolationCode ofSizeLimit(Class<? extends Annotation> constraintType) {
+        // Length is already the first code of @StrongPassword
+        return constraintType == Base64.class ? BASE64_TOO_LARGE : of(constraintType);
+    }
+
+    /**
+     * The code with the given id.
+     *
+     * @throws IllegalArgumentException if there is none
+     */
+    public static ViolationCode forId(int id) {
+        for (ViolationCode code : VALUES) {
+            if (code.id == id) {
+                return code;
+            }
+        }
+        throw new IllegalArgumentException("Unknown violation code: " + id);
+    }
+
+    SerializedString parameterName(int index) {
+        return parameterNames[index];
+    }
+
+    /**
+     * The parameter values of a declaration of the constraint, in the order
+     * of the parameter names; {@code null} for the ones left out.
+     */
+    abstract Object[] parameters(Annotation constraint, boolean includeAllowedValues);
+
+    private static Integer limit(int value) {
+        return value == Integer.MAX_VALUE ? null : value;
+    }
+}
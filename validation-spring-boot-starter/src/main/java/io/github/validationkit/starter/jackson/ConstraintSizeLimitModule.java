@@ -0,0 +1,53 @@
+package io.github.validationkit.starter.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import jakarta.validation.Validator;
+
+import java.util.function.Supplier;
+
+/**
+ * Jackson module that rejects a string property while the body is parsed, as
+ * soon as it is longer than its validation-kit constraints accept:
+ * <ul>
+ * <li>{@code @StrongPassword(max = ...)}: {@code max} characters.</li>
+ * <li>{@code @Base64(maxDecodedBytes = ...)}: the length of the padded
+ * encoding of that many bytes. Not for {@code MIME}, which may contain any
+ * number of ignored characters.</li>
+ * <li>{@code @AllowedValues(value = ...)}: the longest allowed value, also for
+ * each element of a collection or array. Not for a {@code source}.</li>
+ * </ul>
+ * Blank values stay accepted where the constraint accepts them. A rejected
+ * property fails the whole read with a {@code FieldSizeLimitExceededException},
+ * which carries the message a violation of the constraint would have had.
+ * <p>
+ * Limits come from the default group, but apply to every read through the
+ * {@code ObjectMapper}, whether or not the bean is validated afterwards.
+ */
+public class ConstraintSizeLimitModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Supplier<Validator> validator;
+
+    /**
+     * Reports rejected properties with the constraints' raw message templates.
+     */
+    public ConstraintSizeLimitModule() {
+        this(() -> null);
+    }
+
+    /**
+     * Reports rejected properties with messages interpolated like the
+     * validator's, if it is also the {@code ValidatorFactory}.
+     */
+    public ConstraintSizeLimitModule(Supplier<Validator> validator) {
+        super("validation-kit-size-limits");
+        this.validator = validator;
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.insertAnnotationIntrospector(new SizeLimitIntrospector(validator));
+    }
+}
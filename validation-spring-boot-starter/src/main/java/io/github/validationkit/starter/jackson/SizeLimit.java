@@ -0,0 +1,121 @@
+package io.github.validationkit.starter.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import io.github.validationkit.starter.exception.FieldSizeLimitExceededException;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import java.lang.annotation.Annotation;
+import java.util.function.Supplier;
+
+/**
+ * The longest string one constraint declaration can accept, and how to
+ * report a longer one.
+ */
+final class SizeLimit {
+
+    private final int maxLength;
+    private final boolean allowsBlank;
+    private final Annotation constraint;
+    private final Class<?> beanType;
+    private final String message;
+    // Null if the message is final rather than the constraint's template
+    private final Supplier<Validator> validator;
+
+    private SizeLimit(int maxLength, boolean allowsBlank, Annotation constraint, Class<?> beanType, String message,
+            Supplier<Validator> validator) {
+        this.maxLength = maxLength;
+        this.allowsBlank = allowsBlank;
+        this.constraint = constraint;
+        this.beanType = beanType;
+        this.message = message;
+        this.validator = validator;
+    }
+
+    /**
+     * A limit reported with a final message, as validators that build their
+     * own messages do.
+     */
+    static SizeLimit withMessage(int maxLength, boolean allowsBlank, Annotation constraint, Class<?> beanType,
+            String message) {
+        return new SizeLimit(maxLength, allowsBlank, constraint, beanType, message, null);
+    }
+
+    /**
+     * A limit reported with the constraint's message template, interpolated
+     * by the validator's {@code MessageInterpolator}.
+     */
+    static SizeLimit withTemplate(int maxLength, boolean allowsBlank, Annotation constraint, Class<?> beanType,
+            String template, Supplier<Validator> validator) {
+        return new SizeLimit(maxLength, allowsBlank, constraint, beanType, template, validator);
+    }
+
+    int maxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Whether the constraint accepts blank values of any length.
+     */
+    boolean allowsBlank() {
+        return allowsBlank;
+    }
+
+    FieldSizeLimitExceededException exceeded(JsonParser parser) {
+        return new FieldSizeLimitExceededException(parser, constraint, message(), maxLength, beanType);
+    }
+
+    // Only on the failure path, and in the current request's locale
+    private String message() {
+        if (validator == null) {
+            return message;
+        }
+        Validator current = validator.get();
+        ConstraintDescriptor<?> descriptor = current instanceof ValidatorFactory ? descriptor(current) : null;
+        if (descriptor == null) {
+            return message;
+        }
+        MessageInterpolator interpolator = ((ValidatorFactory) current).getMessageInterpolator();
+        try {
+            return interpolator.interpolate(descriptor.getMessageTemplate(), new MessageInterpolator.Context() {
+                @Override
+                public ConstraintDescriptor<?> getConstraintDescriptor() {
+                    return descriptor;
+                }
+
+                @Override
+                public Object getValidatedValue() {
+                    return null;
+                }
+
+                @Override
+                public <T> T unwrap(Class<T> type) {
+                    throw new ValidationException("Cannot unwrap to " + type.getName());
+                }
+            });
+        } catch (RuntimeException e) {
+            // E.g. an expression that needs the validated value
+            return message;
+        }
+    }
+
+    /**
+     * The validator's descriptor of this declaration. Equal declarations on
+     * other properties of the class produce the same message, so matching the
+     * annotation is enough.
+     */
+    private ConstraintDescriptor<?> descriptor(Validator validator) {
+        for (PropertyDescriptor property : validator.getConstraintsForClass(beanType).getConstrainedProperties()) {
+            for (ConstraintDescriptor<?> descriptor : property.getConstraintDescriptors()) {
+                if (descriptor.getAnnotation().equals(constraint)) {
+                    return descriptor;
+                }
+            }
+        }
+        return null;
+    }
+}
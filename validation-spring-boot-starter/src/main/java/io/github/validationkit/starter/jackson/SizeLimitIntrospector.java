@@ -0,0 +1,124 @@
+package io.github.validationkit.starter.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.AnnotatedParameter;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.constraints.Base64;
+import io.github.validationkit.constraints.StrongPassword;
+import io.github.validationkit.validators.StrongPasswordValidator;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Picks a {@link SizeLimitingStringDeserializer} for string properties, and
+ * for the elements of string collections and arrays, whose constraints cap
+ * their length. Jackson merges the annotations of a property's field, setter,
+ * getter and creator parameter, so constraints are found wherever they are
+ * declared.
+ */
+final class SizeLimitIntrospector extends NopAnnotationIntrospector {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Supplier<Validator> validator;
+
+    SizeLimitIntrospector(Supplier<Validator> validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public Object findDeserializer(Annotated annotated) {
+        JavaType type = valueType(annotated);
+        if (type == null || type.getRawClass() != String.class || annotated.hasAnnotation(JsonDeserialize.class)) {
+            return null;
+        }
+        List<SizeLimit> limits = new ArrayList<>();
+        Class<?> beanType = ((AnnotatedMember) annotated).getDeclaringClass();
+        addPasswordLimit(limits, annotated.getAnnotation(StrongPassword.class), beanType);
+        addBase64Limit(limits, annotated.getAnnotation(Base64.class), beanType);
+        addAllowedValuesLimit(limits, annotated.getAnnotation(AllowedValues.class), beanType);
+        return deserializer(limits);
+    }
+
+    // @AllowedValues on a collection or array applies to each element
+    @Override
+    public Object findContentDeserializer(Annotated annotated) {
+        JavaType type = valueType(annotated);
+        if (type == null || !(type.isCollectionLikeType() || type.isArrayType())
+                || type.getContentType().getRawClass() != String.class
+                || annotated.hasAnnotation(JsonDeserialize.class)) {
+            return null;
+        }
+        List<SizeLimit> limits = new ArrayList<>();
+        addAllowedValuesLimit(limits, annotated.getAnnotation(AllowedValues.class),
+                ((AnnotatedMember) annotated).getDeclaringClass());
+        return deserializer(limits);
+    }
+
+    private void addPasswordLimit(List<SizeLimit> limits, StrongPassword constraint, Class<?> beanType) {
+        if (constraint == null || constraint.max() == Integer.MAX_VALUE || !isDefaultGroup(constraint.groups())) {
+            return;
+        }
+        limits.add(SizeLimit.withMessage(constraint.max(), false, constraint, beanType,
+                StrongPasswordValidator.lengthMessage(constraint.min(), constraint.max())));
+    }
+
+    private void addBase64Limit(List<SizeLimit> limits, Base64 constraint, Class<?> beanType) {
+        // MIME input may contain any number of ignored characters
+        if (constraint == null || constraint.maxDecodedBytes() == Integer.MAX_VALUE
+                || constraint.variant() == Base64.Variant.MIME || !isDefaultGroup(constraint.groups())) {
+            return;
+        }
+        // Any valid input longer than the padded encoding decodes to more bytes
+        long maxLength = 4L * ((constraint.maxDecodedBytes() + 2L) / 3);
+        limits.add(SizeLimit.withTemplate((int) Math.min(maxLength, Integer.MAX_VALUE), true, constraint, beanType,
+                constraint.message(), validator));
+    }
+
+    private void addAllowedValuesLimit(List<SizeLimit> limits, AllowedValues constraint, Class<?> beanType) {
+        // A source can change, so its longest value is not known up front
+        if (constraint == null || !constraint.source().isEmpty() || !isDefaultGroup(constraint.groups())) {
+            return;
+        }
+        int maxLength = 0;
+        for (String value : constraint.value()) {
+            maxLength = Math.max(maxLength, value.length());
+        }
+        limits.add(SizeLimit.withTemplate(maxLength, true, constraint, beanType, constraint.message(), validator));
+    }
+
+    private static SizeLimitingStringDeserializer deserializer(List<SizeLimit> limits) {
+        if (limits.isEmpty()) {
+            return null;
+        }
+        limits.sort(Comparator.comparingInt(SizeLimit::maxLength));
+        return new SizeLimitingStringDeserializer(limits.toArray(new SizeLimit[0]));
+    }
+
+    // Limits only hold where the constraint is checked, i.e. for @Valid
+    private static boolean isDefaultGroup(Class<?>[] groups) {
+        return groups.length == 0 || Arrays.asList(groups).contains(Default.class);
+    }
+
+    private static JavaType valueType(Annotated annotated) {
+        if (annotated instanceof AnnotatedField || annotated instanceof AnnotatedParameter) {
+            return annotated.getType();
+        }
+        if (annotated instanceof AnnotatedMethod && ((AnnotatedMethod) annotated).getParameterCount() == 1) {
+            return ((AnnotatedMethod) annotated).getParameterType(0);
+        }
+        return null;
+    }
+}
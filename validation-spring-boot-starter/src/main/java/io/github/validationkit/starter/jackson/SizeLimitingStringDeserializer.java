@@ -0,0 +1,87 @@
+package io.github.validationkit.starter.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.type.LogicalType;
+
+import java.io.IOException;
+
+/**
+ * Reads a string like Jackson's own deserializer, but first compares its
+ * length with the limits of the property's constraints.
+ * <p>
+ * For a string token the length is taken from the parser's buffer, so an
+ * oversized value is rejected before a {@code String} is created for it, and
+ * before the rest of the body is read or the bean is bound.
+ */
+final class SizeLimitingStringDeserializer extends StdScalarDeserializer<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    // Ascending by maxLength
+    private final transient SizeLimit[] limits;
+
+    SizeLimitingStringDeserializer(SizeLimit[] limits) {
+        super(String.class);
+        this.limits = limits;
+    }
+
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            int length = parser.getTextLength();
+            if (length > limits[0].maxLength()) {
+                check(parser, length, isBlank(parser.getTextCharacters(), parser.getTextOffset(), length));
+            }
+            return parser.getText();
+        }
+        // Coerced scalars and the like, as short as ever
+        String value = StringDeserializer.instance.deserialize(parser, context);
+        if (value != null && value.length() > limits[0].maxLength()) {
+            check(parser, value.length(), value.isBlank());
+        }
+        return value;
+    }
+
+    private void check(JsonParser parser, int length, boolean blank) throws IOException {
+        for (SizeLimit limit : limits) {
+            if (length <= limit.maxLength()) {
+                return;
+            }
+            if (!blank || !limit.allowsBlank()) {
+                throw limit.exceeded(parser);
+            }
+        }
+    }
+
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.Textual;
+    }
+
+    @Override
+    public Object getEmptyValue(DeserializationContext context) {
+        return "";
+    }
+
+    @Override
+    public boolean isCachable() {
+        return false;
+    }
+
+    private static boolean isBlank(char[] chars, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            int codePoint = Character.codePointAt(chars, i, end);
+            if (!Character.isWhitespace(codePoint)) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.validationkit.starter.jackson;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import io.github.validationkit.starter.exception.ValidationErrorResponse;
+import io.github.validationkit.starter.exception.ValidationErrorResponseSerializer;
+
+/**
+ * Jackson module that writes {@link ValidationErrorResponse} with
+ * {@link ValidationErrorResponseSerializer} instead of bean serialization.
+ * <p>
+ * The serializer writes fixed property names, so it is only used where it
+ * produces the same JSON: without a {@code PropertyNamingStrategy}, with an
+ * inclusion no stricter than {@code NON_ABSENT}, and without mix-ins for the
+ * response types. Otherwise the response is bean-serialized as usual.
+ */
+public class ValidationErrorModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public ValidationErrorModule() {
+        super("validation-kit-error-response");
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addBeanSerializerModifier(new BeanSerializerModifier() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription description,
+                    JsonSerializer<?> serializer) {
+                if (description.getBeanClass() == ValidationErrorResponse.class && isDefaultShape(config)) {
+                    return new ValidationErrorResponseSerializer();
+                }
+                return serializer;
+            }
+        });
+    }
+
+    private static boolean isDefaultShape(SerializationConfig config) {
+        return config.getPropertyNamingStrategy() == null
+                && isLenient(config.getDefaultPropertyInclusion(ValidationErrorResponse.class))
+                && isLenient(config.getDefaultPropertyInclusion(ValidationErrorResponse.ValidationError.class))
+                && config.findMixInClassFor(ValidationErrorResponse.class) == null
+                && config.findMixInClassFor(ValidationErrorResponse.ValidationError.class) == null;
+    }
+
+    private static boolean isLenient(JsonInclude.Value inclusion) {
+        switch (inclusion.getValueInclusion()) {
+            case ALWAYS:
+            case USE_DEFAULTS:
+            case NON_NULL:
+            case NON_ABSENT:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
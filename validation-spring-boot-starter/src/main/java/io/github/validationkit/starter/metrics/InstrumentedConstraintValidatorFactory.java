@@ -0,0 +1,94 @@
+package io.github.validationkit.starter.metrics;
+
+import io.github.validationkit.starter.warmup.ValidationWarmup;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintValidatorFactory;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorates a {@link ConstraintValidatorFactory} so that validation-kit
+ * validators are timed with {@link ValidationMetrics}. Validators of other
+ * libraries are returned as they are.
+ * <p>
+ * The timers are resolved once in {@code initialize}, so a call only adds two
+ * {@link System#nanoTime()} reads and a {@link Timer#record} to the validator.
+ * Calls made by {@link ValidationWarmup} are not recorded.
+ */
+public class InstrumentedConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+    private static final String VALIDATION_KIT_PACKAGE = "io.github.validationkit.";
+
+    private final ConstraintValidatorFactory delegate;
+    private final ValidationMetrics metrics;
+
+    public InstrumentedConstraintValidatorFactory(ConstraintValidatorFactory delegate, ValidationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+        T instance = delegate.getInstance(key);
+        if (instance == null || !key.getName().startsWith(VALIDATION_KIT_PACKAGE)) {
+            return instance;
+        }
+        // Bean Validation only resolves the validated type from the key, so
+        // the wrapper does not need to be a subclass of it.
+        return (T) new TimedConstraintValidator(instance, metrics);
+    }
+
+    @Override
+    public void releaseInstance(ConstraintValidator<?, ?> instance) {
+        if (instance instanceof TimedConstraintValidator) {
+            delegate.releaseInstance(((TimedConstraintValidator<?, ?>) instance).delegate);
+        } else {
+            delegate.releaseInstance(instance);
+        }
+    }
+
+    static final class TimedConstraintValidator<A extends Annotation, T> implements ConstraintValidator<A, T> {
+
+        private final ConstraintValidator<A, T> delegate;
+        private final ValidationMetrics metrics;
+        private Timer valid;
+        private Timer invalid;
+        private Timer error;
+
+        TimedConstraintValidator(ConstraintValidator<A, T> delegate, ValidationMetrics metrics) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void initialize(A constraintAnnotation) {
+            delegate.initialize(constraintAnnotation);
+
+            String constraint = constraintAnnotation.annotationType().getSimpleName();
+            this.valid = metrics.constraintTimer(constraint, "valid");
+            this.invalid = metrics.constraintTimer(constraint, "invalid");
+            this.error = metrics.constraintTimer(constraint, "error");
+        }
+
+        @Override
+        public boolean isValid(T value, ConstraintValidatorContext context) {
+            if (valid == null || ValidationWarmup.isWarmingUp()) {
+                return delegate.isValid(value, context); // No registry, or not traffic
+            }
+            long start = System.nanoTime();
+            boolean result;
+            try {
+                result = delegate.isValid(value, context);
+            } catch (RuntimeException e) {
+                error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+            (result ? valid : invalid).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        }
+    }
+}
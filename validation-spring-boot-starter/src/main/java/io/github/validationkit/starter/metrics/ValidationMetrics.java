@@ -0,0 +1,76 @@
+package io.github.validationkit.starter.metrics;
+
+import io.github.validationkit.starter.exception.ValidationErrorListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Micrometer meters for validation-kit.
+ * <ul>
+ * <li>{@value #CONSTRAINT_TIMER}: time spent in each validation-kit
+ * constraint validator, tagged by {@code constraint} and {@code outcome}
+ * ({@code valid}, {@code invalid} or {@code error}).</li>
+ * <li>{@value #ERROR_COUNTER}: errors reported in error responses, tagged by
+ * {@code constraint} and {@code dto}.</li>
+ * </ul>
+ * A constraint validator instance is shared by every bean declaring the same
+ * constraint, so the DTO is only known once a violation is reported; that is
+ * why the DTO tag lives on the error counter and not on the timer.
+ * <p>
+ * The {@link MeterRegistry} is looked up on first use, so creating the
+ * validator does not force the registry to be initialized early. Without a
+ * registry nothing is recorded.
+ */
+public class ValidationMetrics implements ValidationErrorListener {
+
+    public static final String CONSTRAINT_TIMER = "validationkit.constraint";
+    public static final String ERROR_COUNTER = "validationkit.errors";
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    private volatile MeterRegistry registry;
+
+    public ValidationMetrics(ObjectProvider<MeterRegistry> registryProvider) {
+        this.registryProvider = registryProvider;
+    }
+
+    /**
+     * The timer for one constraint and outcome, or {@code null} if no
+     * registry is available.
+     */
+    Timer constraintTimer(String constraint, String outcome) {
+        MeterRegistry meterRegistry = registry();
+        if (meterRegistry == null) {
+            return null;
+        }
+        return Timer.builder(CONSTRAINT_TIMER)
+                .description("Time spent evaluating validation-kit constraints")
+                .tag("constraint", constraint)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onError(String code, Class<?> beanType) {
+        MeterRegistry meterRegistry = registry();
+        if (meterRegistry == null) {
+            return;
+        }
+        Counter.builder(ERROR_COUNTER)
+                .description("Validation errors reported in error responses")
+                .tag("constraint", code != null ? code : "unknown")
+                .tag("dto", beanType != null ? beanType.getSimpleName() : "unknown")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            meterRegistry = registryProvider.getIfAvailable();
+            registry = meterRegistry;
+        }
+        return meterRegistry;
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.validationkit.starter.passwords;
+
+import io.github.validationkit.util.BloomFilter;
+import io.github.validationkit.util.BreachedPasswords;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Installs the breached-password filter with {@link BreachedPasswords} for
+ * the lifetime of the application context.
+ * <p>
+ * On shutdown the filter is only uninstalled if it is still the installed
+ * one, so a context started since keeps its own. The filter bean itself is
+ * closed after this one is destroyed.
+ */
+public class BreachedPasswordFilterRegistrar implements InitializingBean, DisposableBean {
+
+    private final BloomFilter filter;
+
+    public BreachedPasswordFilterRegistrar(BloomFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        BreachedPasswords.install(filter);
+    }
+
+    @Override
+    public void destroy() {
+        BreachedPasswords.uninstall(filter);
+    }
+}
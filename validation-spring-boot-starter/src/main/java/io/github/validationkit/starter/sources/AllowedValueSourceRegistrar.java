@@ -0,0 +1,88 @@
+package io.github.validationkit.starter.sources;
+
+import io.github.validationkit.util.AllowedValueSource;
+import io.github.validationkit.util.AllowedValueSources;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registers every {@link AllowedValueSource} bean with
+ * {@link AllowedValueSources} under its bean name, loads it during startup,
+ * and reloads all sources periodically.
+ * <p>
+ * A source that cannot be loaded at startup is logged and loaded again by
+ * the first validator using it.
+ * <p>
+ * The schedule only triggers the reloads; loading and compiling happen on
+ * the {@code AllowedValueSources} reload thread, so request threads never
+ * wait for them. A failed reload is logged and the previous values stay in
+ * use.
+ */
+public class AllowedValueSourceRegistrar implements SmartInitializingSingleton, DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(AllowedValueSourceRegistrar.class);
+
+    private final ListableBeanFactory beanFactory;
+    private final Duration reloadInterval;
+    private final Map<String, AllowedValueSource> registered = new LinkedHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public AllowedValueSourceRegistrar(ListableBeanFactory beanFactory, Duration reloadInterval) {
+        this.beanFactory = beanFactory;
+        this.reloadInterval = reloadInterval;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Map.Entry<String, AllowedValueSource> source : beanFactory.getBeansOfType(AllowedValueSource.class)
+                .entrySet()) {
+            AllowedValueSources.register(source.getKey(), source.getValue());
+            registered.put(source.getKey(), source.getValue());
+        }
+        // On the startup thread, so the first request does not load them
+        for (String name : registered.keySet()) {
+            try {
+                AllowedValueSources.preload(name);
+            } catch (RuntimeException e) {
+                logger.warn("Could not load allowed-value source '" + name + "' at startup", e);
+            }
+        }
+        if (reloadInterval != null && !reloadInterval.isZero() && !reloadInterval.isNegative()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "validationkit-allowed-values-schedule");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long millis = reloadInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::reload, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void reload() {
+        AllowedValueSources.reloadAll().whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                logger.warn("Could not reload allowed values, keeping the previous ones", failure);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        // Another context may have registered a source of the same name since
+        registered.forEach(AllowedValueSources::unregister);
+        registered.clear();
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.validationkit.starter.streaming;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.validationkit.starter.exception.FieldSizeLimitExceededException;
+import io.github.validationkit.starter.exception.JsonArrayValidationException;
+import io.github.validationkit.starter.exception.ValidationErrorRenderer;
+import io.github.validationkit.starter.exception.ValidationErrorResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Validates a JSON array request body element by element, without binding the
+ * whole array to a {@code List} first.
+ * <p>
+ * Elements are read one at a time with Jackson's streaming parser, validated,
+ * and handed to the consumer if they are valid. Only the rendered errors are
+ * kept, so memory use does not grow with the size of the payload. If any
+ * element was invalid a {@link JsonArrayValidationException} is thrown at the
+ * end, which the global exception handler renders like any other validation
+ * failure, with fields prefixed by the element index (e.g. {@code [3].role}).
+ *
+ * <pre>{@code
+ * @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+ * public void importUsers(HttpServletRequest request) throws IOException {
+ *     jsonArrayValidator.validate(request.getInputStream(), UserRequest.class, 100, repository::save);
+ * }
+ * }</pre>
+ *
+ * Valid elements are consumed as they arrive, before later elements have been
+ * read, so the consumer should be transactional or buffer if the whole array
+ * must be rejected on any failure. The body is not closed, and content after
+ * the array is rejected.
+ */
+public class JsonArrayValidator {
+
+    /**
+     * Passed as {@code maxFailures} to read the whole array.
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ValidationErrorRenderer renderer;
+
+    public JsonArrayValidator(ObjectMapper objectMapper, Validator validator, ValidationErrorRenderer renderer) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Validates the elements of the array, stopping to read once
+     * {@code validation.errors.max-errors} elements were invalid.
+     *
+     * @return the number of valid elements passed to the consumer
+     */
+    public <T> int validate(InputStream body, Class<T> elementType, Consumer<? super T> consumer,
+            Class<?>... groups) throws IOException {
+        return validate(body, elementType, renderer.getMaxErrors(), consumer, groups);
+    }
+
+    /**
+     * Validates the elements of the array, stopping to read once
+     * {@code maxFailures} elements were invalid or the response holds
+     * {@code validation.errors.max-errors} errors.
+     *
+     * @return the number of valid elements passed to the consumer
+     * @throws JsonArrayValidationException if any element was invalid
+     * @throws HttpMessageNotReadableException if the body is not a JSON array
+     *         of non-null {@code elementType} elements
+     */
+    public <T> int validate(InputStream body, Class<T> elementType, int maxFailures, Consumer<? super T> consumer,
+            Class<?>... groups) throws IOException {
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("maxFailures must be positive: " + maxFailures);
+        }
+        ObjectReader reader = objectMapper.readerFor(elementType);
+        ValidationErrorResponse response = null;
+        int index = 0;
+        int valid = 0;
+        int invalid = 0;
+
+        // The caller owns the stream
+        try (JsonParser parser = objectMapper.createParser(body).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new HttpMessageNotReadableException("JSON parse error: expected an array",
+                        new RequestBody(body));
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                T element = reader.readValue(parser);
+                if (element == null) {
+                    throw new HttpMessageNotReadableException("JSON parse error: array element " + index + " is null",
+                            new RequestBody(body));
+                }
+                Set<ConstraintViolation<T>> violations = validator.validate(element, groups);
+                if (violations.isEmpty()) {
+                    consumer.accept(element);
+                    valid++;
+                } else {
+                    if (response == null) {
+                        response = new ValidationErrorResponse(HttpStatus.BAD_REQUEST.value(), "Validation failed");
+                    }
+                    for (ConstraintViolation<T> violation : violations) {
+                        if (renderer.isFull(response)) {
+                            break;
+                        }
+                        renderer.addElementError(response, index, violation);
+                    }
+                    // Stop reading once nothing more could be reported
+                    if (++invalid >= maxFailures || renderer.isFull(response)) {
+                        throw new JsonArrayValidationException(response, invalid, true);
+                    }
+                }
+                index++;
+            }
+            if (parser.nextToken() != null) {
+                throw new HttpMessageNotReadableException("JSON parse error: unexpected content after the array",
+                        new RequestBody(body));
+            }
+        } catch (FieldSizeLimitExceededException e) {
+            // The element was not read to its end, so reading stops here
+            if (response == null) {
+                response = new ValidationErrorResponse(HttpStatus.BAD_REQUEST.value(), "Validation failed");
+            }
+            if (!renderer.isFull(response)) {
+                renderer.addElementError(response, index, e);
+            }
+            throw new JsonArrayValidationException(response, invalid + 1, true);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e,
+                    new RequestBody(body));
+        }
+
+        if (response != null) {
+            throw new JsonArrayValidationException(response, invalid, false);
+        }
+        return valid;
+    }
+
+    /**
+     * The request body, as reported by {@link HttpMessageNotReadableException}.
+     */
+    private static final class RequestBody implements HttpInputMessage {
+
+        private final InputStream body;
+
+        RequestBody(InputStream body) {
+            this.body = body;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return HttpHeaders.EMPTY;
+        }
+    }
+}
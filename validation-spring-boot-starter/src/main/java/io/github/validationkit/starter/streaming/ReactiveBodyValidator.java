@@ -0,0 +1,147 @@
+package io.github.validationkit.starter.streaming;
+
+import io.github.validationkit.async.AsyncValidator;
+import io.github.validationkit.starter.exception.FieldSizeLimitExceededException;
+import io.github.validationkit.starter.exception.JsonArrayValidationException;
+import io.github.validationkit.starter.exception.ValidationErrorRenderer;
+import io.github.validationkit.starter.exception.ValidationErrorResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * Validates WebFlux request bodies without blocking the event loop.
+ * <p>
+ * Synchronous constraints are checked on the thread that emits the body, and
+ * the checks of any {@code AsyncConstraintValidator} run on the
+ * {@link AsyncValidator}'s executor, with the body resuming once they have
+ * completed. Spring's own {@code @Valid} support waits for those checks
+ * instead, so bodies with async constraints should be validated here.
+ * <p>
+ * A {@code Flux} body is validated element by element as it is decoded, like
+ * {@link JsonArrayValidator} does for servlet requests: valid elements are
+ * emitted straight away and only the rendered errors are kept.
+ *
+ * <pre>{@code
+ * @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+ * public Mono<Long> importUsers(@RequestBody Flux<UserRequest> users) {
+ *     return reactiveBodyValidator.validate(users, 100).concatMap(repository::save).count();
+ * }
+ * }</pre>
+ */
+public class ReactiveBodyValidator {
+
+    /**
+     * Passed as {@code maxFailures} to read the whole body.
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final AsyncValidator validator;
+    private final ValidationErrorRenderer renderer;
+
+    public ReactiveBodyValidator(AsyncValidator validator, ValidationErrorRenderer renderer) {
+        this.validator = validator;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Validates the body once it has been decoded.
+     *
+     * @return the body, or a {@link ConstraintViolationException} if it is
+     *         invalid
+     */
+    public <T> Mono<T> validate(Mono<T> body, Class<?>... groups) {
+        return body.flatMap(bean -> Mono.fromFuture(validator.validateAsync(bean, groups))
+                .flatMap(violations -> violations.isEmpty()
+                        ? Mono.just(bean)
+                        : Mono.error(new ConstraintViolationException(violations))));
+    }
+
+    /**
+     * Validates every element of the body.
+     */
+    public <T> Flux<T> validate(Flux<T> elements, Class<?>... groups) {
+        return validate(elements, UNLIMITED, groups);
+    }
+
+    /**
+     * Validates the elements of the body in order, cancelling it once
+     * {@code maxFailures} elements were invalid or the response holds
+     * {@code validation.errors.max-errors} errors.
+     *
+     * @return the valid elements, then a {@link JsonArrayValidationException}
+     *         if any element was invalid
+     */
+    public <T> Flux<T> validate(Flux<T> elements, int maxFailures, Class<?>... groups) {
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("maxFailures must be positive: " + maxFailures);
+        }
+        return Flux.defer(() -> {
+            Progress progress = new Progress();
+            // concatMap validates one element at a time, so progress needs no
+            // synchronization
+            return elements
+                    .concatMap(element -> {
+                        int index = progress.index++;
+                        return Mono.fromFuture(validator.validateAsync(element, groups))
+                                .flatMap(violations -> violations.isEmpty()
+                                        ? Mono.just(element)
+                                        : progress.reject(index, violations, maxFailures));
+                    })
+                    .onErrorResume(error -> progress.abort(error))
+                    .concatWith(Mono.defer(() -> progress.response == null
+                            ? Mono.empty()
+                            : Mono.error(new JsonArrayValidationException(progress.response, progress.invalid,
+                                    false))));
+        });
+    }
+
+    /**
+     * What one subscription to a {@code Flux} body has seen so far.
+     */
+    private final class Progress {
+
+        private int index;
+        private int invalid;
+        private ValidationErrorResponse response;
+
+        <T> Mono<T> reject(int index, Set<ConstraintViolation<T>> violations, int maxFailures) {
+            if (response == null) {
+                response = new ValidationErrorResponse(HttpStatus.BAD_REQUEST.value(), "Validation failed");
+            }
+            for (ConstraintViolation<T> violation : violations) {
+                if (renderer.isFull(response)) {
+                    break;
+                }
+                renderer.addElementError(response, index, violation);
+            }
+            // Stop reading once nothing more could be reported
+            if (++invalid >= maxFailures || renderer.isFull(response)) {
+                return Mono.error(new JsonArrayValidationException(response, invalid, true));
+            }
+            return Mono.empty();
+        }
+
+        /**
+         * Reports an element rejected for its size while it was decoded along
+         * with the ones rejected before it; the body cannot be read further.
+         */
+        <T> Mono<T> abort(Throwable error) {
+            FieldSizeLimitExceededException sizeLimit = FieldSizeLimitExceededException.find(error);
+            if (sizeLimit == null) {
+                return Mono.error(error);
+            }
+            if (response == null) {
+                response = new ValidationErrorResponse(HttpStatus.BAD_REQUEST.value(), "Validation failed");
+            }
+            if (!renderer.isFull(response)) {
+                renderer.addElementError(response, index, sizeLimit);
+            }
+            return Mono.error(new JsonArrayValidationException(response, ++invalid, true));
+        }
+    }
+}
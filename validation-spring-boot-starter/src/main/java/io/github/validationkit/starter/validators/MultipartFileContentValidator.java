@@ -0,0 +1,46 @@
+package io.github.validationkit.starter.validators;
+
+import io.github.validationkit.constraints.FileContent;
+import io.github.validationkit.util.FileSignatures;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Validator for {@link FileContent} on an uploaded {@link MultipartFile}.
+ * <p>
+ * Opens a fresh stream on the upload and reads only its first
+ * {@value io.github.validationkit.util.FileSignatures#PEEK_SIZE} bytes, so
+ * neither the upload nor a large part of it is buffered in memory. Registered
+ * with Hibernate Validator by the auto-configuration, since validation-core
+ * does not depend on Spring. Empty uploads are valid, like {@code null}.
+ */
+public class MultipartFileContentValidator implements ConstraintValidator<FileContent, MultipartFile> {
+
+    private FileContent.Type[] types;
+
+    @Override
+    public void initialize(FileContent constraintAnnotation) {
+        this.types = constraintAnnotation.value();
+    }
+
+    @Override
+    public boolean isValid(MultipartFile value, ConstraintValidatorContext context) {
+        if (value == null || value.isEmpty()) {
+            return true;
+        }
+
+        byte[] header = new byte[FileSignatures.PEEK_SIZE];
+        int length;
+        try (InputStream in = value.getInputStream()) {
+            length = FileSignatures.read(in, header);
+        } catch (IOException e) {
+            return false;
+        }
+
+        return FileSignatures.matches(types, header, length);
+    }
+}
@@ -0,0 +1,308 @@
+package io.github.validationkit.starter.warmup;
+
+import io.github.validationkit.starter.aot.ConstraintIndex;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.MethodDescriptor;
+import jakarta.validation.metadata.ParameterDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Warms up validation before the application reports readiness, so the first
+ * requests after a deploy do not pay for it.
+ * <p>
+ * Collects the types to validate from the {@code @Valid} parameters of the
+ * request handlers, the controllers themselves (for method validation) and
+ * the {@link ConstraintIndex}, following {@code @Valid} cascades. For each it
+ * builds the Bean Validation metadata, then validates a valid and an invalid
+ * synthetic sample for every validation-kit constraint a number of times,
+ * which initializes the validators and gives the JIT hot code to compile.
+ * A sample that cannot be validated is skipped; warm-up never fails startup.
+ * <p>
+ * Samples are not recorded in the {@code validationkit.constraint} timers
+ * (see {@link #isWarmingUp()}). Method validation is only warmed up for
+ * singleton controllers, so no prototype or request-scoped controller is
+ * created for it.
+ */
+public class ValidationWarmup implements ApplicationRunner {
+
+    private static final Log logger = LogFactory.getLog(ValidationWarmup.class);
+
+    private static final String CONSTRAINT_PACKAGE = "io.github.validationkit.";
+
+    private static final ThreadLocal<Boolean> WARMING_UP = new ThreadLocal<>();
+
+    private final Validator validator;
+    private final ConstraintIndex constraintIndex;
+    private final Supplier<? extends Collection<HandlerMethod>> handlerMethods;
+    private final BeanFactory beanFactory;
+    private final ClassLoader classLoader;
+    private final int iterations;
+
+    public ValidationWarmup(Validator validator, ConstraintIndex constraintIndex,
+            Supplier<? extends Collection<HandlerMethod>> handlerMethods, BeanFactory beanFactory,
+            ClassLoader classLoader, int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("iterations must be at least 1: " + iterations);
+        }
+        this.validator = validator;
+        this.constraintIndex = constraintIndex;
+        this.handlerMethods = handlerMethods;
+        this.beanFactory = beanFactory;
+        this.classLoader = classLoader;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        Set<Class<?>> types = warmUp();
+        if (logger.isInfoEnabled()) {
+            logger.info(String.format("Validation warm-up of %d types took %d ms", types.size(),
+                    (System.nanoTime() - start) / 1_000_000));
+        }
+    }
+
+    /**
+     * Whether the current thread is running warm-up samples, which are not
+     * traffic and so are not recorded by the metrics.
+     */
+    public static boolean isWarmingUp() {
+        return WARMING_UP.get() != null;
+    }
+
+    /**
+     * Runs the warm-up and returns the types whose metadata was built.
+     */
+    public Set<Class<?>> warmUp() {
+        WARMING_UP.set(Boolean.TRUE);
+        try {
+            return collectAndRun();
+        } finally {
+            WARMING_UP.remove();
+        }
+    }
+
+    private Set<Class<?>> collectAndRun() {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        List<Runnable> samples = new ArrayList<>();
+
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        for (HandlerMethod handlerMethod : handlerMethods.get()) {
+            for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+                if (isValidated(parameter)) {
+                    add(pending, validatedType(parameter));
+                }
+            }
+            Class<?> controller = handlerMethod.getBeanType();
+            if (types.add(controller) && describe(controller) == null) {
+                types.remove(controller);
+            }
+            addParameterSamples(handlerMethod, samples);
+        }
+        pending.addAll(constraintIndex.getTypes(classLoader));
+
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.poll();
+            if (!types.add(type)) {
+                continue;
+            }
+            BeanDescriptor bean = describe(type);
+            if (bean == null) {
+                types.remove(type);
+                continue;
+            }
+            for (PropertyDescriptor property : bean.getConstrainedProperties()) {
+                addPropertySamples(type, property, samples);
+                if (property.isCascaded()) {
+                    add(pending, property.getElementClass());
+                }
+                for (ContainerElementTypeDescriptor element : property.getConstrainedContainerElementTypes()) {
+                    if (element.isCascaded()) {
+                        add(pending, element.getElementClass());
+                    }
+                }
+            }
+        }
+
+        // Drop samples that fail, then repeat the rest for the JIT
+        samples.removeIf(sample -> !runSafely(sample));
+        for (int i = 1; i < iterations; i++) {
+            for (Runnable sample : samples) {
+                sample.run();
+            }
+        }
+        return types;
+    }
+
+    private BeanDescriptor describe(Class<?> type) {
+        try {
+            return validator.getConstraintsForClass(type);
+        } catch (RuntimeException e) {
+            logger.debug("Skipping validation warm-up of " + type.getName(), e);
+            return null;
+        }
+    }
+
+    private void addPropertySamples(Class<?> type, PropertyDescriptor property, List<Runnable> samples) {
+        String name = property.getPropertyName();
+        for (ConstraintDescriptor<?> constraint : property.getConstraintDescriptors()) {
+            for (String sample : samples(constraint)) {
+                Object value = WarmupSamples.adapt(sample, property.getElementClass());
+                addValueSample(type, name, value, constraint, samples);
+            }
+        }
+        for (ContainerElementTypeDescriptor element : property.getConstrainedContainerElementTypes()) {
+            for (ConstraintDescriptor<?> constraint : element.getConstraintDescriptors()) {
+                for (String sample : samples(constraint)) {
+                    Object value = WarmupSamples.wrap(WarmupSamples.adapt(sample, element.getElementClass()),
+                            element.getContainerClass());
+                    addValueSample(type, name, value, constraint, samples);
+                }
+            }
+        }
+    }
+
+    private void addValueSample(Class<?> type, String property, Object value, ConstraintDescriptor<?> constraint,
+            List<Runnable> samples) {
+        if (value != null) {
+            Class<?>[] groups = constraint.getGroups().toArray(new Class<?>[0]);
+            samples.add(() -> validator.validateValue(type, property, value, groups));
+        }
+    }
+
+    private void addParameterSamples(HandlerMethod handlerMethod, List<Runnable> samples) {
+        Method method = handlerMethod.getMethod();
+        BeanDescriptor controller = describe(handlerMethod.getBeanType());
+        MethodDescriptor descriptor = controller != null
+                ? controller.getConstraintsForMethod(method.getName(), method.getParameterTypes())
+                : null;
+        if (descriptor == null) {
+            return;
+        }
+        Object target = null;
+        for (ParameterDescriptor parameter : descriptor.getParameterDescriptors()) {
+            for (ConstraintDescriptor<?> constraint : parameter.getConstraintDescriptors()) {
+                for (String sample : samples(constraint)) {
+                    Object value = WarmupSamples.adapt(sample, method.getParameterTypes()[parameter.getIndex()]);
+                    if (value == null) {
+                        continue;
+                    }
+                    if (target == null) {
+                        target = resolveTarget(handlerMethod);
+                        if (target == null) {
+                            return;
+                        }
+                    }
+                    Object[] arguments = new Object[method.getParameterCount()];
+                    arguments[parameter.getIndex()] = value;
+                    Object bean = target;
+                    Class<?>[] groups = constraint.getGroups().toArray(new Class<?>[0]);
+                    ExecutableValidator executables = validator.forExecutables();
+                    samples.add(() -> executables.validateParameters(bean, method, arguments, groups));
+                }
+            }
+        }
+    }
+
+    // The validated instance, not the proxy Spring's method validation wraps
+    // around it. Only singletons are resolved: resolving any other scope
+    // would create an instance just for the warm-up.
+    private Object resolveTarget(HandlerMethod handlerMethod) {
+        try {
+            Object bean = handlerMethod.getBean();
+            if (bean instanceof String) {
+                String beanName = (String) bean;
+                if (!beanFactory.isSingleton(beanName)) {
+                    logger.debug("Skipping method validation warm-up of " + handlerMethod + ", not a singleton");
+                    return null;
+                }
+                bean = beanFactory.getBean(beanName);
+            }
+            Object target = AopProxyUtils.getSingletonTarget(bean);
+            return target != null ? target : bean;
+        } catch (RuntimeException e) {
+            logger.debug("Skipping method validation warm-up of " + handlerMethod, e);
+            return null;
+        }
+    }
+
+    private static List<String> samples(ConstraintDescriptor<?> constraint) {
+        if (!constraint.getAnnotation().annotationType().getName().startsWith(CONSTRAINT_PACKAGE)) {
+            return List.of();
+        }
+        return WarmupSamples.of(constraint);
+    }
+
+    private static boolean runSafely(Runnable sample) {
+        try {
+            sample.run();
+            return true;
+        } catch (RuntimeException e) {
+            logger.debug("Skipping validation warm-up sample", e);
+            return false;
+        }
+    }
+
+    private static boolean isValidated(MethodParameter parameter) {
+        for (Annotation annotation : parameter.getParameterAnnotations()) {
+            if (ValidationAnnotationUtils.determineValidationHints(annotation) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The element type of collection and array bodies
+    private static Class<?> validatedType(MethodParameter parameter) {
+        ResolvableType type = ResolvableType.forMethodParameter(parameter);
+        if (type.isArray()) {
+            type = type.getComponentType();
+        } else if (Collection.class.isAssignableFrom(type.toClass())) {
+            type = type.asCollection().getGeneric();
+        } else if (Map.class.isAssignableFrom(type.toClass())) {
+            type = type.asMap().getGeneric(1);
+        } else if (type.toClass() == Optional.class) {
+            type = type.getGeneric();
+        }
+        return type.resolve();
+    }
+
+    private static void add(Deque<Class<?>> pending, Class<?> type) {
+        while (type != null && type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type != null && !type.isPrimitive() && !BeanUtils.isSimpleValueType(type)
+                && !Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type)
+                && !type.getName().startsWith("java.")) {
+            pending.add(type);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.validationkit.starter.warmup;
+
+import io.github.validationkit.constraints.AllowedValues;
+import io.github.validationkit.constraints.Base64;
+import io.github.validationkit.constraints.FileContent;
+import io.github.validationkit.constraints.FileExtension;
+import io.github.validationkit.constraints.StrongPassword;
+import io.github.validationkit.util.FileSignatures;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Synthetic values for the validation-kit constraints: one that should pass
+ * and one that should fail, so both paths of a validator get exercised.
+ */
+final class WarmupSamples {
+
+    private static final String INVALID = "\u0000warm-up\u0000";
+
+    private WarmupSamples() {
+    }
+
+    /**
+     * Sample strings for a validation-kit constraint, empty for any other
+     * constraint.
+     */
+    static List<String> of(ConstraintDescriptor<?> descriptor) {
+        Class<?> type = descriptor.getAnnotation().annotationType();
+        Map<String, Object> attributes = descriptor.getAttributes();
+        List<String> samples = new ArrayList<>(2);
+        if (type == AllowedValues.class) {
+            String[] values = (String[]) attributes.get("value");
+            if (values.length > 0) {
+                samples.add(values[0]);
+            }
+            samples.add(INVALID);
+        } else if (type == FileExtension.class) {
+            String[] values = (String[]) attributes.get("value");
+            if (values.length > 0) {
+                samples.add(values[0].startsWith(".") ? "warm-up" + values[0] : "warm-up." + values[0]);
+            }
+            samples.add("warm-up.\u0000");
+        } else if (type == Base64.class) {
+            samples.add("d2FybS11cA==");
+            samples.add("!warm-up!");
+        } else if (type == FileContent.class) {
+            FileContent.Type[] types = (FileContent.Type[]) attributes.get("value");
+            if (types.length > 0) {
+                // Byte for byte once adapted to byte[]
+                samples.add(new String(FileSignatures.example(types[0]), StandardCharsets.ISO_8859_1));
+            }
+            samples.add("warm-up");
+        } else if (type == StrongPassword.class) {
+            String password = password(attributes);
+            if (password != null) {
+                samples.add(password);
+            }
+            samples.add("");
+        }
+        return samples;
+    }
+
+    private static String password(Map<String, Object> attributes) {
+        StringBuilder password = new StringBuilder();
+        if ((Boolean) attributes.get("hasUppercase")) {
+            password.append('A');
+        }
+        if ((Boolean) attributes.get("hasDigit")) {
+            password.append('1');
+        }
+        String specialChars = (String) attributes.get("allowedSpecialChars");
+        if ((Boolean) attributes.get("hasSpecialChar") && !specialChars.isEmpty()) {
+            password.append(specialChars.charAt(0));
+        }
+        int min = (Integer) attributes.get("min");
+        do {
+            password.append('a');
+        } while (password.length() < min);
+        return password.length() <= (Integer) attributes.get("max") ? password.toString() : null;
+    }
+
+    /**
+     * Converts a sample to the type the constraint is declared on, or returns
+     * {@code null} if there is no sensible conversion.
+     */
+    static Object adapt(String sample, Class<?> type) {
+        if (type.isAssignableFrom(String.class)) {
+            return sample;
+        }
+        if (type == byte[].class) {
+            return sample.getBytes(StandardCharsets.ISO_8859_1);
+        }
+        if (type == char[].class) {
+            return sample.toCharArray();
+        }
+        if (type.isArray() && type.getComponentType().isAssignableFrom(String.class)) {
+            Object array = Array.newInstance(type.getComponentType(), 1);
+            Array.set(array, 0, sample);
+            return array;
+        }
+        return wrap(sample, type);
+    }
+
+    /**
+     * Puts a value in a container of the given type, or returns {@code null}
+     * for containers other than collections and {@link Optional}.
+     */
+    static Object wrap(Object value, Class<?> container) {
+        if (value == null) {
+            return null;
+        }
+        if (container.isAssignableFrom(ArrayList.class)) {
+            Collection<Object> list = new ArrayList<>(1);
+            list.add(value);
+            return list;
+        }
+        if (container.isAssignableFrom(LinkedHashSet.class)) {
+            Collection<Object> set = new LinkedHashSet<>(1);
+            set.add(value);
+            return set;
+        }
+        if (container == Optional.class) {
+            return Optional.of(value);
+        }
+        return null;
+    }
+}